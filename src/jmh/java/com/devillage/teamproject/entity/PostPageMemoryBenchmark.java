@@ -0,0 +1,120 @@
+package com.devillage.teamproject.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지를 본문이 post 에 같이 있는 스키마(이전)와 post_content 로 분리한 스키마(현재)에서 읽어 비교한다.
+ * gc 프로파일러의 gc.alloc.rate.norm 이 페이지 하나를 읽는 데 할당한 바이트 수다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostPageMemoryBenchmark {
+    private static final int POST_COUNT = 2000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String INLINE_SQL = "select post_id, title, content from legacy_post "
+            + "order by post_id desc limit " + PAGE_SIZE;
+    private static final String SEPARATE_SQL = "select post_id, title, post_content_id from post "
+            + "order by post_id desc limit " + PAGE_SIZE;
+
+    @Param({"2000", "20000"})
+    private int contentLength;
+
+    private Connection connection;
+    private PreparedStatement inlineStatement;
+    private PreparedStatement separateStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:post-page-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table legacy_post (post_id bigint primary key, title varchar(255), "
+                    + "content clob)");
+            statement.execute("create table post_content (post_content_id bigint primary key, data blob, "
+                    + "compressed boolean)");
+            statement.execute("create table post (post_id bigint primary key, title varchar(255), "
+                    + "post_content_id bigint)");
+        }
+
+        String content = "게시글 본문 content ".repeat(contentLength / 16 + 1).substring(0, contentLength);
+        try (PreparedStatement insertLegacy = connection.prepareStatement("insert into legacy_post values (?, ?, ?)");
+             PreparedStatement insertContent = connection.prepareStatement(
+                     "insert into post_content values (?, ?, ?)");
+             PreparedStatement insertPost = connection.prepareStatement("insert into post values (?, ?, ?)")) {
+            for (long postId = 1; postId <= POST_COUNT; postId++) {
+                String title = "제목 " + postId;
+                insertLegacy.setLong(1, postId);
+                insertLegacy.setString(2, title);
+                insertLegacy.setString(3, content);
+                insertLegacy.addBatch();
+
+                PostContent body = PostContent.of(content);
+                insertContent.setLong(1, postId);
+                insertContent.setBytes(2, body.getData());
+                insertContent.setBoolean(3, body.isCompressed());
+                insertContent.addBatch();
+
+                insertPost.setLong(1, postId);
+                insertPost.setString(2, title);
+                insertPost.setLong(3, postId);
+                insertPost.addBatch();
+            }
+            insertLegacy.executeBatch();
+            insertContent.executeBatch();
+            insertPost.executeBatch();
+        }
+
+        inlineStatement = connection.prepareStatement(INLINE_SQL);
+        separateStatement = connection.prepareStatement(SEPARATE_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Object[]> inlineContentPage() throws SQLException {
+        List<Object[]> rows = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = inlineStatement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(new Object[]{resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3)});
+            }
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public List<Object[]> separateContentPage() throws SQLException {
+        List<Object[]> rows = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = separateStatement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(new Object[]{resultSet.getLong(1), resultSet.getString(2), resultSet.getLong(3)});
+            }
+        }
+        return rows;
+    }
+}
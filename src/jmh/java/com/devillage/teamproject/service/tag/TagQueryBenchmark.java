@@ -0,0 +1,168 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다중 태그 조회를 PostTagIndex 비트맵 연산과 post_tag 조인 SQL(H2 메모리 DB)로 비교한다.
+ * 태그 인기도는 앞쪽 태그일수록 높게 치우치게 만들어 실제 분포와 비슷하게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagQueryBenchmark {
+    private static final int TAG_COUNT = 2000;
+    private static final int PAGE_SIZE = 20;
+    private static final List<String> ALL_OF = List.of("tag0", "tag1", "tag2");
+    private static final List<String> ANY_OF = List.of("tag3", "tag4");
+    private static final List<String> NONE_OF = List.of("tag5");
+
+    private static final String AND_SQL = "select pt.post_id from post_tag pt join tag t on t.tag_id = pt.tag_id "
+            + "where t.name in (?, ?, ?) group by pt.post_id having count(distinct t.name) = 3 "
+            + "order by pt.post_id desc limit " + PAGE_SIZE;
+    private static final String MIXED_SQL = "select p.post_id from post p where p.category_type = ? "
+            + "and p.post_id in (select pt.post_id from post_tag pt join tag t on t.tag_id = pt.tag_id "
+            + "where t.name in (?, ?, ?) group by pt.post_id having count(distinct t.name) = 3) "
+            + "and p.post_id in (select pt.post_id from post_tag pt join tag t on t.tag_id = pt.tag_id "
+            + "where t.name in (?, ?)) "
+            + "and p.post_id not in (select pt.post_id from post_tag pt join tag t on t.tag_id = pt.tag_id "
+            + "where t.name = ?) "
+            + "order by p.post_id desc limit " + PAGE_SIZE;
+
+    @Param({"100000"})
+    private int postCount;
+
+    private PostTagIndex postTagIndex;
+    private Connection connection;
+    private PreparedStatement andStatement;
+    private PreparedStatement mixedStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postTagIndex = new PostTagIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:tag-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table tag (tag_id bigint primary key, name varchar(255) unique)");
+            statement.execute("create table post (post_id bigint primary key, category_type varchar(20))");
+            statement.execute("create table post_tag (post_tag_id bigint auto_increment primary key, "
+                    + "post_id bigint, tag_id bigint)");
+            statement.execute("create index idx_post_tag_post_id on post_tag (post_id)");
+            statement.execute("create index idx_post_tag_tag_id on post_tag (tag_id)");
+        }
+
+        try (PreparedStatement insertTag = connection.prepareStatement("insert into tag values (?, ?)")) {
+            for (int i = 0; i < TAG_COUNT; i++) {
+                insertTag.setLong(1, i);
+                insertTag.setString(2, "tag" + i);
+                insertTag.addBatch();
+            }
+            insertTag.executeBatch();
+        }
+
+        Random random = new Random(42);
+        CategoryType[] categoryTypes = {CategoryType.FREE, CategoryType.QNA, CategoryType.STUDY, CategoryType.NOTICE};
+        try (PreparedStatement insertPost = connection.prepareStatement("insert into post values (?, ?)");
+             PreparedStatement insertPostTag = connection.prepareStatement(
+                     "insert into post_tag (post_id, tag_id) values (?, ?)")) {
+            for (long postId = 1; postId <= postCount; postId++) {
+                CategoryType categoryType = categoryTypes[random.nextInt(categoryTypes.length)];
+                Set<Integer> tagIds = new LinkedHashSet<>();
+                int tagsPerPost = 1 + random.nextInt(5);
+                while (tagIds.size() < tagsPerPost) {
+                    // 세제곱 분포로 앞쪽 태그에 몰리게 한다.
+                    double skewed = random.nextDouble();
+                    tagIds.add((int) (skewed * skewed * skewed * TAG_COUNT));
+                }
+
+                insertPost.setLong(1, postId);
+                insertPost.setString(2, categoryType.name());
+                insertPost.addBatch();
+                List<String> tagNames = new ArrayList<>();
+                for (int tagId : tagIds) {
+                    insertPostTag.setLong(1, postId);
+                    insertPostTag.setLong(2, tagId);
+                    insertPostTag.addBatch();
+                    tagNames.add("tag" + tagId);
+                }
+                postTagIndex.index(postId, categoryType, tagNames);
+            }
+            insertPost.executeBatch();
+            insertPostTag.executeBatch();
+        }
+
+        andStatement = connection.prepareStatement(AND_SQL);
+        mixedStatement = connection.prepareStatement(MIXED_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> bitmapAnd() {
+        return postTagIndex.search(ALL_OF, List.of(), List.of(), CategoryType.ALL, null, PAGE_SIZE).getContent();
+    }
+
+    @Benchmark
+    public List<Long> sqlAnd() throws SQLException {
+        for (int i = 0; i < ALL_OF.size(); i++) {
+            andStatement.setString(i + 1, ALL_OF.get(i));
+        }
+        return read(andStatement);
+    }
+
+    @Benchmark
+    public List<Long> bitmapMixed() {
+        return postTagIndex.search(ALL_OF, ANY_OF, NONE_OF, CategoryType.QNA, null, PAGE_SIZE).getContent();
+    }
+
+    @Benchmark
+    public List<Long> sqlMixed() throws SQLException {
+        int index = 1;
+        mixedStatement.setString(index++, CategoryType.QNA.name());
+        for (String tagName : ALL_OF) {
+            mixedStatement.setString(index++, tagName);
+        }
+        for (String tagName : ANY_OF) {
+            mixedStatement.setString(index++, tagName);
+        }
+        mixedStatement.setString(index, NONE_OF.get(0));
+        return read(mixedStatement);
+    }
+
+    private List<Long> read(PreparedStatement statement) throws SQLException {
+        List<Long> postIds = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                postIds.add(resultSet.getLong(1));
+            }
+        }
+        return postIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.devillage.teamproject.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+
+    // TransactionTemplate 빈을 직접 등록하면 자동 설정의 기본 템플릿이 빠지므로 같은 기본값으로 함께 등록한다.
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    // 호출한 쪽 트랜잭션과 따로 커밋·롤백할 쓰기용. 안에서 난 제약 위반이 바깥 트랜잭션을 rollback-only 로 만들지 않는다.
+    // 생성자 파라미터 이름(requiresNewTransactionTemplate)으로 주입받는다.
+    @Bean
+    public TransactionTemplate requiresNewTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
@@ -22,5 +22,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
         registry.enableSimpleBroker("/topic");
+        // 서버에서 발행하는 메시지(댓글 스트림 등)의 구독자 fan-out 을 발행한 스레드가 아닌 브로커 채널 스레드에서 처리한다.
+        registry.configureBrokerChannel().taskExecutor();
     }
 }
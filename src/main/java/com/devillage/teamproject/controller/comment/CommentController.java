@@ -2,12 +2,14 @@ package com.devillage.teamproject.controller.comment;
 
 import com.devillage.teamproject.dto.AuthDto;
 import com.devillage.teamproject.dto.CommentDto;
+import com.devillage.teamproject.dto.CursorResponseDto;
 import com.devillage.teamproject.dto.DoubleResponseDto;
 import com.devillage.teamproject.dto.PostDto;
 import com.devillage.teamproject.security.resolver.AccessToken;
 import com.devillage.teamproject.security.util.JwtConstants;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
 
@@ -38,6 +40,13 @@ public interface CommentController {
                                    @RequestParam("page") Long page,
                                    @RequestParam("size") Long size);
 
+    @GetMapping("/{post-id}/comments/{comment-id}/re-comments")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<CommentDto.ReCommentResponse> getReComments(@PathVariable("post-id") Long postId,
+                                                                  @PathVariable("comment-id") Long commentId,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(defaultValue = "10") int size);
+
     @GetMapping("/{post-id}/comments/{comment-id}/{re-comment-id}")
     @ResponseStatus(HttpStatus.OK)
     CommentDto.ReCommentResponse getReComment(@PathVariable("post-id") Long postId,
@@ -72,9 +81,9 @@ public interface CommentController {
                          @PathVariable("re-comment-id") Long reCommentID);
 
     @GetMapping("/{post-id}/comments")
-    @ResponseStatus(HttpStatus.OK)
     DoubleResponseDto getComments(@PathVariable("post-id") Long postId,
                                   @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
                                   @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
-                                  @AccessToken AuthDto.UserInfo userInfo);
+                                  @AccessToken AuthDto.UserInfo userInfo,
+                                  ServletWebRequest request);
 }
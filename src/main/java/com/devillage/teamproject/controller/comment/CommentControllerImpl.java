@@ -1,16 +1,24 @@
 package com.devillage.teamproject.controller.comment;
 
+import com.devillage.teamproject.controller.post.ConditionalGet;
 import com.devillage.teamproject.dto.AuthDto;
 import com.devillage.teamproject.dto.CommentDto;
+import com.devillage.teamproject.dto.CursorResponseDto;
 import com.devillage.teamproject.dto.DoubleResponseDto;
 import com.devillage.teamproject.dto.PostDto;
 import com.devillage.teamproject.entity.Comment;
 import com.devillage.teamproject.entity.ReComment;
 import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.comment.CommentThread;
+import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.PostVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -18,6 +26,7 @@ import java.util.stream.Collectors;
 public class CommentControllerImpl implements CommentController {
 
     private final CommentService commentService;
+    private final PostService postService;
 
     @Override
     public CommentDto.Response postComment(CommentDto.Post request, Long postId, String token) {
@@ -46,6 +55,19 @@ public class CommentControllerImpl implements CommentController {
         return null;
     }
 
+    @Override
+    public CursorResponseDto<CommentDto.ReCommentResponse> getReComments(Long postId, Long commentId,
+                                                                         Long after, int size) {
+        Slice<ReComment> reComments = commentService.findReComments(postId, commentId, after, size);
+        return CursorResponseDto.of(
+                reComments.stream()
+                        .map(CommentDto.ReCommentResponse::of)
+                        .collect(Collectors.toList()),
+                reComments,
+                ReComment::getId
+        );
+    }
+
     @Override
     public CommentDto.ReCommentResponse getReComment(Long postId, Long commentId, Long reCommentId, Long page, Long size) {
         return null;
@@ -74,10 +96,21 @@ public class CommentControllerImpl implements CommentController {
     }
 
     @Override
-    public DoubleResponseDto getComments(Long postId, Integer page, Integer size, AuthDto.UserInfo userInfo) {
-        Page<Comment> commentPage = commentService.findComments(postId, page - 1, size);
+    public DoubleResponseDto getComments(Long postId, Integer page, Integer size, AuthDto.UserInfo userInfo,
+                                         ServletWebRequest request) {
+        // 댓글 목록은 버전에 포함된 쓰기로만 바뀌므로 강한 ETag 를 쓴다.
+        PostVersion version = postService.getVersion(postId);
+        String variant = "comments:" + page + ":" + size + ":" + ConditionalGet.viewerOf(userInfo);
+        if (ConditionalGet.isNotModified(request, version.strongEtag(variant), version.getLastModifiedMillis())) {
+            return null;
+        }
+
+        Page<CommentThread> commentPage = commentService.findComments(postId, page - 1, size);
+        Set<Long> likedCommentIds = userInfo == null ? Set.of() : commentService.findLikedCommentIds(userInfo.getId(),
+                commentPage.stream().map(thread -> thread.getComment().getId()).collect(Collectors.toList()));
         return DoubleResponseDto.of(commentPage.stream().map(
-                comment -> CommentDto.ResponseWithReComment.of(comment, userInfo == null ? (Long) 0L : userInfo.getId())
+                thread -> CommentDto.ResponseWithReComment.of(thread,
+                        likedCommentIds.contains(thread.getComment().getId()))
         ).collect(Collectors.toList()), commentPage);
     }
 }
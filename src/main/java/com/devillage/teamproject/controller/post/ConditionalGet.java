@@ -0,0 +1,35 @@
+package com.devillage.teamproject.controller.post;
+
+import com.devillage.teamproject.dto.AuthDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 게시글 단위 조건부 GET 처리.
+ * 로그인 사용자마다 본문이 다르므로 private 캐시에만 저장하고 매번 재검증하게 한다.
+ */
+public final class ConditionalGet {
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 검증자 헤더를 쓰고, If-None-Match / If-Modified-Since 가 일치하면 304 로 응답을 끝낸다.
+     *
+     * @return true 이면 본문을 만들지 말고 바로 반환해야 한다.
+     */
+    public static boolean isNotModified(ServletWebRequest request, String etag, long lastModifiedMillis) {
+        if (request.getResponse() != null) {
+            // 시큐리티 기본 no-store 대신 재검증 가능한 캐시 정책을 먼저 지정한다.
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    public static String viewerOf(AuthDto.UserInfo userInfo) {
+        return userInfo == null ? "anonymous" : "user:" + userInfo.getId();
+    }
+}
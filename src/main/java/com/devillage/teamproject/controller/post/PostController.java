@@ -4,8 +4,10 @@ import com.devillage.teamproject.dto.*;
 import com.devillage.teamproject.security.resolver.AccessToken;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RequestMapping("/posts")
 public interface PostController {
@@ -15,8 +17,8 @@ public interface PostController {
     PostDto.Response postPost(@AccessToken AuthDto.UserInfo userInfo, @Valid @RequestBody PostDto.Post request);
 
     @GetMapping("/{post-id}")
-    @ResponseStatus(HttpStatus.OK)
-    SingleResponseDto<PostDto.Response.PostDetail> getPost(@AccessToken AuthDto.UserInfo userInfo, @PathVariable("post-id") Long postId);
+    RawJson getPost(@AccessToken AuthDto.UserInfo userInfo, @PathVariable("post-id") Long postId,
+                    ServletWebRequest request);
 
     @PostMapping("/{post-id}/bookmark")
     @ResponseStatus(HttpStatus.OK)
@@ -44,9 +46,15 @@ public interface PostController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByCategory(@RequestParam String category,
-                                                                         @RequestParam int page,
-                                                                         @RequestParam int size);
+    RawJson getPostsByCategory(@RequestParam String category,
+                               @RequestParam int page,
+                               @RequestParam int size);
+
+    @GetMapping("/trending")
+    @ResponseStatus(HttpStatus.OK)
+    SingleResponseDto<List<PostDto.Response.SimplePostDto>> getTrendingPosts(
+            @RequestParam(defaultValue = "ALL") String category,
+            @RequestParam(defaultValue = "10") int size);
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
@@ -60,6 +68,33 @@ public interface PostController {
                                                                     @RequestParam int page,
                                                                     @RequestParam int size);
 
+    @GetMapping(params = "!page")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByCategory(@RequestParam String category,
+                                                                         @RequestParam(required = false) Long after,
+                                                                         @RequestParam int size);
+
+    @GetMapping("/tags")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByTags(@RequestParam(required = false) List<String> all,
+                                                                     @RequestParam(required = false) List<String> any,
+                                                                     @RequestParam(required = false) List<String> none,
+                                                                     @RequestParam(defaultValue = "ALL") String category,
+                                                                     @RequestParam(required = false) Long after,
+                                                                     @RequestParam int size);
+
+    @GetMapping(value = "/search", params = "!page")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<PostDto.Response.SimplePostDto> getPostsBySearch(@RequestParam String q,
+                                                                       @RequestParam(required = false) Long after,
+                                                                       @RequestParam int size);
+
+    @GetMapping(value = "/tag", params = "!page")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByTag(@RequestParam String q,
+                                                                    @RequestParam(required = false) Long after,
+                                                                    @RequestParam int size);
+
     @GetMapping("/bookmark")
     @ResponseStatus(HttpStatus.OK)
     DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByBookmark(
@@ -67,6 +102,13 @@ public interface PostController {
             @RequestParam int page,
             @RequestParam int size);
 
+    @GetMapping(value = "/bookmark", params = "!page")
+    @ResponseStatus(HttpStatus.OK)
+    CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByBookmark(
+            @AccessToken AuthDto.UserInfo userInfo,
+            @RequestParam(required = false) Long after,
+            @RequestParam int size);
+
     @DeleteMapping("/{post-id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     void deletePost(@AccessToken AuthDto.UserInfo userInfo,@PathVariable("post-id") Long id);
@@ -2,16 +2,28 @@ package com.devillage.teamproject.controller.post;
 
 import com.devillage.teamproject.dto.*;
 import com.devillage.teamproject.entity.Bookmark;
-import com.devillage.teamproject.entity.Comment;
 import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.PostSummary;
 import com.devillage.teamproject.entity.ReportedPost;
+import com.devillage.teamproject.repository.post.BookmarkedPost;
 import com.devillage.teamproject.security.resolver.AccessToken;
 import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.comment.CommentThread;
+import com.devillage.teamproject.service.post.PostResponseCache;
 import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.PostVersion;
+import com.devillage.teamproject.service.post.UniqueViewerCounter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -20,6 +32,8 @@ public class PostControllerImpl implements PostController {
 
     private final PostService postService;
     private final CommentService commentService;
+    private final PostResponseCache postResponseCache;
+    private final ObjectMapper objectMapper;
 
     @Override
     public PostDto.Response postPost(@AccessToken AuthDto.UserInfo userInfo, PostDto.Post request) {
@@ -28,11 +42,33 @@ public class PostControllerImpl implements PostController {
     }
 
     @Override
-    public SingleResponseDto<PostDto.Response.PostDetail> getPost(AuthDto.UserInfo userInfo, Long postId) {
+    public RawJson getPost(AuthDto.UserInfo userInfo, Long postId, ServletWebRequest request) {
+        // 조회수·방문자 수는 버전에 포함하지 않으므로 약한 ETag 를 쓰고, 304 응답은 조회로 세지 않는다.
+        PostVersion version = postService.getVersion(postId);
+        if (ConditionalGet.isNotModified(request, version.weakEtag(ConditionalGet.viewerOf(userInfo)),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
+
+        CachedPostDetail detail = postResponseCache.getPostDetail(postId, this::loadPostDetail);
+        postService.countView(postId);
+        PostDto.Response.ViewerCount viewers = postService.recordViewer(postId, detail.getCategoryType(),
+                UniqueViewerCounter.viewerOf(userInfo, request.getRequest()));
+
+        if (userInfo == null) {
+            return detail.render(false, false, viewers, Set.of(), objectMapper);
+        }
+        Long userId = userInfo.getId();
+        return detail.render(postService.isLiked(userId, postId), postService.isBookmarked(userId, postId),
+                viewers, commentService.findLikedCommentIds(userId, detail.getCommentIds()), objectMapper);
+    }
+
+    private CachedPostDetail loadPostDetail(Long postId) {
         Post post = postService.getPost(postId);
-        Page<Comment> commentPage = commentService.findComments(postId, 0, 10);
-        return SingleResponseDto.of(PostDto.Response.PostDetail.of(post, commentPage,
-                userInfo == null ? (Long) 0L : userInfo.getId()));
+        Page<CommentThread> commentPage = commentService.findComments(postId, 0, 10);
+        PostDto.Response.PostDetail detail = PostDto.Response.PostDetail.of(post, commentPage, Set.of(),
+                false, false, null);
+        return CachedPostDetail.of(detail, post.getCategory().getCategoryType(), objectMapper);
     }
 
     @Override
@@ -73,8 +109,28 @@ public class PostControllerImpl implements PostController {
     }
 
     @Override
-    public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByCategory(String category, int page, int size) {
-        Page<Post> posts = postService.getPostsByCategory(category, page, size);
+    public RawJson getPostsByCategory(String category, int page, int size) {
+        return RawJson.of(postResponseCache.getCategoryPage(category, page, size, () -> {
+            Page<PostSummary> posts = postService.getPostsByCategory(category, page, size);
+            return toJson(DoubleResponseDto.of(
+                    posts.stream()
+                            .map(PostDto.Response.SimplePostDto::of)
+                            .collect(Collectors.toList()),
+                    posts
+            ));
+        }));
+    }
+
+    @Override
+    public SingleResponseDto<List<PostDto.Response.SimplePostDto>> getTrendingPosts(String category, int size) {
+        return SingleResponseDto.of(postService.getTrendingPosts(category, size).stream()
+                .map(PostDto.Response.SimplePostDto::of)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsBySearch(String q, int page, int size) {
+        Page<PostSummary> posts = postService.getPostsBySearch(q, page, size);
         return DoubleResponseDto.of(
                 posts.stream()
                         .map(PostDto.Response.SimplePostDto::of)
@@ -84,8 +140,8 @@ public class PostControllerImpl implements PostController {
     }
 
     @Override
-    public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsBySearch(String q, int page, int size) {
-        Page<Post> posts = postService.getPostsBySearch(q, page, size);
+    public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByTag(String q, int page, int size) {
+        Page<PostSummary> posts = postService.getPostsByTag(q, page, size);
         return DoubleResponseDto.of(
                 posts.stream()
                         .map(PostDto.Response.SimplePostDto::of)
@@ -95,19 +151,58 @@ public class PostControllerImpl implements PostController {
     }
 
     @Override
-    public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByTag(String q, int page, int size) {
-        Page<Post> posts = postService.getPostsByTag(q, page, size);
-        return DoubleResponseDto.of(
+    public CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByCategory(String category, Long after, int size) {
+        Slice<PostSummary> posts = postService.getPostsByCategory(category, after, size);
+        return CursorResponseDto.of(
                 posts.stream()
                         .map(PostDto.Response.SimplePostDto::of)
                         .collect(Collectors.toList()),
-                posts
+                posts,
+                PostSummary::getPostId
+        );
+    }
+
+    @Override
+    public CursorResponseDto<PostDto.Response.SimplePostDto> getPostsBySearch(String q, Long after, int size) {
+        Slice<PostSummary> posts = postService.getPostsBySearch(q, after, size);
+        return CursorResponseDto.of(
+                posts.stream()
+                        .map(PostDto.Response.SimplePostDto::of)
+                        .collect(Collectors.toList()),
+                posts,
+                PostSummary::getPostId
+        );
+    }
+
+    @Override
+    public CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByTag(String q, Long after, int size) {
+        Slice<PostSummary> posts = postService.getPostsByTag(q, after, size);
+        return CursorResponseDto.of(
+                posts.stream()
+                        .map(PostDto.Response.SimplePostDto::of)
+                        .collect(Collectors.toList()),
+                posts,
+                PostSummary::getPostId
+        );
+    }
+
+    @Override
+    public CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByTags(List<String> all, List<String> any,
+                                                                            List<String> none, String category,
+                                                                            Long after, int size) {
+        Slice<PostSummary> posts = postService.getPostsByTags(all, any, none, category, after, size);
+        return CursorResponseDto.of(
+                posts.stream()
+                        .map(PostDto.Response.SimplePostDto::of)
+                        .collect(Collectors.toList()),
+                posts,
+                PostSummary::getPostId
         );
     }
 
     @Override
     public DoubleResponseDto<PostDto.Response.SimplePostDto> getPostsByBookmark(AuthDto.UserInfo userInfo, int page, int size) {
-        Page<Post> posts = postService.getPostsByBookmark(userInfo.getId(), page, size);
+        Page<PostSummary> posts = postService.getPostsByBookmark(userInfo.getId(), page, size);
         return DoubleResponseDto.of(
                 posts.stream()
                         .map(PostDto.Response.SimplePostDto::of)
@@ -116,8 +211,28 @@ public class PostControllerImpl implements PostController {
         );
     }
 
+    @Override
+    public CursorResponseDto<PostDto.Response.SimplePostDto> getPostsByBookmark(AuthDto.UserInfo userInfo, Long after, int size) {
+        Slice<BookmarkedPost> posts = postService.getPostsByBookmark(userInfo.getId(), after, size);
+        return CursorResponseDto.of(
+                posts.stream()
+                        .map(post -> PostDto.Response.SimplePostDto.of(post.getSummary()))
+                        .collect(Collectors.toList()),
+                posts,
+                BookmarkedPost::getBookmarkId
+        );
+    }
+
     @Override
     public void deletePost(AuthDto.UserInfo userInfo,Long postId) {
         postService.deletePost(postId);
     }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.devillage.teamproject.controller.tag;
+
+import com.devillage.teamproject.dto.SingleResponseDto;
+import com.devillage.teamproject.dto.TagDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+@RequestMapping("/tags")
+public interface TagController {
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    SingleResponseDto<List<TagDto.Response.SuggestionDto>> getTagSuggestions(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size);
+
+    @GetMapping("/popular")
+    @ResponseStatus(HttpStatus.OK)
+    SingleResponseDto<List<TagDto.Response.PopularTagDto>> getPopularTags(
+            @RequestParam(defaultValue = "ALL") String category,
+            @RequestParam(defaultValue = "10") int size);
+}
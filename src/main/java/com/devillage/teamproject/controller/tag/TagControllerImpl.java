@@ -0,0 +1,31 @@
+package com.devillage.teamproject.controller.tag;
+
+import com.devillage.teamproject.dto.SingleResponseDto;
+import com.devillage.teamproject.dto.TagDto;
+import com.devillage.teamproject.service.tag.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequiredArgsConstructor
+public class TagControllerImpl implements TagController {
+
+    private final TagService tagService;
+
+    @Override
+    public SingleResponseDto<List<TagDto.Response.SuggestionDto>> getTagSuggestions(String prefix, int size) {
+        return SingleResponseDto.of(tagService.suggestTags(prefix, size).stream()
+                .map(TagDto.Response.SuggestionDto::of)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public SingleResponseDto<List<TagDto.Response.PopularTagDto>> getPopularTags(String category, int size) {
+        return SingleResponseDto.of(tagService.getPopularTags(category, size).stream()
+                .map(TagDto.Response.PopularTagDto::of)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.devillage.teamproject.dto;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 조회자와 무관한 게시글 상세 본문을 직렬화해 둔 캐시 값.
+ * 조회자별 필드(liked, bookmarked, viewers, 댓글 isLiked)는 응답 시점에 덧씌운다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedPostDetail {
+    private static final String LIKED = "liked";
+    private static final String BOOKMARKED = "bookmarked";
+    private static final String VIEWERS = "viewers";
+
+    private final String sharedJson;
+    private final CategoryType categoryType;
+    private final List<Long> commentIds;
+
+    public static CachedPostDetail of(PostDto.Response.PostDetail detail, CategoryType categoryType,
+                                      ObjectMapper objectMapper) {
+        ObjectNode node = objectMapper.valueToTree(detail);
+        node.remove(List.of(LIKED, BOOKMARKED, VIEWERS));
+        List<Long> commentIds = detail.getComments().getData().stream()
+                .map(CommentDto.ResponseWithReComment::getCommentId)
+                .collect(Collectors.toList());
+        return new CachedPostDetail(write(objectMapper, node), categoryType, commentIds);
+    }
+
+    public RawJson render(boolean isLiked, boolean isBookmarked, PostDto.Response.ViewerCount viewers,
+                          Set<Long> likedCommentIds, ObjectMapper objectMapper) {
+        String body = likedCommentIds.isEmpty() ? sharedJson : markLikedComments(likedCommentIds, objectMapper);
+
+        ObjectNode viewerFields = objectMapper.createObjectNode();
+        viewerFields.put(LIKED, isLiked);
+        viewerFields.put(BOOKMARKED, isBookmarked);
+        viewerFields.set(VIEWERS, objectMapper.valueToTree(viewers));
+        String head = write(objectMapper, viewerFields);
+
+        // {"liked":..,"viewers":{..}} 의 닫는 괄호와 공유 본문의 여는 괄호를 이어 붙인다.
+        return RawJson.of("{\"data\":" + head.substring(0, head.length() - 1) + "," + body.substring(1) + "}");
+    }
+
+    private String markLikedComments(Set<Long> likedCommentIds, ObjectMapper objectMapper) {
+        try {
+            JsonNode node = objectMapper.readTree(sharedJson);
+            node.path("comments").path("data").forEach(comment -> {
+                if (likedCommentIds.contains(comment.path("commentId").asLong())) {
+                    ((ObjectNode) comment).put("isLiked", true);
+                }
+            });
+            return write(objectMapper, node);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String write(ObjectMapper objectMapper, JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
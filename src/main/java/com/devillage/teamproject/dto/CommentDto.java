@@ -4,6 +4,7 @@ import com.devillage.teamproject.entity.Comment;
 import com.devillage.teamproject.entity.Post;
 import com.devillage.teamproject.entity.ReComment;
 import com.devillage.teamproject.entity.enums.CommentStatus;
+import com.devillage.teamproject.service.comment.CommentThread;
 import lombok.*;
 
 import javax.validation.constraints.NotBlank;
@@ -51,13 +52,38 @@ public class CommentDto {
         private LocalDateTime lastModifiedAt;
         private Boolean isLiked;
         private List<ReCommentResponse> reComments = new ArrayList<>();
+        private CursorInfo reCommentCursorInfo;
 
         @Deprecated
         public static ResponseWithReComment of(Comment comment) {
-            return of(comment, 0L);
+            return of(comment, false);
         }
 
-        public static ResponseWithReComment of(Comment comment, Long userId) {
+        /**
+         * 좋아요 수는 댓글에 저장된 값을 쓰고, 조회자의 좋아요 여부는 호출하는 쪽에서 한 번에 조회해 넘긴다.
+         */
+        public static ResponseWithReComment of(Comment comment, boolean isLiked) {
+            List<ReCommentResponse> reComments = comment.getReComments().stream()
+                    .map(ReCommentResponse::of)
+                    .collect(Collectors.toList());
+            return of(comment, isLiked, reComments, new CursorInfo(reComments.size(), false, null));
+        }
+
+        /**
+         * 대댓글은 앞쪽 일부만 담고, 나머지는 reCommentCursorInfo 의 nextCursor 부터 대댓글 조회로 이어서 받는다.
+         */
+        public static ResponseWithReComment of(CommentThread thread, boolean isLiked) {
+            List<ReComment> reComments = thread.getReComments();
+            Long nextCursor = thread.isHasMoreReComments() && !reComments.isEmpty()
+                    ? reComments.get(reComments.size() - 1).getId()
+                    : null;
+            return of(thread.getComment(), isLiked,
+                    reComments.stream().map(ReCommentResponse::of).collect(Collectors.toList()),
+                    new CursorInfo(reComments.size(), thread.isHasMoreReComments(), nextCursor));
+        }
+
+        private static ResponseWithReComment of(Comment comment, boolean isLiked,
+                                                List<ReCommentResponse> reComments, CursorInfo reCommentCursorInfo) {
             return comment.getCommentStatus() == CommentStatus.DELETED ?
                     ResponseWithReComment.builder()
                             .commentId(comment.getId())
@@ -65,9 +91,8 @@ public class CommentDto {
                             .nickname(null)
                             .avatar(null)
                             .content(null)
-                            .reComments(comment.getReComments().stream().map(
-                                    ReCommentResponse::of
-                            ).collect(Collectors.toList()))
+                            .reComments(reComments)
+                            .reCommentCursorInfo(reCommentCursorInfo)
                             .likeCount(0L)
                             .createdAt(comment.getCreatedAt())
                             .lastModifiedAt(comment.getLastModifiedAt())
@@ -79,17 +104,12 @@ public class CommentDto {
                             .nickname(comment.getUser().getNickName())
                             .avatar(FileDto.SimpleResponse.of(comment.getUser().getAvatar()))
                             .content(comment.getContent())
-                            .reComments(comment.getReComments().stream().map(
-                                    ReCommentResponse::of
-                            ).collect(Collectors.toList()))
-                            .likeCount(comment.getCommentLikes().size())
+                            .reComments(reComments)
+                            .reCommentCursorInfo(reCommentCursorInfo)
+                            .likeCount(comment.getLikeCount() == null ? 0L : comment.getLikeCount())
                             .createdAt(comment.getCreatedAt())
                             .lastModifiedAt(comment.getLastModifiedAt())
-                            .isLiked(
-                                    comment.getCommentLikes().stream().map(
-                                            commentLike -> commentLike.getUser().getId()
-                                    ).collect(Collectors.toList()).contains(userId)
-                            )
+                            .isLiked(isLiked)
                             .build();
         }
     }
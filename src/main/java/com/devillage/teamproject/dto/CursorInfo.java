@@ -0,0 +1,13 @@
+package com.devillage.teamproject.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+public class CursorInfo {
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+}
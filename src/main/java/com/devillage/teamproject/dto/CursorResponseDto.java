@@ -0,0 +1,25 @@
+package com.devillage.teamproject.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponseDto<T> {
+    private final List<T> data;
+    private final CursorInfo cursorInfo;
+
+    private <P> CursorResponseDto(List<T> data, Slice<P> slice, Function<P, Long> cursor) {
+        this.data = data;
+        this.cursorInfo = new CursorInfo(slice.getSize(), slice.hasNext(),
+                slice.hasNext() && slice.hasContent()
+                        ? cursor.apply(slice.getContent().get(slice.getNumberOfElements() - 1))
+                        : null);
+    }
+
+    public static <T, P> CursorResponseDto<T> of(List<T> data, Slice<P> slice, Function<P, Long> cursor) {
+        return new CursorResponseDto<>(data, slice, cursor);
+    }
+}
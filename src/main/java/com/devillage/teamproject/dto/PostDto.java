@@ -1,7 +1,9 @@
 package com.devillage.teamproject.dto;
 
-import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.PostSummary;
+import com.devillage.teamproject.entity.RelatedPost;
 import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.service.comment.CommentThread;
 import lombok.*;
 import org.springframework.data.domain.Page;
 
@@ -9,6 +11,7 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Getter
@@ -40,44 +43,54 @@ public class PostDto {
             private String category;
             private LocalDateTime createdAt;
             private String content;
+            private String html;
+            private Integer readingMinutes;
             private boolean isModified;
             private Long clicks;
+            private ViewerCount viewers;
             private List<TagDto.Response> tag;
             private UserDto.AuthorInfo author;
             private FileDto.SimpleResponse avatar;
             private Long likeCount;
+            private Long commentCount;
             private boolean isLiked;
             private boolean isBookmarked;
             private List<FileDto.SimpleResponse> images;
+            private List<RelatedPostDto> relatedPosts;
             private DoubleResponseDto<CommentDto.ResponseWithReComment> comments;
 
-            public static PostDetail of(com.devillage.teamproject.entity.Post post, Page<Comment> commentPage,
-                                        Long userId){
+            public static PostDetail of(com.devillage.teamproject.entity.Post post, Page<CommentThread> commentPage,
+                                        Set<Long> likedCommentIds, boolean isLiked, boolean isBookmarked,
+                                        ViewerCount viewers){
                 return PostDetail.builder()
                         .key(post.getId())
                         .title(post.getTitle())
                         .category(post.getCategory().getCategoryType().name())
                         .createdAt(post.getCreatedAt())
                         .content(post.getContent())
+                        .html(post.getBody() == null ? null : post.getBody().getHtml())
+                        .readingMinutes(post.getBody() == null ? null : post.getBody().getReadingMinutes())
                         .isModified(post.getPostLastModifiedAt().isAfter(post.getCreatedAt()))
                         .clicks(post.getClicks())
+                        .viewers(viewers)
                         .tag(post.getTags().stream()
                                 .map(postTag -> TagDto.Response.of(postTag.getTag()))
                                 .collect(Collectors.toList()))
                         .author(UserDto.AuthorInfo.of(post.getUser()))
                         .avatar(FileDto.SimpleResponse.of(post.getUser().getAvatar()))
                         .likeCount(post.getLikeCount())
-                        .isLiked(post.getLikes().stream().map(
-                                like -> like.getUser().getId()
-                        ).collect(Collectors.toList()).contains(userId))
-                        .isBookmarked(post.getBookmarks().stream().map(
-                                bookmark -> bookmark.getUser().getId()
-                        ).collect(Collectors.toList()).contains(userId))
+                        .commentCount(post.getCommentCount() == null ? 0L : post.getCommentCount())
+                        .isLiked(isLiked)
+                        .isBookmarked(isBookmarked)
                         .images(post.getPostsFiles().stream().map(
                                 postsFile -> FileDto.SimpleResponse.of(postsFile.getFile())
                         ).collect(Collectors.toList()))
+                        .relatedPosts(post.getRelatedPosts() == null ? List.of() : post.getRelatedPosts().stream()
+                                .map(RelatedPostDto::of)
+                                .collect(Collectors.toList()))
                         .comments(DoubleResponseDto.of(commentPage.stream().map(
-                                comment -> CommentDto.ResponseWithReComment.of(comment, userId)
+                                thread -> CommentDto.ResponseWithReComment.of(thread,
+                                        likedCommentIds.contains(thread.getComment().getId()))
                         ).collect(Collectors.toList()), commentPage))
                         .build();
             }
@@ -90,33 +103,50 @@ public class PostDto {
         public static class SimplePostDto {
             private final Long id;
             private final String title;
-            private final String content;
+            private final String excerpt;
             private final Long clicks;
+            private final Long likeCount;
+            private final Long commentCount;
             private final String category;
-            private final List<TagDto.Response> tags;
-            private final List<FileDto.Response> files;
+            private final List<String> tags;
+            private final String thumbnail;
+            private final Long authorId;
+            private final String authorName;
+            private final String authorAvatar;
             private final LocalDateTime createdAt;
             private final LocalDateTime lastModifiedAt;
 
-            public static SimplePostDto of(com.devillage.teamproject.entity.Post post) {
+            public static SimplePostDto of(PostSummary summary) {
                 return new SimplePostDto(
-                        post.getId(),
-                        post.getTitle(),
-                        post.getContent(),
-                        post.getClicks(),
-                        post.getCategory().getCategoryType().name(),
-                        post.getTags().stream()
-                                .map(postTag -> TagDto.Response.of(postTag.getTag()))
-                                .collect(Collectors.toList()),
-                        post.getPostsFiles().stream()
-                                .map(postsFile -> FileDto.Response.of(postsFile.getFile()))
-                                .collect(Collectors.toList()),
-                        post.getCreatedAt(),
-                        post.getLastModifiedAt()
+                        summary.getPostId(),
+                        summary.getTitle(),
+                        summary.getExcerpt(),
+                        summary.getClicks(),
+                        summary.getLikeCount(),
+                        summary.getCommentCount(),
+                        summary.getCategoryType() == null ? null : summary.getCategoryType().name(),
+                        summary.getTagNames(),
+                        summary.getThumbnail(),
+                        summary.getAuthorId(),
+                        summary.getAuthorNickName(),
+                        summary.getAuthorAvatar(),
+                        summary.getCreatedAt(),
+                        summary.getLastModifiedAt()
                 );
             }
         }
 
+        @Getter
+        @AllArgsConstructor(access = AccessLevel.PROTECTED)
+        public static class RelatedPostDto {
+            private final Long id;
+            private final String title;
+
+            public static RelatedPostDto of(RelatedPost relatedPost) {
+                return new RelatedPostDto(relatedPost.getPostId(), relatedPost.getTitle());
+            }
+        }
+
         @Getter
         @AllArgsConstructor(access = AccessLevel.PROTECTED)
         public static class BookmarkDto {
@@ -141,6 +171,22 @@ public class PostDto {
             }
         }
 
+        @Getter
+        @AllArgsConstructor(access = AccessLevel.PROTECTED)
+        public static class ViewerCount {
+            private final Long uniqueViewers;
+            private final Long todayViewers;
+            private final Long categoryTodayViewers;
+
+            public static ViewerCount of(Long uniqueViewers, Long todayViewers, Long categoryTodayViewers) {
+                return new ViewerCount(uniqueViewers, todayViewers, categoryTodayViewers);
+            }
+
+            public static ViewerCount empty() {
+                return new ViewerCount(0L, 0L, 0L);
+            }
+        }
+
         @Getter
         @AllArgsConstructor(access = AccessLevel.PROTECTED)
         public static class LikeDto {
@@ -0,0 +1,32 @@
+package com.devillage.teamproject.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 이미 직렬화된 JSON 을 다시 직렬화하지 않고 그대로 응답 본문에 쓴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonSerialize(using = RawJson.Serializer.class)
+public class RawJson {
+    private final String json;
+
+    public static RawJson of(String json) {
+        return new RawJson(json);
+    }
+
+    public static class Serializer extends JsonSerializer<RawJson> {
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeRawValue(value.getJson());
+        }
+    }
+}
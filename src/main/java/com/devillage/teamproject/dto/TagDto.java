@@ -3,6 +3,8 @@ package com.devillage.teamproject.dto;
 import com.devillage.teamproject.entity.Post;
 import com.devillage.teamproject.entity.PostTag;
 import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.repository.tag.TagUsage;
+import com.devillage.teamproject.service.tag.TagSuggestion;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -23,5 +25,27 @@ public class TagDto {
         public static Response of(Tag tag) {
             return new Response(tag.getId(), tag.getName());
         }
+
+        @Getter
+        @AllArgsConstructor
+        public static class SuggestionDto {
+            private String name;
+            private long usageCount;
+
+            public static SuggestionDto of(TagSuggestion suggestion) {
+                return new SuggestionDto(suggestion.getName(), suggestion.getUsageCount());
+            }
+        }
+
+        @Getter
+        @AllArgsConstructor
+        public static class PopularTagDto {
+            private String name;
+            private long usageCount;
+
+            public static PopularTagDto of(TagUsage usage) {
+                return new PopularTagDto(usage.getName(), usage.getUsageCount());
+            }
+        }
     }
 }
\ No newline at end of file
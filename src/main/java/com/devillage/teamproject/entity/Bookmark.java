@@ -9,6 +9,7 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@Table(indexes = @Index(name = "idx_bookmark_user_id_bookmark_id", columnList = "user_id, bookmark_id"))
 public class Bookmark extends AuditingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
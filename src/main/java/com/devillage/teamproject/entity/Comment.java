@@ -39,8 +39,10 @@ public class Comment extends AuditingEntity {
     @OneToMany(mappedBy = "comment")
     private final List<ReComment> reComments = new ArrayList<>();
 
+    // 벌크 UPDATE 로만 증감하므로 엔티티 변경 감지에서는 제외한다.
     @ToString.Include
     @EqualsAndHashCode.Include
+    @Column(updatable = false)
     private Long likeCount;
 
     @Enumerated(EnumType.STRING)
@@ -69,16 +71,9 @@ public class Comment extends AuditingEntity {
                 .post(post)
                 .commentStatus(CommentStatus.VALID)
                 .build();
-        user.addComment(newComment);
-        post.addComment(newComment);
-
         return newComment;
     }
 
-    public void setLikeCount(Long count) {
-        likeCount = count;
-    }
-
     public void deleteComment() {
         this.commentStatus = CommentStatus.DELETED;
     }
@@ -9,8 +9,12 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
-@Table(name="comment_like")
+@Table(name="comment_like",
+        uniqueConstraints = @UniqueConstraint(name = CommentLike.USER_COMMENT_CONSTRAINT,
+                columnNames = {"user_id", "comment_id"}))
 public class CommentLike extends AuditingEntity {
+    public static final String USER_COMMENT_CONSTRAINT = "uk_comment_like_user_id_comment_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @ToString.Include
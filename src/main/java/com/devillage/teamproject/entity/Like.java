@@ -9,8 +9,11 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
-@Table(name="likes")
+@Table(name="likes",
+        uniqueConstraints = @UniqueConstraint(name = Like.USER_POST_CONSTRAINT, columnNames = {"user_id", "post_id"}))
 public class Like extends AuditingEntity {
+    public static final String USER_POST_CONSTRAINT = "uk_likes_user_id_post_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @ToString.Include
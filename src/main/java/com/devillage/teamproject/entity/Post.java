@@ -1,5 +1,6 @@
 package com.devillage.teamproject.entity;
 
+import com.devillage.teamproject.entity.converter.RelatedPostListConverter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -16,6 +17,7 @@ import java.util.List;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_post_category_id", columnList = "category_id, post_id"))
 public class Post extends AuditingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,39 +30,59 @@ public class Post extends AuditingEntity {
     @EqualsAndHashCode.Include
     private String title;
 
-    @ToString.Include
-    @EqualsAndHashCode.Include
-    private String content;
+    // 목록 조회에서 본문을 읽지 않도록 다른 테이블에 두고 getContent() 에서 처음 읽을 때 가져온다.
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "post_content_id")
+    private PostContent body;
 
+    // 조회수. PostViewCounter 가 모아 둔 증감 UPDATE 로만 바꾸므로 엔티티 변경 감지에서는 제외한다.
     @ToString.Include
     @EqualsAndHashCode.Include
+    @Column(updatable = false)
     private Long clicks;
 
+    // 좋아요 수. 증감 UPDATE 로만 바꾸므로 엔티티 변경 감지에서는 제외한다.
     @ToString.Include
     @EqualsAndHashCode.Include
+    @Column(updatable = false)
     private Long likeCount;
 
+    // 댓글과 대댓글 수. 증감 UPDATE 로만 바꾸므로 엔티티 변경 감지에서는 제외한다.
+    @Column(updatable = false)
+    private Long commentCount;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime postLastModifiedAt;
 
+    // 댓글·좋아요·북마크까지 포함한 게시글 표현의 버전. 벌크 UPDATE 로만 올리므로 엔티티 변경 감지에서는 제외한다.
+    @Column(updatable = false)
+    private Long revision;
+
+    @Column(updatable = false)
+    private LocalDateTime revisedAt;
+
+    // 백그라운드에서 계산한 비슷한 게시글. 벌크 UPDATE 로만 바꾸므로 엔티티 변경 감지에서는 제외한다.
+    @Convert(converter = RelatedPostListConverter.class)
+    @Column(length = 4000, updatable = false)
+    private List<RelatedPost> relatedPosts;
+
     public Post(String title, String content, List<Long> fileIds) {
 //        this.id = id;
         this.title = title;
-        this.content = content;
+        this.body = PostContent.of(content);
         this.clicks = 0L;
         this.likeCount = 0L;
+        this.commentCount = 0L;
+        this.revision = 0L;
         this.postLastModifiedAt = LocalDateTime.of(0000, 12, 31, 00, 00,00,3333);
         fileIds.forEach(
                 fileId -> postsFiles.add(PostsFile.builder().file(File.builder().id(fileId).build()).build())
         );
     }
 
-    public void setClickCount(Long clickCount){
-        this.clicks = clickCount;
-    }
-    public void setLikeCount(Long num) {
-        likeCount = num;
+    public String getContent() {
+        return body == null ? null : body.getText();
     }
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -101,7 +123,11 @@ public class Post extends AuditingEntity {
     }
 
     public void editPost(Post post){
-        this.content = post.getContent();
+        if (body == null) {
+            this.body = PostContent.of(post.getContent());
+        } else {
+            body.update(post.getContent());
+        }
         this.title = post.getTitle();
         this.postLastModifiedAt = LocalDateTime.now();
         this.getPostsFiles().clear();
@@ -0,0 +1,132 @@
+package com.devillage.teamproject.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문. 목록·랭킹·태그 조회가 본문을 읽지 않도록 post 와 다른 테이블에 두고 post 쪽에서 지연 로딩한다.
+ * UTF-8 로 COMPRESS_THRESHOLD 바이트를 넘는 본문은 deflate 로 압축해서 저장한다.
+ * <p>
+ * 렌더링 결과(HTML, 요약, 읽는 시간)는 어떤 본문으로 만들었는지 contentHash 와 함께 저장하고, 본문이 바뀌면 비운다.
+ */
+@Entity
+@Getter(AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PostContent {
+    static final int COMPRESS_THRESHOLD = 1024;
+
+    @Id
+    @Getter
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    @Column(name = "post_content_id")
+    private Long id;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    @ToString.Include
+    private boolean compressed;
+
+    @Getter
+    @ToString.Include
+    @Column(length = 64)
+    private String contentHash;
+
+    @Getter
+    @Lob
+    private String html;
+
+    @Getter
+    @Column(length = 300)
+    private String excerpt;
+
+    @Getter
+    private Integer readingMinutes;
+
+    // 압축을 푼 본문. 같은 엔티티에서 여러 번 읽어도 한 번만 푼다.
+    @Transient
+    private String text;
+
+    public static PostContent of(String text) {
+        PostContent postContent = new PostContent();
+        postContent.update(text);
+        return postContent;
+    }
+
+    public String getText() {
+        if (text == null && data != null) {
+            text = compressed ? inflate(data) : new String(data, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+
+    public void update(String text) {
+        String value = text == null ? "" : text;
+        if (data != null && value.equals(getText())) {
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.compressed = bytes.length > COMPRESS_THRESHOLD;
+        this.data = compressed ? deflate(bytes) : bytes;
+        this.text = value;
+        this.contentHash = null;
+        this.html = null;
+        this.excerpt = null;
+        this.readingMinutes = null;
+    }
+
+    public void render(String contentHash, String html, String excerpt, int readingMinutes) {
+        this.contentHash = contentHash;
+        this.html = html;
+        this.excerpt = excerpt;
+        this.readingMinutes = readingMinutes;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("truncated post content " + bytes.length + " bytes");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupted post content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
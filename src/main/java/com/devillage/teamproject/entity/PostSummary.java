@@ -0,0 +1,143 @@
+package com.devillage.teamproject.entity;
+
+import com.devillage.teamproject.entity.converter.StringListConverter;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 화면용 게시글 읽기 모델. 게시글/태그/좋아요/댓글 변경 시 함께 갱신되며, 목록 조회는 연관 엔티티 로딩 없이 이 테이블만 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "post_summary",
+        indexes = {
+                @Index(name = "idx_post_summary_category_type_post_id", columnList = "category_type, post_id"),
+                @Index(name = "idx_post_summary_author_id", columnList = "author_id")
+        })
+public class PostSummary implements Persistable<Long> {
+    private static final int EXCERPT_LENGTH = 200;
+
+    @Id
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_type")
+    private CategoryType categoryType;
+
+    @ToString.Include
+    private String title;
+
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    private String authorNickName;
+
+    private String authorAvatar;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(length = 1000)
+    private List<String> tagNames;
+
+    private String thumbnail;
+
+    // 카운터는 증감 UPDATE 와 보정 작업으로만 바꾸므로 엔티티 변경 감지에서는 제외한다.
+    @Column(updatable = false)
+    private Long clicks;
+
+    @Column(updatable = false)
+    private Long likeCount;
+
+    @Column(updatable = false)
+    private Long commentCount;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastModifiedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PostSummary(Post post, List<String> tagNames) {
+        this.postId = post.getId();
+        this.clicks = post.getClicks();
+        this.likeCount = post.getLikeCount();
+        this.commentCount = 0L;
+        update(post, tagNames);
+    }
+
+    public void update(Post post, List<String> tagNames) {
+        this.categoryType = post.getCategory() == null ? null : post.getCategory().getCategoryType();
+        this.title = post.getTitle();
+        // 렌더링한 요약이 있으면 마크다운 문법이 빠진 그 요약을 쓴다.
+        String renderedExcerpt = post.getBody() == null ? null : post.getBody().getExcerpt();
+        this.excerpt = renderedExcerpt != null ? renderedExcerpt : excerptOf(post.getContent());
+        this.tagNames = List.copyOf(tagNames);
+        this.thumbnail = post.getPostsFiles().stream()
+                .map(PostsFile::getFile)
+                .filter(file -> file != null && file.getRemotePath() != null)
+                .map(File::getRemotePath)
+                .findFirst()
+                .orElse(null);
+        this.createdAt = post.getCreatedAt();
+        this.lastModifiedAt = latest(post.getLastModifiedAt(), post.getPostLastModifiedAt());
+        if (post.getUser() != null) {
+            updateAuthor(post.getUser());
+        }
+    }
+
+    public void updateAuthor(User author) {
+        this.authorId = author.getId();
+        this.authorNickName = author.getNickName();
+        this.authorAvatar = author.getAvatar() == null ? null : author.getAvatar().getRemotePath();
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, EXCERPT_LENGTH);
+    }
+}
@@ -9,9 +9,11 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@Table(indexes = @Index(name = "idx_post_tag_tag_id_post_id", columnList = "tag_id, post_id"))
 public class PostTag extends AuditingEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_tag_seq_generator")
+    @SequenceGenerator(name = "post_tag_seq_generator", sequenceName = "post_tag_seq", allocationSize = 50)
     @ToString.Include
     @EqualsAndHashCode.Include
     @Column(name="post_tag_id")
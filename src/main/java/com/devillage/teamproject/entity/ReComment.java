@@ -12,6 +12,8 @@ import java.util.List;
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @Builder
+// 부모 댓글 외래 키 컬럼 이름이 post_id 다. 댓글별 대댓글 키셋 조회(부모 댓글, 식별자 순)에 쓴다.
+@Table(indexes = @Index(name = "idx_re_comment_comment_id", columnList = "post_id, re_comment_id"))
 public class ReComment extends AuditingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,16 @@
+package com.devillage.teamproject.entity;
+
+import lombok.*;
+
+/**
+ * post.related_posts 컬럼에 JSON 으로 저장되는 비슷한 게시글 한 건. 상세 조회에서 추가 조회 없이 제목까지 내려주기 위해 복사해 둔다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RelatedPost {
+    private Long postId;
+    private String title;
+}
@@ -4,15 +4,20 @@ import lombok.*;
 
 import javax.persistence.*;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(onlyExplicitlyIncluded = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@Table(uniqueConstraints = @UniqueConstraint(name = Tag.NAME_CONSTRAINT, columnNames = "name"))
 public class Tag extends AuditingEntity {
+    public static final String NAME_CONSTRAINT = "uk_tag_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq_generator")
+    @SequenceGenerator(name = "tag_seq_generator", sequenceName = "tag_seq", allocationSize = 50)
     @ToString.Include
     @EqualsAndHashCode.Include
     @Column(name="tag_id")
@@ -26,6 +31,11 @@ public class Tag extends AuditingEntity {
     private List<PostTag> postTag;
 
     public Tag(String name) {
-        this.name = name;
+        this.name = normalizeName(name);
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 이름은 앞뒤 공백을 지우고 소문자로 맞춰 저장·조회한다.
+    public static String normalizeName(String name) {
+        return name == null ? null : name.strip().toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,60 @@
+package com.devillage.teamproject.entity;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 태그별·카테고리별 사용 게시글 수. ALL 행은 전체 카테고리 합계다.
+ * post_tag 를 집계하지 않도록 게시글 태그가 바뀔 때 증감 UPDATE 로 유지한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_count_tag_id_category_type",
+        columnNames = {"tag_id", "category_type"}),
+        indexes = @Index(name = "idx_tag_count_category_type_usage_count", columnList = "category_type, usage_count"))
+public class TagCount extends AuditingEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_count_seq_generator")
+    @SequenceGenerator(name = "tag_count_seq_generator", sequenceName = "tag_count_seq", allocationSize = 50)
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    @Column(name = "tag_count_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id")
+    private Tag tag;
+
+    // 태그 이름은 바뀌지 않으므로 인기 태그 조회가 tag 테이블을 읽지 않도록 복사해 둔다.
+    @ToString.Include
+    private String tagName;
+
+    @ToString.Include
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_type")
+    private CategoryType categoryType;
+
+    @ToString.Include
+    @Column(name = "usage_count")
+    private long usageCount;
+
+    public TagCount(Tag tag, CategoryType categoryType) {
+        this.tag = tag;
+        this.tagName = tag.getName();
+        this.categoryType = categoryType;
+    }
+
+    public static List<TagCount> allCategoriesOf(Tag tag) {
+        return Arrays.stream(CategoryType.values())
+                .map(categoryType -> new TagCount(tag, categoryType))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,45 @@
+package com.devillage.teamproject.entity.converter;
+
+import com.devillage.teamproject.entity.RelatedPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 아직 계산하지 않은 게시글(null)과 비슷한 글이 없는 게시글(빈 목록)을 구분해서 저장한다.
+ */
+@Converter
+public class RelatedPostListConverter implements AttributeConverter<List<RelatedPost>, String> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<RelatedPost>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<RelatedPost> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<RelatedPost> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(dbData, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.devillage.teamproject.event;
+
+import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.ReComment;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 화면에 내려보내는 댓글·대댓글 변경분. 삭제는 식별자만 담고, 댓글이면 reCommentId 가 null 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentEvent {
+    private final EventType eventType;
+    private final Long postId;
+    private final Long commentId;
+    private final Long reCommentId;
+    private final Long userId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime lastModifiedAt;
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static CommentEvent created(Comment comment) {
+        return of(EventType.CREATED, comment);
+    }
+
+    public static CommentEvent updated(Comment comment) {
+        return of(EventType.UPDATED, comment);
+    }
+
+    public static CommentEvent deleted(Long postId, Long commentId) {
+        return new CommentEvent(EventType.DELETED, postId, commentId, null, null, null, null, null);
+    }
+
+    public static CommentEvent created(Long postId, ReComment reComment) {
+        return of(EventType.CREATED, postId, reComment);
+    }
+
+    public static CommentEvent updated(Long postId, ReComment reComment) {
+        return of(EventType.UPDATED, postId, reComment);
+    }
+
+    public static CommentEvent deleted(Long postId, Long commentId, Long reCommentId) {
+        return new CommentEvent(EventType.DELETED, postId, commentId, reCommentId, null, null, null, null);
+    }
+
+    private static CommentEvent of(EventType eventType, Comment comment) {
+        return new CommentEvent(eventType, comment.getPost().getId(), comment.getId(), null,
+                comment.getUser() == null ? null : comment.getUser().getId(), comment.getContent(),
+                comment.getCreatedAt(), comment.getLastModifiedAt());
+    }
+
+    private static CommentEvent of(EventType eventType, Long postId, ReComment reComment) {
+        return new CommentEvent(eventType, postId, reComment.getComment().getId(), reComment.getId(),
+                reComment.getUser() == null ? null : reComment.getUser().getId(), reComment.getContent(),
+                reComment.getCreatedAt(), reComment.getLastModifiedAt());
+    }
+}
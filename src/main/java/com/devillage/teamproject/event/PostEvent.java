@@ -0,0 +1,47 @@
+package com.devillage.teamproject.event;
+
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostEvent {
+    private final EventType eventType;
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final List<String> tagNames;
+    private final CategoryType categoryType;
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PostEvent created(Post post, List<String> tagNames) {
+        return new PostEvent(EventType.CREATED, post.getId(), post.getTitle(), post.getContent(), distinct(tagNames),
+                categoryTypeOf(post));
+    }
+
+    public static PostEvent updated(Post post, List<String> tagNames) {
+        return new PostEvent(EventType.UPDATED, post.getId(), post.getTitle(), post.getContent(), distinct(tagNames),
+                categoryTypeOf(post));
+    }
+
+    public static PostEvent deleted(Long postId) {
+        return new PostEvent(EventType.DELETED, postId, null, null, List.of(), null);
+    }
+
+    private static CategoryType categoryTypeOf(Post post) {
+        return post.getCategory() == null ? null : post.getCategory().getCategoryType();
+    }
+
+    private static List<String> distinct(List<String> tagNames) {
+        return tagNames == null ? List.of() : tagNames.stream().distinct().collect(Collectors.toList());
+    }
+}
@@ -33,6 +33,7 @@ public enum ExceptionCode {
     USER_RESIGNED(422, "Resigned User"),
     NOT_VALID_PASSWORD(404,"Not valid password"),
     CAN_NOT_UPDATE_PASSWORD(400,"Can not update password"),
+    INVALID_PAGE_SIZE(400, "Invalid page size"),
 
     NOT_VALID_AUTH_KEY(404,"Not valid authKey"),
     FAIL_TO_SEND_EMAIL(400,"Fail to send an Email"),
@@ -0,0 +1,24 @@
+package com.devillage.teamproject.repository;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * 무결성 위반 중 특정 유니크 제약에 걸린 것만 골라낸다. 외래 키·NOT NULL 위반은 호출한 쪽에서 그대로 다시 던진다.
+ */
+public final class UniqueConstraints {
+
+    private UniqueConstraints() {
+    }
+
+    // 드라이버 메시지에 제약(인덱스) 이름이 들어 있다.
+    // MySQL: Duplicate entry '...' for key 'tag.uk_tag_name'
+    // H2: Unique index or primary key violation: "PUBLIC.UK_TAG_NAME_INDEX_1 ON PUBLIC.TAG(NAME ...) ..."
+    public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,13 +1,37 @@
 package com.devillage.teamproject.repository.comment;
 
-import com.devillage.teamproject.entity.Comment;
 import com.devillage.teamproject.entity.CommentLike;
+import com.devillage.teamproject.entity.enums.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike,Long> {
-    Long countByCommentId(Long commentId);
-    List<CommentLike> findByCommentIdAndUserIdAndPostId(Long commentId,Long userId,Long PostId);
-    void deleteByCommentIdAndUserIdAndPostId(Long commentId,Long userId,Long PostId);
-}
\ No newline at end of file
+    // 탈퇴한 회원의 취소는 0 을 반환해 insertForActiveUser 에서 거절되도록 한다.
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CommentLike cl where cl.comment.id = :commentId and cl.user.id = :userId and cl.post.id = :postId "
+            + "and exists (select u.id from User u where u.id = :userId "
+            + "and (u.userStatus is null or u.userStatus <> :resigned))")
+    int deleteByCommentIdAndUserIdAndPostId(@Param("commentId") Long commentId, @Param("userId") Long userId,
+                                            @Param("postId") Long postId, @Param("resigned") UserStatus resigned);
+
+    // 회원이 탈퇴하지 않았고 댓글이 그 게시글에 있을 때만 넣는다. 아니면 0 을 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into comment_like (user_id, comment_id, post_id, created_at, last_modified_at) "
+            + "select u.user_id, c.comment_id, c.post_id, :now, :now from users u "
+            + "join comment c on c.comment_id = :commentId and c.post_id = :postId "
+            + "where u.user_id = :userId and (u.user_status is null or u.user_status <> :resigned)",
+            nativeQuery = true)
+    int insertForActiveUser(@Param("userId") Long userId, @Param("commentId") Long commentId,
+                            @Param("postId") Long postId, @Param("resigned") String resigned,
+                            @Param("now") LocalDateTime now);
+
+    @Query("select cl.comment.id from CommentLike cl where cl.user.id = :userId and cl.comment.id in :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIdIn(@Param("userId") Long userId,
+                                                    @Param("commentIds") Collection<Long> commentIds);
+}
@@ -0,0 +1,14 @@
+package com.devillage.teamproject.repository.comment;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+
+/**
+ * 대댓글을 쓸 때 필요한 부모 댓글의 게시글 식별자와 카테고리만 읽는 프로젝션.
+ */
+public interface CommentPostRow {
+    Long getCommentId();
+
+    Long getPostId();
+
+    CategoryType getCategoryType();
+}
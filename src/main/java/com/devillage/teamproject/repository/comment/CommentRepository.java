@@ -1,11 +1,35 @@
 package com.devillage.teamproject.repository.comment;
 
 import com.devillage.teamproject.entity.Comment;
-import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByPostId(Long postId, Pageable pageable);
+
+    @Query(value = "select c.id from Comment c where c.post.id = :postId order by c.id",
+            countQuery = "select count(c) from Comment c where c.post.id = :postId")
+    Page<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("select c.id as commentId, p.id as postId, cat.categoryType as categoryType from Comment c "
+            + "join c.post p left join p.category cat where c.id = :commentId")
+    Optional<CommentPostRow> findPostRowById(@Param("commentId") Long commentId);
+
+    // 게시글 조건을 같이 걸어 다른 게시글의 댓글이면 0 을 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.likeCount = coalesce(c.likeCount, 0) + :delta "
+            + "where c.id = :commentId and c.post.id = :postId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글과 작성자, 프로필 사진. 대댓글은 ReCommentRepository 에서 댓글마다 앞쪽 일부만 따로 읽는다.
+    @Query("select c from Comment c left join fetch c.user u left join fetch u.avatar where c.id in :commentIds")
+    List<Comment> findWithAuthorByIdIn(@Param("commentIds") Collection<Long> commentIds);
 }
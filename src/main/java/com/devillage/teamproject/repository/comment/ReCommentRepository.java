@@ -1,7 +1,26 @@
 package com.devillage.teamproject.repository.comment;
 
 import com.devillage.teamproject.entity.ReComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReCommentRepository extends JpaRepository<ReComment, Long> {
+
+    @EntityGraph(attributePaths = {"user", "user.avatar"})
+    Slice<ReComment> findByCommentIdAndIdGreaterThanOrderByIdAsc(Long commentId, Long after, Pageable pageable);
+
+    // 댓글마다 먼저 달린 대댓글 limit 개. re_comment.post_id 는 부모 댓글 식별자다.
+    @Query(value = "select * from (select r.*, row_number() over (partition by r.post_id order by r.re_comment_id) as rn "
+            + "from re_comment r where r.post_id in (:commentIds)) t "
+            + "where t.rn <= :limit order by t.post_id, t.re_comment_id",
+            nativeQuery = true)
+    List<ReComment> findHeadsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds,
+                                           @Param("limit") int limit);
 }
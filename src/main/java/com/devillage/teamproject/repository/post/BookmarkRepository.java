@@ -1,10 +1,28 @@
 package com.devillage.teamproject.repository.post;
 
 import com.devillage.teamproject.entity.Bookmark;
+import com.devillage.teamproject.entity.PostSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     List<Bookmark> findByUserIdAndPostId(Long userId, Long postId);
+    boolean existsByUserIdAndPostId(Long userId, Long postId);
+
+    @Query(value = "select s from Bookmark b join PostSummary s on s.postId = b.post.id "
+            + "where b.user.id = :userId order by b.id desc",
+            countQuery = "select count(b) from Bookmark b where b.user.id = :userId")
+    Page<PostSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select b.id as bookmarkId, s as summary from Bookmark b join PostSummary s on s.postId = b.post.id "
+            + "where b.user.id = :userId and b.id < :bookmarkId order by b.id desc")
+    Slice<BookmarkedPost> findSummariesByUserIdAndBookmarkIdLessThan(@Param("userId") Long userId,
+                                                                     @Param("bookmarkId") Long bookmarkId,
+                                                                     Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.PostSummary;
+
+public interface BookmarkedPost {
+    Long getBookmarkId();
+
+    PostSummary getSummary();
+}
@@ -0,0 +1,7 @@
+package com.devillage.teamproject.repository.post;
+
+public interface LegacyPostContent {
+    Long getPostId();
+
+    String getContent();
+}
@@ -2,10 +2,14 @@ package com.devillage.teamproject.repository.post;
 
 import com.devillage.teamproject.entity.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    List<Like> findByUserIdAndPostId(Long userId, Long postId);
-    Long countByPostId(Long postId);
+    boolean existsByUserIdAndPostId(Long userId, Long postId);
+
+    @Modifying
+    @Query("delete from Like l where l.user.id = :userId and l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -0,0 +1,12 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+
+/**
+ * 게시글 존재 여부와 카테고리만 확인하는 프로젝션. 카테고리가 없는 게시글은 categoryType 이 null 이다.
+ */
+public interface PostCategoryRow {
+    Long getPostId();
+
+    CategoryType getCategoryType();
+}
@@ -0,0 +1,7 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+}
@@ -1,12 +1,85 @@
 package com.devillage.teamproject.repository.post;
 
 import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.RelatedPost;
 import com.devillage.teamproject.entity.enums.CategoryType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findDistinctByCategory_CategoryType(CategoryType categoryType, Pageable pageable);
-    Page<Post> findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"body", "category", "user", "user.avatar", "tags", "tags.tag"})
+    @Query("select p from Post p where p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+
+    Optional<PostRevision> findRevisionById(Long id);
+
+    @Query("select p.id as postId, c.categoryType as categoryType from Post p left join p.category c "
+            + "where p.id = :postId")
+    Optional<PostCategoryRow> findCategoryById(@Param("postId") Long postId);
+
+    @Query("select p.id from Post p where p.id > :lastId order by p.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select distinct p from Post p left join fetch p.body left join fetch p.tags pt left join fetch pt.tag "
+            + "where p.id in :ids")
+    List<Post> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as postId, c.categoryType as categoryType, t.name as tagName from Post p "
+            + "left join p.category c left join p.tags pt left join pt.tag t where p.id in :postIds")
+    List<PostTagRow> findTagRowsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.likeCount = coalesce(p.likeCount, 0) + :delta where p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = (select count(l) from Like l where l.post.id = p.id) "
+            + "where p.id in :postIds")
+    int reconcileLikeCounts(@Param("postIds") Collection<Long> postIds);
+
+    // 댓글 수가 바뀌면 게시글 표현도 바뀌므로 버전도 같은 UPDATE 에서 올린다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.commentCount = coalesce(p.commentCount, 0) + :delta, "
+            + "p.revision = coalesce(p.revision, 0) + 1, p.revisedAt = :revisedAt where p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta,
+                        @Param("revisedAt") LocalDateTime revisedAt);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = "
+            + "(select count(c) from Comment c where c.post.id = p.id) "
+            + "+ (select count(r) from ReComment r where r.comment.post.id = p.id) "
+            + "where p.id in :postIds")
+    int reconcileCommentCounts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.revision = coalesce(p.revision, 0) + 1, p.revisedAt = :revisedAt "
+            + "where p.id = :postId")
+    int increaseRevision(@Param("postId") Long postId, @Param("revisedAt") LocalDateTime revisedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.relatedPosts = :relatedPosts where p.id = :postId")
+    int updateRelatedPosts(@Param("postId") Long postId, @Param("relatedPosts") List<RelatedPost> relatedPosts);
+
+    // post_content 테이블 도입 이전 게시글의 post.content 컬럼. 새로 만든 스키마에는 이 컬럼이 없다.
+    @Query(value = "select p.post_id as postId, p.content as content from post p "
+            + "where p.post_content_id is null and p.post_id > :lastId order by p.post_id limit :size",
+            nativeQuery = true)
+    List<LegacyPostContent> findLegacyContentsAfter(@Param("lastId") Long lastId, @Param("size") int size);
+
+    @Modifying
+    @Query(value = "update post set post_content_id = :postContentId, content = null where post_id = :postId",
+            nativeQuery = true)
+    int moveLegacyContent(@Param("postId") Long postId, @Param("postContentId") Long postContentId);
 }
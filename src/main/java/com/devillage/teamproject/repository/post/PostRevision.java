@@ -0,0 +1,18 @@
+package com.devillage.teamproject.repository.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 GET 검증에 필요한 게시글 컬럼만 읽는 프로젝션.
+ */
+public interface PostRevision {
+    Long getId();
+
+    Long getRevision();
+
+    LocalDateTime getLastModifiedAt();
+
+    LocalDateTime getPostLastModifiedAt();
+
+    LocalDateTime getRevisedAt();
+}
@@ -0,0 +1,52 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.PostSummary;
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface PostSummaryRepository extends JpaRepository<PostSummary, Long> {
+    Page<PostSummary> findByCategoryType(CategoryType categoryType, Pageable pageable);
+    Slice<PostSummary> findByPostIdLessThan(Long postId, Pageable pageable);
+    Slice<PostSummary> findByCategoryTypeAndPostIdLessThan(CategoryType categoryType, Long postId, Pageable pageable);
+
+    @Query(value = "select s from PostSummary s where s.postId in (select pt.post.id from PostTag pt where pt.tag = :tag)",
+            countQuery = "select count(distinct pt.post.id) from PostTag pt where pt.tag = :tag")
+    Page<PostSummary> findByTag(@Param("tag") Tag tag, Pageable pageable);
+
+    @Query("select s from PostSummary s where s.postId in (select pt.post.id from PostTag pt where pt.tag = :tag) "
+            + "and s.postId < :postId")
+    Slice<PostSummary> findByTagAndPostIdLessThan(@Param("tag") Tag tag, @Param("postId") Long postId, Pageable pageable);
+
+    @Modifying
+    @Query("update PostSummary s set s.likeCount = coalesce(s.likeCount, 0) + :delta where s.postId = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update PostSummary s set s.commentCount = s.commentCount + :delta where s.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update PostSummary s set s.authorNickName = :nickName, s.authorAvatar = :avatar where s.authorId = :authorId")
+    int updateAuthor(@Param("authorId") Long authorId, @Param("nickName") String nickName, @Param("avatar") String avatar);
+
+    @Modifying
+    @Query("update PostSummary s set s.commentCount = "
+            + "(select count(c) from Comment c where c.post.id = s.postId) "
+            + "+ (select count(r) from ReComment r where r.comment.post.id = s.postId) "
+            + "where s.postId in :postIds")
+    int reconcileCommentCounts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("update PostSummary s set s.likeCount = (select count(l) from Like l where l.post.id = s.postId) "
+            + "where s.postId in :postIds")
+    int reconcileLikeCounts(@Param("postIds") Collection<Long> postIds);
+}
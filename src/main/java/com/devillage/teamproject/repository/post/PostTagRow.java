@@ -0,0 +1,14 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+
+/**
+ * 게시글 하나에 태그 하나씩 펼친 행. 태그가 없는 게시글은 tagName 이 null 인 행 하나로 나온다.
+ */
+public interface PostTagRow {
+    Long getPostId();
+
+    CategoryType getCategoryType();
+
+    String getTagName();
+}
@@ -5,8 +5,14 @@ import com.devillage.teamproject.entity.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     Page<PostTag> findDistinctByTag(Tag tag, Pageable pageable);
-    void deleteByPostId(Long postId);
+
+    @Modifying
+    @Query("delete from PostTag pt where pt.post.id = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
 }
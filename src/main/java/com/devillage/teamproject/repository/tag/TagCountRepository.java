@@ -0,0 +1,35 @@
+package com.devillage.teamproject.repository.tag;
+
+import com.devillage.teamproject.entity.TagCount;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagCountRepository extends JpaRepository<TagCount, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("update TagCount tc set tc.usageCount = tc.usageCount + :delta "
+            + "where tc.tag.id in :tagIds and tc.categoryType in :categoryTypes")
+    int addUsageCounts(@Param("tagIds") Collection<Long> tagIds,
+                       @Param("categoryTypes") Collection<CategoryType> categoryTypes,
+                       @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update TagCount tc set tc.usageCount = (select count(pt.id) from PostTag pt join pt.post p join p.category c "
+            + "where pt.tag = tc.tag and (tc.categoryType = :all or c.categoryType = tc.categoryType)) "
+            + "where tc.tag.id in :tagIds")
+    int reconcileUsageCounts(@Param("tagIds") Collection<Long> tagIds, @Param("all") CategoryType all);
+
+    @Query("select tc.tagName as name, tc.usageCount as usageCount from TagCount tc "
+            + "where tc.categoryType = :categoryType and tc.usageCount > 0 order by tc.usageCount desc, tc.tagName")
+    List<TagUsage> findPopular(@Param("categoryType") CategoryType categoryType, Pageable pageable);
+
+    @Query("select tc.tagName as name, tc.usageCount as usageCount from TagCount tc where tc.categoryType = :categoryType")
+    List<TagUsage> findUsagesByCategoryType(@Param("categoryType") CategoryType categoryType);
+}
@@ -1,10 +1,23 @@
 package com.devillage.teamproject.repository.tag;
 
 import com.devillage.teamproject.entity.Tag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findTagByName(String name);
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    @Query("select t.id from Tag t where t.id > :lastId order by t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select t.id from Tag t where t.id > :lastId "
+            + "and not exists (select tc.id from TagCount tc where tc.tag = t) order by t.id")
+    List<Long> findIdsWithoutCountAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
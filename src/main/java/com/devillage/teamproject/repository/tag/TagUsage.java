@@ -0,0 +1,7 @@
+package com.devillage.teamproject.repository.tag;
+
+public interface TagUsage {
+    String getName();
+
+    long getUsageCount();
+}
@@ -1,11 +1,21 @@
 package com.devillage.teamproject.repository.user;
 
 import com.devillage.teamproject.entity.User;
+import com.devillage.teamproject.entity.enums.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findUserByEmail(String email);
     boolean existsByNickName(String nickName);
+
+    // 탈퇴한 회원이거나 없는 회원이면 0 을 반환한다.
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.point = coalesce(u.point, 0) + 1, u.commentCount = coalesce(u.commentCount, 0) + 1 "
+            + "where u.id = :userId and (u.userStatus is null or u.userStatus <> :resigned)")
+    int earnCommentPoint(@Param("userId") Long userId, @Param("resigned") UserStatus resigned);
 }
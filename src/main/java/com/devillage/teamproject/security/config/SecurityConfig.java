@@ -65,6 +65,8 @@ public class SecurityConfig {
                 .mvcMatchers(POST, "/chat/**").hasAnyRole("USER","MANAGER","ADMIN")
                 .mvcMatchers(GET, "/ws/**").permitAll()
                 .mvcMatchers(GET, "/board/**").permitAll()
+                .mvcMatchers(GET, "/tags/**").permitAll()
+                .mvcMatchers(GET, "/actuator/**").hasRole("ADMIN")
                 .anyRequest().denyAll()
                 .and()
                 .exceptionHandling()
@@ -3,8 +3,10 @@ package com.devillage.teamproject.service.comment;
 import com.devillage.teamproject.entity.Comment;
 import com.devillage.teamproject.entity.ReComment;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentService {
     Comment createComment(Comment comment, String token);
@@ -15,7 +17,9 @@ public interface CommentService {
 
     Comment likeComment(Long userId,Long postId,Long commentId);
 
-    Page<Comment> findComments(Long postId, int page, int size);
+    Page<CommentThread> findComments(Long postId, int page, int size);
+
+    Set<Long> findLikedCommentIds(Long userId, List<Long> commentIds);
 
     void deleteComment(Long commentId, String token);
 
@@ -23,7 +27,7 @@ public interface CommentService {
 
     ReComment editReComment(Long postId, Long commentId, Long reCommentId, String content);
 
-    List<ReComment> findReComments();
+    Slice<ReComment> findReComments(Long postId, Long commentId, Long after, int size);
 
     void deleteReComment(Long postId, Long commentId, Long reCommentId);
 
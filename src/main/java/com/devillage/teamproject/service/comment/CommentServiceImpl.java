@@ -1,28 +1,47 @@
 package com.devillage.teamproject.service.comment;
 
 import com.devillage.teamproject.entity.*;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.entity.enums.UserStatus;
+import com.devillage.teamproject.event.CommentEvent;
 import com.devillage.teamproject.exception.BusinessLogicException;
 import com.devillage.teamproject.exception.ExceptionCode;
+import com.devillage.teamproject.repository.UniqueConstraints;
 import com.devillage.teamproject.repository.comment.CommentLikeRepository;
+import com.devillage.teamproject.repository.comment.CommentPostRow;
 import com.devillage.teamproject.repository.comment.CommentRepository;
 import com.devillage.teamproject.repository.comment.ReCommentRepository;
 import com.devillage.teamproject.security.util.JwtTokenUtil;
 import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.TrendingPostRanker;
 import com.devillage.teamproject.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
+    // 댓글 목록에 같이 내려주는 대댓글 수. 나머지는 findReComments 로 이어서 조회한다.
+    static final int RE_COMMENT_PREVIEW_SIZE = 3;
 
     private final CommentRepository commentRepository;
     private final ReCommentRepository reCommentRepository;
@@ -30,13 +49,23 @@ public class CommentServiceImpl implements CommentService {
     private final JwtTokenUtil jwtTokenUtil;
     private final PostService postService;
     private final UserService userService;
+    private final TrendingPostRanker trendingPostRanker;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate requiresNewTransactionTemplate;
 
     @Override
     public Comment createComment(Comment comment, String token) {
-        User user = userService.findVerifiedUser(jwtTokenUtil.getUserId(token));
-        Post post = postService.getPost(comment.getPost().getId());
-        user.earnPoint(User.PointEnum.comment);
-        return commentRepository.save(Comment.createComment(comment, user, post));
+        // 회원과 게시글은 읽지 않고 식별자 참조로만 연결한다.
+        Long userId = jwtTokenUtil.getUserId(token);
+        Long postId = comment.getPost().getId();
+        CategoryType categoryType = postService.findVerifiedCategoryType(postId);
+        userService.earnCommentPoint(userId);
+        Comment savedComment = commentRepository.save(Comment.createComment(comment,
+                userService.getUserReference(userId), postService.getPostReference(postId)));
+        postService.addCommentCount(postId, 1L);
+        trendingPostRanker.recordComment(postId, categoryType);
+        applicationEventPublisher.publishEvent(CommentEvent.created(savedComment));
+        return savedComment;
     }
 
     @Override
@@ -58,45 +87,79 @@ public class CommentServiceImpl implements CommentService {
         }
 
         comment.setContent(content);
+        postService.touchPost(postId);
+        applicationEventPublisher.publishEvent(CommentEvent.updated(comment));
 
         return comment;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Comment likeComment(Long userId,Long postId, Long commentId) {
-        User user = userService.findVerifiedUser(userId);
-        Post post = postService.findVerifyPost(postId);
-        Comment comment = findVerifiedComment(commentId);
-
-        List<CommentLike> commentLikes = commentLikeRepository.findByCommentIdAndUserIdAndPostId(commentId, userId, postId);
-        Long count = commentLikeRepository.countByCommentId(commentId);
+        // 같은 회원의 동시 요청이 먼저 좋아요를 넣어 유니크 제약에 걸리면 그 요청이 반영한 상태를 돌려준다.
+        // 토글은 별도 트랜잭션(REQUIRES_NEW)에서 하고 위반은 그 경계 밖에서 잡는다(PostServiceImpl.postLike 와 같다).
+        try {
+            return requiresNewTransactionTemplate.execute(status -> toggleLike(userId, postId, commentId));
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 위반 등 다른 무결성 오류는 좋아요가 반영되지 않았으므로 그대로 던진다.
+            if (!UniqueConstraints.isViolated(e, CommentLike.USER_COMMENT_CONSTRAINT)) {
+                throw e;
+            }
+            return requiresNewTransactionTemplate.execute(status -> findVerifiedComment(commentId));
+        }
+    }
 
-        if (!commentLikes.isEmpty()) {
-            commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(commentId,userId,postId);
-            count -= 1L;
+    private Comment toggleLike(Long userId, Long postId, Long commentId) {
+        // (user_id, comment_id) 유니크 제약으로 중복 좋아요를 막고, 좋아요 수는 원자적 UPDATE 로만 증감한다.
+        // 회원은 읽지 않고 탈퇴 여부를 DELETE, INSERT 조건으로 같이 확인한다.
+        long delta;
+        if (commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(commentId, userId, postId,
+                UserStatus.RESIGNED) > 0) {
+            delta = -1L;
+        } else if (commentLikeRepository.insertForActiveUser(userId, commentId, postId,
+                UserStatus.RESIGNED.name(), LocalDateTime.now()) > 0) {
+            delta = 1L;
         } else {
-            CommentLike commentLike = new CommentLike(user, comment, post);
-            user.addCommentLike(commentLike);
-            post.addCommentLike(commentLike);
-            count += 1L;
+            // 실패했을 때만 회원을 읽어 없는 회원·탈퇴한 회원이면 그 예외를 던진다.
+            userService.findVerifiedUser(userId);
+            throw new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND);
+        }
+        if (commentRepository.addLikeCount(commentId, postId, delta) == 0) {
+            throw new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND);
+        }
 
+        postService.touchPost(postId);
+        return findVerifiedComment(commentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CommentThread> findComments(Long postId, int page, int size) {
+        postService.findVerifyPost(postId);
+        Page<Long> commentIds = commentRepository.findIdsByPostId(postId, PageRequest.of(page, size));
+        if (commentIds.isEmpty()) {
+            return new PageImpl<>(List.of(), commentIds.getPageable(), commentIds.getTotalElements());
         }
-        comment.setLikeCount(count);
-        return comment;
+
+        Map<Long, Comment> comments = commentRepository.findWithAuthorByIdIn(commentIds.getContent()).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        Map<Long, List<ReComment>> reComments = reCommentRepository
+                .findHeadsByCommentIdIn(commentIds.getContent(), RE_COMMENT_PREVIEW_SIZE + 1).stream()
+                .collect(Collectors.groupingBy(reComment -> reComment.getComment().getId()));
+        return new PageImpl<>(commentIds.stream()
+                .filter(comments::containsKey)
+                .map(commentId -> CommentThread.of(comments.get(commentId),
+                        reComments.getOrDefault(commentId, List.of()), RE_COMMENT_PREVIEW_SIZE))
+                .collect(Collectors.toList()), commentIds.getPageable(), commentIds.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Comment> findComments(Long postId, int page, int size) {
-        postService.getPost(postId);
-        Page<Comment> commentPage = commentRepository.findAllByPostId(postId, PageRequest.of(page, size));
-        commentPage.getContent().stream().forEach(
-                comment -> {
-                    comment.getCommentLikes();
-                    comment.getReComments().forEach(ReComment::getReCommentLikes);
-                }
-        );
-        return commentPage;
+    public Set<Long> findLikedCommentIds(Long userId, List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(commentLikeRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIds));
     }
 
     @Override
@@ -106,20 +169,34 @@ public class CommentServiceImpl implements CommentService {
             throw new BusinessLogicException(ExceptionCode.USER_UNAUTHORIZED);
         }
         comment.getUser().reducePoint(User.PointEnum.comment);
+        postService.addCommentCount(comment.getPost().getId(), -(1L + comment.getReComments().size()));
 //        if (comment.getReComments().size() == 0) {
             commentRepository.delete(comment);
 //            return;
 //        }
 
 //        comment.deleteComment();
+        applicationEventPublisher.publishEvent(CommentEvent.deleted(comment.getPost().getId(), commentId));
     }
 
     @Override
     public ReComment createReComment(ReComment reComment, String token) {
-        Comment comment = findVerifiedComment(reComment.getComment().getId());
-        User user = userService.findVerifiedUser(jwtTokenUtil.getUserId(token));
-        user.earnPoint(User.PointEnum.comment);
-        return reCommentRepository.save(ReComment.createReComment(user, comment, reComment.getContent()));
+        Long userId = jwtTokenUtil.getUserId(token);
+        CommentPostRow comment = commentRepository.findPostRowById(reComment.getComment().getId())
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND));
+        Post requestedPost = reComment.getComment().getPost();
+        if (requestedPost != null && !comment.getPostId().equals(requestedPost.getId())) {
+            throw new BusinessLogicException(ExceptionCode.ID_DOES_NOT_MATCH);
+        }
+
+        userService.earnCommentPoint(userId);
+        ReComment savedReComment = reCommentRepository.save(ReComment.createReComment(
+                userService.getUserReference(userId), commentRepository.getReferenceById(comment.getCommentId()),
+                reComment.getContent()));
+        postService.addCommentCount(comment.getPostId(), 1L);
+        trendingPostRanker.recordComment(comment.getPostId(), comment.getCategoryType());
+        applicationEventPublisher.publishEvent(CommentEvent.created(comment.getPostId(), savedReComment));
+        return savedReComment;
     }
 
     @Override
@@ -136,14 +213,22 @@ public class CommentServiceImpl implements CommentService {
         }
 
         reComment.setContent(content);
+        postService.touchPost(postId);
+        applicationEventPublisher.publishEvent(CommentEvent.updated(postId, reComment));
 
         return reComment;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReComment> findReComments() {
-        return null;
+    public Slice<ReComment> findReComments(Long postId, Long commentId, Long after, int size) {
+        Comment comment = findVerifiedComment(commentId);
+        if (!comment.getPost().getId().equals(postId)) {
+            throw new BusinessLogicException(ExceptionCode.ID_DOES_NOT_MATCH);
+        }
+
+        return reCommentRepository.findByCommentIdAndIdGreaterThanOrderByIdAsc(commentId,
+                after == null ? 0L : after, PageRequest.of(0, size));
     }
 
     @Override
@@ -160,7 +245,9 @@ public class CommentServiceImpl implements CommentService {
         }
 
         reComment.getUser().reducePoint(User.PointEnum.comment);
+        postService.addCommentCount(postId, -1L);
         reCommentRepository.deleteById(reCommentId);
+        applicationEventPublisher.publishEvent(CommentEvent.deleted(postId, commentId, reCommentId));
     }
 
 
@@ -0,0 +1,32 @@
+package com.devillage.teamproject.service.comment;
+
+import com.devillage.teamproject.event.CommentEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 댓글 변경을 /topic/posts/{postId}/comments 구독자에게 보낸다.
+ * 브로커 채널은 별도 스레드 풀에서 처리하므로(WebSocketConfig) 요청 스레드는 메시지를 넘기기만 하고 바로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamPublisher {
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    static String destinationOf(Long postId) {
+        return "/topic/posts/" + postId + "/comments";
+    }
+
+    @TransactionalEventListener
+    public void handleCommentEvent(CommentEvent event) {
+        try {
+            messagingTemplate.convertAndSend(destinationOf(event.getPostId()), event);
+        } catch (RuntimeException e) {
+            log.warn("failed to publish comment event of post {}", event.getPostId(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.devillage.teamproject.service.comment;
+
+import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.ReComment;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 하나와 앞쪽 대댓글 일부. 나머지 대댓글은 마지막 대댓글 식별자를 커서로 따로 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentThread {
+    private final Comment comment;
+    private final List<ReComment> reComments;
+    private final boolean hasMoreReComments;
+
+    /**
+     * previewSize 보다 하나 더 읽어 온 대댓글로 다음 대댓글이 있는지 판단한다.
+     */
+    public static CommentThread of(Comment comment, List<ReComment> firstReComments, int previewSize) {
+        boolean hasMore = firstReComments.size() > previewSize;
+        return new CommentThread(comment,
+                hasMore ? List.copyOf(firstReComments.subList(0, previewSize)) : List.copyOf(firstReComments),
+                hasMore);
+    }
+}
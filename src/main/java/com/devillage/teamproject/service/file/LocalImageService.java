@@ -5,6 +5,7 @@ import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.exception.BusinessLogicException;
 import com.devillage.teamproject.exception.ExceptionCode;
 import com.devillage.teamproject.repository.file.FileRepository;
+import com.devillage.teamproject.service.summary.PostSummaryService;
 import com.devillage.teamproject.service.user.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,10 +31,13 @@ import java.util.UUID;
 public class LocalImageService implements FileService {
     private final FileRepository fileRepository;
     private final UserService userService;
+    private final PostSummaryService postSummaryService;
 
-    public LocalImageService(FileRepository fileRepository, UserService userService) {
+    public LocalImageService(FileRepository fileRepository, UserService userService,
+                             PostSummaryService postSummaryService) {
         this.fileRepository = fileRepository;
         this.userService = userService;
+        this.postSummaryService = postSummaryService;
     }
 
     @Override
@@ -172,6 +176,7 @@ public class LocalImageService implements FileService {
         if (pastAvatar != null) {
             fileRepository.delete(pastAvatar);
         }
+        postSummaryService.updateAuthor(findUser);
         return findUser;
     }
 
@@ -180,6 +185,7 @@ public class LocalImageService implements FileService {
         User findUser = userService.findVerifiedUser(userId);
         Long fileId = findUser.getAvatar().getId();
         findUser.addAvatar(null);
+        postSummaryService.updateAuthor(findUser);
         deleteFile(fileId, userId);
     }
 }
@@ -7,6 +7,7 @@ import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.exception.BusinessLogicException;
 import com.devillage.teamproject.exception.ExceptionCode;
 import com.devillage.teamproject.repository.file.FileRepository;
+import com.devillage.teamproject.service.summary.PostSummaryService;
 import com.devillage.teamproject.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +33,7 @@ public class S3ImageService implements FileService {
     private final AmazonS3 amazonS3;
     private final UserService userService;
     private final FileRepository fileRepository;
+    private final PostSummaryService postSummaryService;
 
     @Override
     public File saveFile(Long ownerUserId, MultipartFile multipartFile, StringBuffer requestURL) {
@@ -108,6 +110,7 @@ public class S3ImageService implements FileService {
         if (pastAvatar != null) {
             fileRepository.delete(pastAvatar);
         }
+        postSummaryService.updateAuthor(findUser);
         return findUser;
     }
 
@@ -116,6 +119,7 @@ public class S3ImageService implements FileService {
         User findUser = userService.findVerifiedUser(userId);
         Long fileId = findUser.getAvatar().getId();
         findUser.addAvatar(null);
+        postSummaryService.updateAuthor(findUser);
         deleteFile(fileId, userId);
     }
 
@@ -0,0 +1,72 @@
+package com.devillage.teamproject.service.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 기동 시 post.content 컬럼에 남아 있는 본문(post_content 도입 이전 게시글)을 post_content 로 옮긴다.
+ * 처음부터 post_content 로 만든 스키마에는 post.content 컬럼이 없으므로, 컬럼이 있을 때만 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(0) // 검색 색인과 관련 게시글 서명이 본문을 읽기 전에 옮긴다.
+public class PostContentMigrator implements ApplicationRunner {
+    private static final int MIGRATE_BATCH_SIZE = 500;
+    private static final String LEGACY_TABLE = "post";
+    private static final String LEGACY_COLUMN = "content";
+
+    private final PostService postService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!hasLegacyColumn()) {
+            log.debug("no legacy post.content column to migrate");
+            return;
+        }
+
+        Long lastId = 0L;
+        long batches = 0L;
+        try {
+            while ((lastId = postService.migrateLegacyContents(lastId, MIGRATE_BATCH_SIZE)) != null) {
+                batches++;
+            }
+        } catch (DataAccessException e) {
+            // 옮긴 배치는 커밋되어 있으므로 다음 기동 때 남은 게시글부터 이어서 옮긴다.
+            log.error("failed to move legacy post contents after {} batches", batches, e);
+            return;
+        }
+        if (batches > 0) {
+            log.info("moved legacy post contents to post_content : {} batches", batches);
+        }
+    }
+
+    boolean hasLegacyColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    identifier(metaData, LEGACY_TABLE), identifier(metaData, LEGACY_COLUMN))) {
+                return columns.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // H2 는 따옴표 없는 이름을 대문자로, MySQL 은 그대로 저장한다.
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+}
@@ -0,0 +1,91 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.entity.PostContent;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 게시글을 저장할 때 마크다운 본문을 HTML, 요약, 읽는 시간으로 미리 렌더링해 post_content 에 저장한다.
+ * 조회는 저장된 결과를 그대로 내려주므로 렌더링 비용이 없고, 본문 해시가 같으면 다시 렌더링하지 않는다.
+ * <p>
+ * 본문에 쓴 HTML 태그는 그대로 출력하지 않고 이스케이프하며, javascript: 같은 링크 주소는 제거한다.
+ */
+@Component
+public class PostContentRenderer {
+    static final int EXCERPT_LENGTH = 200;
+    // 분당 읽는 양. 한글은 글자, 그 밖의 글은 단어 단위로 센다.
+    private static final int HANGUL_CHARS_PER_MINUTE = 500;
+    private static final int WORDS_PER_MINUTE = 200;
+
+    private final boolean enabled;
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+    private final TextContentRenderer textRenderer = TextContentRenderer.builder()
+            .stripNewlines(true)
+            .build();
+
+    public PostContentRenderer(@Value("${post.render.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void render(PostContent body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        String text = body.getText();
+        String contentHash = sha256(text);
+        if (contentHash.equals(body.getContentHash())) {
+            return;
+        }
+
+        Node document = parser.parse(text);
+        String plainText = textRenderer.render(document).replaceAll("\\s+", " ").strip();
+        body.render(contentHash, htmlRenderer.render(document), excerptOf(plainText), readingMinutesOf(plainText));
+    }
+
+    private static String excerptOf(String plainText) {
+        if (plainText.length() <= EXCERPT_LENGTH) {
+            return plainText;
+        }
+        return plainText.substring(0, EXCERPT_LENGTH);
+    }
+
+    static int readingMinutesOf(String plainText) {
+        long hangulChars = plainText.chars()
+                .filter(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL)
+                .count();
+        long words = 0L;
+        for (String word : plainText.split("\\s+")) {
+            if (!word.isEmpty() && word.codePoints()
+                    .noneMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL)) {
+                words++;
+            }
+        }
+        double minutes = (double) hangulChars / HANGUL_CHARS_PER_MINUTE + (double) words / WORDS_PER_MINUTE;
+        return Math.max(1, (int) Math.ceil(minutes));
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
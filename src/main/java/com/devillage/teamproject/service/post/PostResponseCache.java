@@ -0,0 +1,167 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.dto.CachedPostDetail;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세와 카테고리 앞쪽 페이지의 직렬화된 응답 캐시.
+ * 노드별 로컬 캐시이므로 다른 노드의 쓰기는 TTL 이 지나야 반영된다.
+ * <p>
+ * 같은 키의 동시 미스는 {@link SingleFlight} 로 한 번만 로딩한다.
+ * TTL 이 지난 항목은 stale 구간 동안 남겨 두고, 한 요청이 다시 로딩하는 사이 다른 요청에는 이전 값을 준다.
+ * 쓰기로 인한 무효화는 항목을 바로 지우므로 stale 응답 대상이 아니다.
+ */
+@Component
+public class PostResponseCache {
+    private static final String ALL_CATEGORIES = CategoryType.ALL.name();
+
+    private final Cache<Long, Loaded<CachedPostDetail>> details;
+    private final Cache<String, Loaded<String>> categoryPages;
+    private final SingleFlight<Long, CachedPostDetail> detailLoads;
+    private final SingleFlight<String, String> categoryPageLoads;
+    // 로딩 도중 무효화가 있었는지 판단하기 위한 세대 번호
+    private final AtomicLong detailEpoch = new AtomicLong();
+    private final AtomicLong categoryPageEpoch = new AtomicLong();
+    private final Counter staleServed;
+    private final Ticker ticker;
+    private final long freshNanos;
+    private final int maxCachedPage;
+
+    @Autowired
+    public PostResponseCache(@Value("${post.response-cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${post.response-cache.max-size:10000}") long maxSize,
+                             @Value("${post.response-cache.max-page:3}") int maxCachedPage,
+                             @Value("${post.response-cache.stale-seconds:30}") long staleSeconds,
+                             MeterRegistry meterRegistry) {
+        this(ttlSeconds, maxSize, maxCachedPage, staleSeconds, meterRegistry, Ticker.systemTicker());
+    }
+
+    PostResponseCache(long ttlSeconds, long maxSize, int maxCachedPage, long staleSeconds,
+                      MeterRegistry meterRegistry, Ticker ticker) {
+        this.maxCachedPage = maxCachedPage;
+        this.ticker = ticker;
+        this.freshNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        Duration retention = Duration.ofSeconds(ttlSeconds + staleSeconds);
+        this.details = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.categoryPages = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "postDetailResponse");
+        CaffeineCacheMetrics.monitor(meterRegistry, categoryPages, "postCategoryPageResponse");
+
+        this.detailLoads = new SingleFlight<>(coalescedCounter(meterRegistry, "postDetailResponse"));
+        this.categoryPageLoads = new SingleFlight<>(coalescedCounter(meterRegistry, "postCategoryPageResponse"));
+        this.staleServed = Counter.builder("post.response.stale")
+                .description("responses served from an expired entry while another request reloaded it")
+                .register(meterRegistry);
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String cacheName) {
+        return Counter.builder("post.response.coalesced")
+                .description("requests that waited on an in-flight load instead of loading themselves")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    public CachedPostDetail getPostDetail(Long postId, Function<Long, CachedPostDetail> loader) {
+        return get(details, detailLoads, detailEpoch, postId, () -> loader.apply(postId));
+    }
+
+    public String getCategoryPage(String category, int page, int size, Supplier<String> loader) {
+        String key = category.toUpperCase() + ":" + page + ":" + size;
+        if (page > maxCachedPage) {
+            // 캐시하지 않는 페이지도 동시 요청은 한 번의 조회로 합친다.
+            return categoryPageLoads.execute(key, loader);
+        }
+        return get(categoryPages, categoryPageLoads, categoryPageEpoch, key, loader);
+    }
+
+    public void evictPost(Long postId) {
+        evictNowAndAfterCommit(() -> {
+            detailEpoch.incrementAndGet();
+            detailLoads.forget(postId::equals);
+            details.invalidate(postId);
+        });
+    }
+
+    public void evictCategory(CategoryType categoryType) {
+        Predicate<String> matches = key -> key.startsWith(ALL_CATEGORIES + ":")
+                || (categoryType != null && key.startsWith(categoryType.name() + ":"));
+        evictNowAndAfterCommit(() -> {
+            categoryPageEpoch.incrementAndGet();
+            categoryPageLoads.forget(matches);
+            categoryPages.asMap().keySet().removeIf(matches);
+        });
+    }
+
+    private <K, V> V get(Cache<K, Loaded<V>> cache, SingleFlight<K, V> loads, AtomicLong epoch,
+                         K key, Supplier<V> loader) {
+        Loaded<V> loaded = cache.getIfPresent(key);
+        if (loaded != null) {
+            if (ticker.read() - loaded.loadedAt < freshNanos) {
+                return loaded.value;
+            }
+            if (loads.isInFlight(key)) {
+                staleServed.increment();
+                return loaded.value;
+            }
+        }
+
+        return loads.execute(key, () -> {
+            long observed = epoch.get();
+            V value = loader.get();
+            cache.put(key, new Loaded<>(value, ticker.read()));
+            // 로딩 중에 무효화가 있었다면 쓰기 이전 값일 수 있으므로 캐시에 남기지 않는다.
+            if (epoch.get() != observed) {
+                cache.invalidate(key);
+            }
+            return value;
+        });
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // 커밋 전에 다른 요청이 이전 상태를 다시 캐시했을 수 있으므로 커밋 후 한 번 더 비운다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static class Loaded<V> {
+        private final V value;
+        private final long loadedAt;
+    }
+}
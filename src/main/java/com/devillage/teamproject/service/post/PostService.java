@@ -1,10 +1,14 @@
 package com.devillage.teamproject.service.post;
 
+import com.devillage.teamproject.dto.PostDto;
 import com.devillage.teamproject.entity.Bookmark;
 import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.PostSummary;
 import com.devillage.teamproject.entity.ReportedPost;
 import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.post.BookmarkedPost;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,7 +19,19 @@ public interface PostService {
 
     Post editPost(Post post, CategoryType categoryType, List<String> tags, Long userId,Long postId);
 
-    Post getPost(Long userId);
+    Post getPost(Long postId);
+
+    void countView(Long postId);
+
+    PostVersion getVersion(Long postId);
+
+    void touchPost(Long postId);
+
+    void addCommentCount(Long postId, long delta);
+
+    void updateRelatedPosts(Long postId, List<Long> relatedPostIds);
+
+    PostDto.Response.ViewerCount recordViewer(Long postId, CategoryType categoryType, String viewer);
 
     Bookmark postBookmark(Long userId, Long postId);
 
@@ -23,17 +39,42 @@ public interface PostService {
 
     Post postLike(Long userId, Long postId);
 
-    Page<Post> getPostsByCategory(String category, int page, int size);
+    Long reconcileLikeCounts(Long lastPostId, int size);
+
+    Long reconcileCommentCounts(Long lastPostId, int size);
+
+    Long migrateLegacyContents(Long lastPostId, int size);
+
+    boolean isLiked(Long userId, Long postId);
 
-    Page<Post> getPostsBySearch(String word, int page, int size);
+    boolean isBookmarked(Long userId, Long postId);
 
-    Page<Post> getPostsByTag(String tag, int page, int size);
+    Page<PostSummary> getPostsByCategory(String category, int page, int size);
 
-    Page<Post> getPostsByBookmark(Long userId, int page, int size);
+    List<PostSummary> getTrendingPosts(String category, int size);
+
+    Page<PostSummary> getPostsBySearch(String word, int page, int size);
+
+    Page<PostSummary> getPostsByTag(String tag, int page, int size);
+
+    Slice<PostSummary> getPostsByCategory(String category, Long after, int size);
+
+    Slice<PostSummary> getPostsBySearch(String word, Long after, int size);
+
+    Slice<PostSummary> getPostsByTag(String tag, Long after, int size);
+
+    Slice<PostSummary> getPostsByTags(List<String> allOf, List<String> anyOf, List<String> noneOf,
+                                      String category, Long after, int size);
+
+    Page<PostSummary> getPostsByBookmark(Long userId, int page, int size);
+
+    Slice<BookmarkedPost> getPostsByBookmark(Long userId, Long after, int size);
 
     void deletePost(Long postId);
 
     Post findVerifyPost(Long postId);
 
-    Long updateClicks(Post post);
+    CategoryType findVerifiedCategoryType(Long postId);
+
+    Post getPostReference(Long postId);
 }
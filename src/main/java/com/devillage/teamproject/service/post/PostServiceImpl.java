@@ -1,33 +1,53 @@
 package com.devillage.teamproject.service.post;
 
+import com.devillage.teamproject.dto.PostDto;
 import com.devillage.teamproject.entity.*;
 import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.entity.enums.ReportType;
+import com.devillage.teamproject.event.PostEvent;
 import com.devillage.teamproject.exception.BusinessLogicException;
 import com.devillage.teamproject.exception.ExceptionCode;
+import com.devillage.teamproject.repository.UniqueConstraints;
 import com.devillage.teamproject.repository.category.CategoryRepository;
 import com.devillage.teamproject.repository.file.FileRepository;
 import com.devillage.teamproject.repository.post.BookmarkRepository;
+import com.devillage.teamproject.repository.post.BookmarkedPost;
+import com.devillage.teamproject.repository.post.LegacyPostContent;
 import com.devillage.teamproject.repository.post.LikeRepository;
+import com.devillage.teamproject.repository.post.PostCategoryRow;
+import com.devillage.teamproject.repository.post.PostContentRepository;
 import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.repository.post.PostSummaryRepository;
 import com.devillage.teamproject.repository.post.ReportedPostRepository;
 import com.devillage.teamproject.repository.posttag.PostTagRepository;
-import com.devillage.teamproject.repository.tag.TagRepository;
 import com.devillage.teamproject.repository.user.UserRepository;
 import com.devillage.teamproject.service.file.FileService;
+import com.devillage.teamproject.service.search.PostSearchIndex;
+import com.devillage.teamproject.service.summary.PostSummaryService;
+import com.devillage.teamproject.service.tag.PostTagIndex;
+import com.devillage.teamproject.service.tag.TagService;
 import com.devillage.teamproject.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,16 +55,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class PostServiceImpl implements PostService {
 
+    // 태그 조합 조회에서 한 번에 내려주는 최대 게시글 수.
+    static final int MAX_TAG_SEARCH_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final PostContentRenderer postContentRenderer;
     private final BookmarkRepository bookmarkRepository;
     private final ReportedPostRepository reportedPostRepository;
     private final LikeRepository likeRepository;
     private final UserService userService;
     private final CategoryRepository categoryRepository;
-    private final TagRepository tagRepository;
+    private final TagService tagService;
     private final PostTagRepository postTagRepository;
     private final UserRepository userRepository;
     private final FileService fileService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSummaryRepository postSummaryRepository;
+    private final PostSummaryService postSummaryService;
+    private final PostViewCounter postViewCounter;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final PostResponseCache postResponseCache;
+    private final TrendingPostRanker trendingPostRanker;
+    private final PostTagIndex postTagIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate requiresNewTransactionTemplate;
 
     @Override
     public Post savePost(Post post, CategoryType categoryType, List<String> tagValue, Long userId) {
@@ -61,40 +96,17 @@ public class PostServiceImpl implements PostService {
                 }
         );
 
-        if(tagValue.size()==0 || tagValue.isEmpty()){
-            PostTag postTag = new PostTag();
-            postTagRepository.save(postTag);
-            post.addPostTag(postTag);
-            post.addCategory(category);
-            postRepository.save(post);
-            findUser.addPost(post);
-            post.addUser(findUser);
-        }
-        tagValue.forEach(
-                e -> {
-                    if (tagRepository.findTagByName(e).isEmpty()) {
-                        Tag tag = tagRepository.save(new Tag(e));
-                        PostTag postTag = new PostTag(post, tag);
-                        postTagRepository.save(postTag);
-                        post.addPostTag(postTag);
-                        post.addCategory(category);
-                        postRepository.save(post);
-                        findUser.addPost(post);
-                        post.addUser(findUser);
-                    } else {
-                        Tag tag = tagRepository.findTagByName(e).orElseThrow(IllegalArgumentException::new);
-                        PostTag postTag = new PostTag(post, tag);
-                        postTagRepository.save(postTag);
-                        post.addPostTag(postTag);
-                        post.addCategory(category);
-                        postRepository.save(post);
-                        findUser.addPost(post);
-                        post.addUser(findUser);
-                    }
-                }
-        );
+        post.addCategory(category);
+        post.addUser(findUser);
+        findUser.addPost(post);
+        postContentRenderer.render(post.getBody());
+        postRepository.save(post);
+        List<String> tagNames = savePostTags(post, tagValue);
+        postSummaryService.refresh(post, tagNames);
 
         findUser.earnPoint(User.PointEnum.post);
+        postResponseCache.evictCategory(categoryType);
+        applicationEventPublisher.publishEvent(PostEvent.created(post, tagNames));
         return post;
     }
 
@@ -104,7 +116,6 @@ public class PostServiceImpl implements PostService {
         if (!Objects.equals(verifiedPost.getUser().getId(), userId)) {
             throw new BusinessLogicException(ExceptionCode.USER_UNAUTHORIZED);
         }
-        User findUser = userRepository.findById(userId).orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
         post.getPostsFiles().forEach(
                 postsFile -> {
@@ -119,44 +130,17 @@ public class PostServiceImpl implements PostService {
                 .map(PostsFile::getFile).collect(Collectors.toList());
 
         Category category = categoryRepository.findCategoriesByCategoryType(categoryType);
+        postResponseCache.evictCategory(categoryTypeOf(verifiedPost));
+        tagService.addUsage(tagIdsOf(verifiedPost), categoryTypeOf(verifiedPost), -1L);
         postTagRepository.deleteByPostId(postId);
+        verifiedPost.getTags().clear();
 
-        if(tagValue.size()==0 || tagValue.isEmpty()){
-            PostTag postTag = new PostTag();
-            postTagRepository.save(postTag);
-            verifiedPost.addPostTag(postTag);
-            verifiedPost.addCategory(category);
-            verifiedPost.editPost(post);
-            postRepository.save(verifiedPost);
-            findUser.addPost(verifiedPost);
-            verifiedPost.addUser(findUser);
-        }
-        tagValue.forEach(
-                e -> {
-                    if (tagRepository.findTagByName(e).isEmpty()) {
-                        Tag tag = tagRepository.save(new Tag(e));
-                        PostTag postTag = new PostTag(verifiedPost, tag);
-                        postTagRepository.save(postTag);
-                        verifiedPost.addPostTag(postTag);
-                        verifiedPost.addCategory(category);
-                        verifiedPost.editPost(post);
-                        postRepository.save(verifiedPost);
-                        findUser.addPost(verifiedPost);
-                        verifiedPost.addUser(findUser);
-                    } else {
-                        Tag tag = tagRepository.findTagByName(e).orElseThrow(IllegalArgumentException::new);
-                        PostTag postTag = new PostTag(verifiedPost, tag);
-                        postTagRepository.save(postTag);
-                        verifiedPost.addPostTag(postTag);
-                        verifiedPost.addCategory(category);
-                        verifiedPost.editPost(post);
-                        postRepository.save(verifiedPost);
-                        findUser.addPost(verifiedPost);
-                        verifiedPost.addUser(findUser);
+        verifiedPost.addCategory(category);
+        verifiedPost.editPost(post);
+        postContentRenderer.render(verifiedPost.getBody());
+        List<String> tagNames = savePostTags(verifiedPost, tagValue);
+        postSummaryService.refresh(verifiedPost, tagNames);
 
-                    }
-                }
-        );
         pastFiles.forEach(
                 pastFile -> {
                     if (!post.getPostsFiles().stream()
@@ -167,83 +151,189 @@ public class PostServiceImpl implements PostService {
                 }
         );
 
+        touchPost(postId);
+        postResponseCache.evictCategory(categoryType);
+        applicationEventPublisher.publishEvent(PostEvent.updated(verifiedPost, tagNames));
         return verifiedPost;
     }
 
+    // 요약과 색인에는 요청 값이 아니라 실제로 연결된 태그 이름을 쓴다. 재색인(PostTagIndexer)도 저장된 이름을 읽는다.
+    private List<String> savePostTags(Post post, List<String> tagValue) {
+        List<Tag> tags = tagService.findOrCreateTags(tagValue);
+        List<PostTag> postTags = tags.stream()
+                .map(tag -> new PostTag(post, tag))
+                .collect(Collectors.toList());
+        postTags.forEach(post::addPostTag);
+        postTagRepository.saveAll(postTags);
+        tagService.addUsage(tagIdsOf(post), categoryTypeOf(post), 1L);
+        return tags.stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> tagIdsOf(Post post) {
+        return post.getTags().stream()
+                .map(postTag -> postTag.getTag().getId())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deletePost(Long postId) {
         Post verifyPost = findVerifyPost(postId);
         verifyPost.getUser().reducePoint(User.PointEnum.post);
+        tagService.addUsage(tagIdsOf(verifyPost), categoryTypeOf(verifyPost), -1L);
         postRepository.deleteById(postId);
+        postSummaryService.delete(postId);
+        uniqueViewerCounter.delete(postId);
+        trendingPostRanker.remove(postId);
+        postResponseCache.evictPost(postId);
+        postResponseCache.evictCategory(categoryTypeOf(verifyPost));
+        applicationEventPublisher.publishEvent(PostEvent.deleted(postId));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Post getPost(Long userId) {
-        Post post = findVerifyPost(userId);
-        post.setClickCount(updateClicks(post));
+    public Post getPost(Long postId) {
+        Post post = postRepository.findDetailById(postId).orElseThrow(
+                () -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND)
+        );
         return post;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void countView(Long postId) {
+        postViewCounter.increment(postId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostDto.Response.ViewerCount recordViewer(Long postId, CategoryType categoryType, String viewer) {
+        trendingPostRanker.recordView(postId, categoryType);
+        return uniqueViewerCounter.record(postId, categoryType, viewer);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<Post> getPostsByCategory(String category, int page, int size) {
-        try {
-            CategoryType.valueOf(category.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND);
-        }
+    public Page<PostSummary> getPostsByCategory(String category, int page, int size) {
+        CategoryType categoryType = verifiedCategoryType(category);
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("postId").descending());
 
-        if (category.toUpperCase().equals(CategoryType.ALL.name())) {
-            return postRepository.findAll(
-                    PageRequest.of(page - 1, size, Sort.by("id").descending()));
+        if (categoryType == CategoryType.ALL) {
+            return postSummaryRepository.findAll(pageable);
         }
+        return postSummaryRepository.findByCategoryType(categoryType, pageable);
+    }
 
-        return postRepository.findDistinctByCategory_CategoryType(
-                CategoryType.valueOf(category.toUpperCase()),
-                PageRequest.of(page - 1, size, Sort.by("id").descending()));
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummary> getTrendingPosts(String category, int size) {
+        return findSummariesInOrder(trendingPostRanker.top(verifiedCategoryType(category), size));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Post> getPostsBySearch(String word, int page, int size) {
-        return postRepository.findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-                word, word, PageRequest.of(page - 1, size, Sort.by("id").descending()));
+    public Page<PostSummary> getPostsBySearch(String word, int page, int size) {
+        Page<Long> postIds = postSearchIndex.search(word, PageRequest.of(page - 1, size));
+        return new PageImpl<>(findSummariesInOrder(postIds.getContent()),
+                postIds.getPageable(),
+                postIds.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Post> getPostsByTag(String tagName, int page, int size) {
-        Tag tag = tagRepository.findTagByName(tagName)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.TAG_NOT_FOUND));
-        Page<PostTag> postTags = postTagRepository.findDistinctByTag(tag,
-                PageRequest.of(page - 1, size, Sort.by("id").descending()));
-        List<Post> posts = postTags.stream()
-                .map(PostTag::getPost)
-                .collect(Collectors.toList());
+    public Page<PostSummary> getPostsByTag(String tagName, int page, int size) {
+        Tag tag = tagService.findVerifiedTag(tagName);
+        return postSummaryRepository.findByTag(tag,
+                PageRequest.of(page - 1, size, Sort.by("postId").descending()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> getPostsByCategory(String category, Long after, int size) {
+        CategoryType categoryType = verifiedCategoryType(category);
+        Pageable pageable = PageRequest.of(0, size, Sort.by("postId").descending());
 
-        return new PageImpl<>(posts,
-                PageRequest.of(page - 1, size),
-                postTags.getTotalElements());
+        if (categoryType == CategoryType.ALL) {
+            return postSummaryRepository.findByPostIdLessThan(cursorOf(after), pageable);
+        }
+        return postSummaryRepository.findByCategoryTypeAndPostIdLessThan(categoryType, cursorOf(after), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Post> getPostsByBookmark(Long userId, int page, int size) {
-        User user = userService.findVerifiedUser(userId);
+    public Slice<PostSummary> getPostsBySearch(String word, Long after, int size) {
+        Slice<Long> postIds = postSearchIndex.searchBefore(word, cursorOf(after), size);
+        return new SliceImpl<>(findSummariesInOrder(postIds.getContent()),
+                postIds.getPageable(),
+                postIds.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> getPostsByTag(String tagName, Long after, int size) {
+        Tag tag = tagService.findVerifiedTag(tagName);
+        return postSummaryRepository.findByTagAndPostIdLessThan(tag, cursorOf(after),
+                PageRequest.of(0, size, Sort.by("postId").descending()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> getPostsByTags(List<String> allOf, List<String> anyOf, List<String> noneOf,
+                                             String category, Long after, int size) {
+        if (size < 1) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_PAGE_SIZE);
+        }
+        Slice<Long> postIds = postTagIndex.search(nullToEmpty(allOf), nullToEmpty(anyOf), nullToEmpty(noneOf),
+                verifiedCategoryType(category), after, Math.min(size, MAX_TAG_SEARCH_SIZE));
+        return new SliceImpl<>(findSummariesInOrder(postIds.getContent()),
+                postIds.getPageable(),
+                postIds.hasNext());
+    }
+
+    private List<String> nullToEmpty(List<String> values) {
+        return values == null ? List.of() : values;
+    }
 
-        List<Post> postsList = user.getBookmarks()
-                .stream()
-                .sorted(Comparator.comparing(bookmark -> -bookmark.getId()))
-                .map(Bookmark::getPost)
+    private CategoryType verifiedCategoryType(String category) {
+        try {
+            return CategoryType.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND);
+        }
+    }
+
+    private List<PostSummary> findSummariesInOrder(List<Long> postIds) {
+        Map<Long, PostSummary> summaries = postSummaryRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::getPostId, Function.identity()));
+
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+    }
 
-        int start = (page - 1) * size;
-        int end = Math.min(start + size, postsList.size());
+    private CategoryType categoryTypeOf(Post post) {
+        return post.getCategory() == null ? null : post.getCategory().getCategoryType();
+    }
 
-        return new PageImpl<>(postsList.subList(start, end),
-                PageRequest.of(page - 1, size),
-                postsList.size());
+    private Long cursorOf(Long after) {
+        return after == null ? Long.MAX_VALUE : after;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostSummary> getPostsByBookmark(Long userId, int page, int size) {
+        userService.findVerifiedUser(userId);
+        return bookmarkRepository.findSummariesByUserId(userId, PageRequest.of(page - 1, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BookmarkedPost> getPostsByBookmark(Long userId, Long after, int size) {
+        userService.findVerifiedUser(userId);
+        return bookmarkRepository.findSummariesByUserIdAndBookmarkIdLessThan(userId, cursorOf(after),
+                PageRequest.of(0, size));
     }
 
 
@@ -263,6 +353,7 @@ public class PostServiceImpl implements PostService {
             user.addBookmark(bookmark);
         }
 
+        touchPost(postId);
         return bookmark;
     }
 
@@ -287,26 +378,134 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public Post postLike(Long userId, Long postId) {
-        User user = userService.findVerifiedUser(userId);
-        Post post = findVerifyPost(postId);
+    @Transactional(readOnly = true)
+    public PostVersion getVersion(Long postId) {
+        return postRepository.findRevisionById(postId)
+                .map(PostVersion::of)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
+    }
+
+    @Override
+    public void touchPost(Long postId) {
+        // 조건부 GET 의 ETag 가 바뀌도록 버전을 올리고, 직렬화해 둔 상세 응답도 함께 비운다.
+        postRepository.increaseRevision(postId, LocalDateTime.now());
+        postResponseCache.evictPost(postId);
+    }
 
-        List<Like> findLikes = likeRepository.findByUserIdAndPostId(userId, postId);
-        Long count = likeRepository.countByPostId(postId);
+    @Override
+    public void addCommentCount(Long postId, long delta) {
+        // touchPost 와 같이 버전을 올리되, 댓글 수 증감과 한 UPDATE 로 묶는다.
+        postRepository.addCommentCount(postId, delta, LocalDateTime.now());
+        postSummaryService.addCommentCount(postId, delta);
+        postResponseCache.evictPost(postId);
+    }
+
+    @Override
+    public void updateRelatedPosts(Long postId, List<Long> relatedPostIds) {
+        Optional<Post> post = postRepository.findById(postId);
+        if (post.isEmpty()) {
+            return;
+        }
+
+        List<RelatedPost> relatedPosts = findSummariesInOrder(relatedPostIds).stream()
+                .map(summary -> new RelatedPost(summary.getPostId(), summary.getTitle()))
+                .collect(Collectors.toList());
+        if (relatedPosts.equals(post.get().getRelatedPosts())) {
+            return;
+        }
+
+        postRepository.updateRelatedPosts(postId, relatedPosts);
+        touchPost(postId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Post postLike(Long userId, Long postId) {
+        // 유니크 제약 위반은 참여한 트랜잭션을 rollback-only 로 만든다. 바깥 트랜잭션이 있어도 같이 실패하지 않도록
+        // 토글은 별도 트랜잭션(REQUIRES_NEW)에서 하고, 위반은 그 트랜잭션 경계 밖에서 잡는다.
+        try {
+            return requiresNewTransactionTemplate.execute(status -> toggleLike(userId, postId));
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraints.isViolated(e, Like.USER_POST_CONSTRAINT)) {
+                throw e;
+            }
+            // 같은 회원의 동시 요청이 먼저 좋아요를 넣었다. 그 요청이 반영한 상태를 돌려준다.
+            return requiresNewTransactionTemplate.execute(status -> findVerifyPost(postId));
+        }
+    }
 
-        if (!findLikes.isEmpty()) {
-            likeRepository.deleteAll(findLikes);
-            count -= 1L;
+    private Post toggleLike(Long userId, Long postId) {
+        long delta;
+        if (likeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            delta = -1L;
         } else {
-            Like like = new Like(user, post);
-            user.addLike(like);
-            count += 1L;
+            Post post = findVerifyPost(postId);
+            User user = userService.findVerifiedUser(userId);
+            likeRepository.save(new Like(user, post));
+            delta = 1L;
         }
 
-        post.setLikeCount(count);
+        // (user_id, post_id) 유니크 제약으로 중복 좋아요를 막고, 좋아요 수는 원자적 UPDATE 로만 증감한다.
+        postRepository.addLikeCount(postId, delta);
+        postSummaryService.addLikeCount(postId, delta);
+        touchPost(postId);
+        Post post = findVerifyPost(postId);
+        trendingPostRanker.recordLike(postId, categoryTypeOf(post), delta);
         return post;
     }
 
+    @Override
+    public Long reconcileLikeCounts(Long lastPostId, int size) {
+        List<Long> postIds = postRepository.findIdsAfter(lastPostId, PageRequest.of(0, size));
+        if (postIds.isEmpty()) {
+            return null;
+        }
+
+        postRepository.reconcileLikeCounts(postIds);
+        postSummaryService.reconcileLikeCounts(postIds);
+        return postIds.get(postIds.size() - 1);
+    }
+
+    @Override
+    public Long reconcileCommentCounts(Long lastPostId, int size) {
+        List<Long> postIds = postRepository.findIdsAfter(lastPostId, PageRequest.of(0, size));
+        if (postIds.isEmpty()) {
+            return null;
+        }
+
+        postRepository.reconcileCommentCounts(postIds);
+        postSummaryService.reconcileCommentCounts(postIds);
+        return postIds.get(postIds.size() - 1);
+    }
+
+    @Override
+    public Long migrateLegacyContents(Long lastPostId, int size) {
+        List<LegacyPostContent> legacyContents = postRepository.findLegacyContentsAfter(lastPostId, size);
+        if (legacyContents.isEmpty()) {
+            return null;
+        }
+
+        legacyContents.forEach(legacyContent -> {
+            PostContent body = PostContent.of(legacyContent.getContent());
+            postContentRenderer.render(body);
+            postContentRepository.save(body);
+            postRepository.moveLegacyContent(legacyContent.getPostId(), body.getId());
+        });
+        return legacyContents.get(legacyContents.size() - 1).getPostId();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isLiked(Long userId, Long postId) {
+        return likeRepository.existsByUserIdAndPostId(userId, postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isBookmarked(Long userId, Long postId) {
+        return bookmarkRepository.existsByUserIdAndPostId(userId, postId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Post findVerifyPost(Long postId) {
@@ -316,9 +515,17 @@ public class PostServiceImpl implements PostService {
                 () -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND)
         );
     }
-    public Long updateClicks(Post post){
-        Long count = post.getClicks()+1L;
-        return count;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryType findVerifiedCategoryType(Long postId) {
+        return postRepository.findCategoryById(postId)
+                .map(PostCategoryRow::getCategoryType)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.POST_NOT_FOUND));
     }
 
+    @Override
+    public Post getPostReference(Long postId) {
+        return postRepository.getReferenceById(postId);
+    }
 }
@@ -0,0 +1,61 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.repository.post.PostRevision;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 게시글과 댓글 조회 응답의 ETag / Last-Modified 검증자.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostVersion {
+    // postLastModifiedAt 의 초기값(0년)처럼 의미 없는 시각은 Last-Modified 로 쓰지 않는다.
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final Long postId;
+    private final long revision;
+    private final LocalDateTime lastModifiedAt;
+
+    public static PostVersion of(Long postId, long revision, LocalDateTime lastModifiedAt) {
+        return new PostVersion(postId, revision, lastModifiedAt);
+    }
+
+    public static PostVersion of(PostRevision postRevision) {
+        LocalDateTime lastModifiedAt = Stream.of(postRevision.getLastModifiedAt(),
+                        postRevision.getPostLastModifiedAt(), postRevision.getRevisedAt())
+                .filter(Objects::nonNull)
+                .filter(time -> time.isAfter(EPOCH))
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        long revision = postRevision.getRevision() == null ? 0L : postRevision.getRevision();
+        return new PostVersion(postRevision.getId(), revision, lastModifiedAt);
+    }
+
+    /**
+     * 같은 게시글이라도 조회자와 요청 변형(페이지 등)마다 본문이 다르므로 variant 를 함께 해시한다.
+     */
+    public String strongEtag(String variant) {
+        String source = postId + ":" + revision + ":" + variant;
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public String weakEtag(String variant) {
+        return "W/" + strongEtag(variant);
+    }
+
+    public long getLastModifiedMillis() {
+        if (lastModifiedAt == null) {
+            return -1L;
+        }
+        return lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
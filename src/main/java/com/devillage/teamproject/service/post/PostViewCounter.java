@@ -0,0 +1,109 @@
+package com.devillage.teamproject.service.post;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수를 게시글별로 메모리에 누적했다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 요청마다 post 행을 잠그지 않으므로 post.clicks 는 flush 주기만큼 늦게 반영된다.
+ * post 와 post_summary 는 한 트랜잭션으로 반영하므로, 실패해서 다시 쌓은 조회수는 어느 쪽에도 반영되지 않은 값이다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+    private static final long RETIRED = -1L;
+    private static final String UPDATE_POST =
+            "update post set clicks = coalesce(clicks, 0) + ? where post_id = ?";
+    private static final String UPDATE_SUMMARY =
+            "update post_summary set clicks = coalesce(clicks, 0) + ? where post_id = ?";
+
+    private final ConcurrentHashMap<Long, AtomicLong> deltas = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("post.views.pending", this, PostViewCounter::pendingSize)
+                .description("posts with view deltas waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    public int pendingSize() {
+        return (int) deltas.values().stream()
+                .filter(counter -> counter.get() > 0)
+                .count();
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-counter.flush-interval:5000}")
+    public void flush() {
+        List<Object[]> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_POST, batch);
+                jdbcTemplate.batchUpdate(UPDATE_SUMMARY, batch);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("failed to flush {} post view deltas, retrying on next flush", batch.size(), e);
+            batch.forEach(args -> add((Long) args[1], (Long) args[0]));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void add(Long postId, long delta) {
+        while (true) {
+            AtomicLong counter = deltas.computeIfAbsent(postId, id -> new AtomicLong());
+            long current = counter.get();
+            if (current == RETIRED) {
+                continue;
+            }
+            if (counter.compareAndSet(current, current + delta)) {
+                return;
+            }
+        }
+    }
+
+    private List<Object[]> drain() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, AtomicLong> entry : deltas.entrySet()) {
+            AtomicLong counter = entry.getValue();
+            long delta = counter.getAndUpdate(current -> current == RETIRED ? RETIRED : 0L);
+
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else if (delta == 0 && counter.compareAndSet(0L, RETIRED)) {
+                // 직전 flush 이후 조회가 없던 게시글은 맵에서 제거한다.
+                deltas.remove(entry.getKey(), counter);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,330 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요·댓글·조회에 지수 감쇠 가중치를 주어 "지금 뜨는 글" 점수를 누적하고, 카테고리별 상위 K 개를 유지한다.
+ * <p>
+ * 점수는 기준 시각(landmark)으로 환산해 저장하므로(forward decay) 이벤트마다 O(1) 로 더하기만 하면 되고,
+ * 감쇠해도 순위가 바뀌지 않아 주기적으로 만드는 상위 K 스냅샷을 그대로 읽을 수 있다.
+ * 스냅샷과 점수는 노드별 메모리에 있으며 Redis 에 주기적으로 체크포인트해 재기동 시 복원한다.
+ * <p>
+ * 체크포인트는 노드마다 따로 두고 그 노드에서 기록한 몫(local)만 쓴다. 복원할 때는 모든 노드의 체크포인트를 더하므로
+ * 여러 노드가 서로의 체크포인트를 덮어쓰지 않고, 복원한 다른 노드의 몫이 다시 체크포인트되어 두 번 더해지지도 않는다.
+ * 트랜잭션 안에서 기록한 점수는 커밋된 뒤에 더한다.
+ */
+@Slf4j
+@Component
+public class TrendingPostRanker implements ApplicationRunner {
+    static final double VIEW_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 5.0;
+    static final double COMMENT_WEIGHT = 8.0;
+
+    private static final String CHECKPOINT_KEY_PREFIX = "post:trending:node:";
+    private static final String CHECKPOINT_NODES_KEY = "post:trending:nodes";
+    private static final String CHECKPOINT_AT = "at";
+    // 더 이상 갱신되지 않는 노드의 체크포인트는 점수가 2^-16 로 감쇠할 즈음 만료시킨다.
+    private static final int CHECKPOINT_TTL_HALF_LIVES = 16;
+    // 환산 배율이 2^64 를 넘기 전에 기준 시각을 옮겨 double 오버플로를 막는다.
+    private static final double MAX_EXPONENT = 64 * Math.log(2);
+    // 감쇠 후 점수가 조회 한 번의 절반도 안 되는 글은 더 이상 추적하지 않는다.
+    private static final double MIN_SCORE = VIEW_WEIGHT / 2;
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::getScore);
+
+    private final ConcurrentHashMap<Long, Score> scores = new ConcurrentHashMap<>();
+    // 점수 누적은 읽기 락으로 동시에, 기준 시각 이동과 체크포인트는 쓰기 락으로 배타적으로 수행한다.
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final double decayPerMilli;
+    private final int capacity;
+    private final String nodeId;
+    private final Duration checkpointTtl;
+
+    private volatile long landmark;
+    private volatile Map<CategoryType, List<Long>> snapshot = Map.of();
+
+    public TrendingPostRanker(StringRedisTemplate redisTemplate,
+                              @Value("${post.trending.half-life-minutes:360}") long halfLifeMinutes,
+                              @Value("${post.trending.capacity:100}") int capacity,
+                              @Value("${post.trending.node-id:}") String nodeId) {
+        this(redisTemplate, Clock.systemUTC(), Duration.ofMinutes(halfLifeMinutes), capacity,
+                nodeId.isBlank() ? defaultNodeId() : nodeId);
+    }
+
+    TrendingPostRanker(StringRedisTemplate redisTemplate, Clock clock, Duration halfLife, int capacity,
+                       String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.nodeId = nodeId;
+        this.checkpointTtl = halfLife.multipliedBy(CHECKPOINT_TTL_HALF_LIVES);
+        this.landmark = clock.millis();
+    }
+
+    // 재기동해도 같은 체크포인트를 이어 쓰도록 호스트 이름을 쓴다.
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    public void recordView(Long postId, CategoryType categoryType) {
+        add(postId, categoryType, VIEW_WEIGHT);
+    }
+
+    public void recordLike(Long postId, CategoryType categoryType, long delta) {
+        add(postId, categoryType, LIKE_WEIGHT * delta);
+    }
+
+    public void recordComment(Long postId, CategoryType categoryType) {
+        add(postId, categoryType, COMMENT_WEIGHT);
+    }
+
+    public void remove(Long postId) {
+        scores.remove(postId);
+    }
+
+    /**
+     * 마지막 스냅샷 기준 상위 게시글 식별자. 스냅샷 크기만큼만 복사하므로 O(K) 이다.
+     */
+    public List<Long> top(CategoryType categoryType, int size) {
+        List<Long> ranked = snapshot.getOrDefault(categoryType == null ? CategoryType.ALL : categoryType, List.of());
+        return List.copyOf(ranked.subList(0, Math.max(0, Math.min(size, ranked.size()))));
+    }
+
+    /**
+     * 오래된 점수를 정리하고 카테고리별 상위 K 스냅샷을 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${post.trending.refresh-interval:10000}")
+    public void refresh() {
+        long now = clock.millis();
+        if (decayPerMilli * (now - landmark) > MAX_EXPONENT) {
+            rebase(now);
+        }
+
+        double threshold = MIN_SCORE * Math.exp(decayPerMilli * (now - landmark));
+        scores.values().removeIf(score -> score.value < threshold);
+
+        Map<CategoryType, PriorityQueue<Ranked>> heaps = new EnumMap<>(CategoryType.class);
+        scores.forEach((postId, score) -> {
+            // 집계 중에도 점수가 바뀔 수 있으므로 한 번 읽은 값으로 비교한다.
+            Ranked ranked = new Ranked(postId, score.value);
+            offer(heaps, CategoryType.ALL, ranked);
+            CategoryType categoryType = score.categoryType;
+            if (categoryType != null && categoryType != CategoryType.ALL) {
+                offer(heaps, categoryType, ranked);
+            }
+        });
+
+        Map<CategoryType, List<Long>> ranked = new EnumMap<>(CategoryType.class);
+        heaps.forEach((categoryType, heap) -> ranked.put(categoryType, heap.stream()
+                .sorted(BY_SCORE.reversed())
+                .map(Ranked::getPostId)
+                .collect(Collectors.toUnmodifiableList())));
+        snapshot = Collections.unmodifiableMap(ranked);
+    }
+
+    @Scheduled(fixedDelayString = "${post.trending.checkpoint-interval:60000}",
+            initialDelayString = "${post.trending.checkpoint-interval:60000}")
+    public void checkpoint() {
+        Map<String, String> values = new HashMap<>();
+        landmarkLock.writeLock().lock();
+        try {
+            // 현재 시각 기준 점수로 저장해 두면 복원 시 경과 시간만큼만 감쇠하면 된다.
+            long now = clock.millis();
+            double decay = Math.exp(-decayPerMilli * (now - landmark));
+            scores.forEach((postId, score) -> {
+                if (score.local != 0) {
+                    values.put(postId.toString(),
+                            (score.categoryType == null ? "" : score.categoryType.name()) + ":" + score.local * decay);
+                }
+            });
+            values.put(CHECKPOINT_AT, Long.toString(now));
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+
+        String checkpointKey = checkpointKeyOf(nodeId);
+        String checkpointTempKey = checkpointKey + ":tmp";
+        try {
+            redisTemplate.delete(checkpointTempKey);
+            redisTemplate.opsForHash().putAll(checkpointTempKey, values);
+            redisTemplate.rename(checkpointTempKey, checkpointKey);
+            redisTemplate.expire(checkpointKey, checkpointTtl);
+            redisTemplate.opsForSet().add(CHECKPOINT_NODES_KEY, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("failed to checkpoint trending posts", e);
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        restore();
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    void restore() {
+        Map<String, Map<Object, Object>> checkpoints = new HashMap<>();
+        try {
+            Set<String> nodeIds = redisTemplate.opsForSet().members(CHECKPOINT_NODES_KEY);
+            for (String checkpointNodeId : nodeIds == null ? Set.<String>of() : nodeIds) {
+                Map<Object, Object> values = redisTemplate.opsForHash().entries(checkpointKeyOf(checkpointNodeId));
+                if (values.isEmpty()) {
+                    // 만료된 노드의 체크포인트
+                    redisTemplate.opsForSet().remove(CHECKPOINT_NODES_KEY, checkpointNodeId);
+                } else if (values.containsKey(CHECKPOINT_AT)) {
+                    checkpoints.put(checkpointNodeId, values);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("failed to restore trending posts", e);
+            return;
+        }
+
+        checkpoints.forEach((checkpointNodeId, values) -> merge(values, checkpointNodeId.equals(nodeId)));
+        log.info("restored trending scores from {} node checkpoints", checkpoints.size());
+    }
+
+    // 이 노드의 체크포인트만 local 로 되살려 다음 체크포인트에 이어서 쓴다.
+    private void merge(Map<Object, Object> values, boolean own) {
+        long checkpointedAt = Long.parseLong((String) values.remove(CHECKPOINT_AT));
+        landmarkLock.readLock().lock();
+        try {
+            double growth = Math.exp(decayPerMilli * (checkpointedAt - landmark));
+            values.forEach((postId, value) -> {
+                String[] parts = ((String) value).split(":", 2);
+                CategoryType categoryType = parts[0].isEmpty() ? null : CategoryType.valueOf(parts[0]);
+                double restored = Double.parseDouble(parts[1]) * growth;
+                scores.merge(Long.valueOf((String) postId),
+                        new Score(categoryType, restored, own ? restored : 0), Score::merge);
+            });
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    private static String checkpointKeyOf(String nodeId) {
+        return CHECKPOINT_KEY_PREFIX + nodeId;
+    }
+
+    // 롤백된 좋아요·댓글이 점수에 남지 않도록 트랜잭션 안에서는 커밋 뒤에 더한다.
+    private void add(Long postId, CategoryType categoryType, double weight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(postId, categoryType, weight);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(postId, categoryType, weight);
+            }
+        });
+    }
+
+    private void apply(Long postId, CategoryType categoryType, double weight) {
+        landmarkLock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(decayPerMilli * (clock.millis() - landmark));
+            scores.compute(postId, (id, score) -> {
+                if (score == null) {
+                    return scaled > 0 ? new Score(categoryType, scaled, scaled) : null;
+                }
+                score.categoryType = categoryType;
+                score.value = Math.max(0, score.value + scaled);
+                score.local += scaled;
+                return score;
+            });
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    private void rebase(long now) {
+        landmarkLock.writeLock().lock();
+        try {
+            double decay = Math.exp(-decayPerMilli * (now - landmark));
+            scores.values().forEach(score -> {
+                score.value *= decay;
+                score.local *= decay;
+            });
+            landmark = now;
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private void offer(Map<CategoryType, PriorityQueue<Ranked>> heaps, CategoryType categoryType, Ranked ranked) {
+        PriorityQueue<Ranked> heap = heaps.computeIfAbsent(categoryType, key -> new PriorityQueue<>(BY_SCORE));
+        heap.offer(ranked);
+        if (heap.size() > capacity) {
+            heap.poll();
+        }
+    }
+
+    private static class Score {
+        private volatile CategoryType categoryType;
+        private volatile double value;
+        // value 중 이 노드에서 기록한 몫. 체크포인트에는 이 값만 쓴다.
+        private volatile double local;
+
+        private Score(CategoryType categoryType, double value, double local) {
+            this.categoryType = categoryType;
+            this.value = value;
+            this.local = local;
+        }
+
+        private static Score merge(Score current, Score restored) {
+            current.value += restored.value;
+            current.local += restored.local;
+            return current;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Ranked {
+        private final Long postId;
+        private final double score;
+    }
+}
@@ -0,0 +1,96 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.dto.AuthDto;
+import com.devillage.teamproject.dto.PostDto;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 게시글/카테고리별 순 방문자 수를 Redis HyperLogLog 로 근사 집계한다.
+ * 키 하나당 최대 12KB 로 방문자 수와 무관하게 메모리가 고정되며, 일별 키는 DAILY_TTL 이후 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewerCounter {
+    private static final Duration DAILY_TTL = Duration.ofDays(8);
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public PostDto.Response.ViewerCount record(Long postId, CategoryType categoryType, String viewer) {
+        String day = LocalDate.now().format(DAY);
+        String postKey = postKey(postId);
+        String postDailyKey = postKey + ":" + day;
+        String categoryDailyKey = categoryKey(categoryType) + ":" + day;
+        long ttl = DAILY_TTL.getSeconds();
+
+        try {
+            // PFADD 와 PFCOUNT 를 한 번의 왕복으로 처리한다.
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.pfAdd(postKey, viewer);
+                redis.pfAdd(postDailyKey, viewer);
+                redis.expire(postDailyKey, ttl);
+                redis.pfAdd(categoryDailyKey, viewer);
+                redis.expire(categoryDailyKey, ttl);
+                redis.pfCount(postKey);
+                redis.pfCount(postDailyKey);
+                redis.pfCount(categoryDailyKey);
+                return null;
+            });
+            int size = results.size();
+            return PostDto.Response.ViewerCount.of(
+                    (Long) results.get(size - 3),
+                    (Long) results.get(size - 2),
+                    (Long) results.get(size - 1));
+        } catch (DataAccessException e) {
+            log.warn("failed to record unique viewer of post {}", postId, e);
+            return PostDto.Response.ViewerCount.empty();
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            redisTemplate.delete(postKey(postId));
+        } catch (DataAccessException e) {
+            log.warn("failed to delete unique viewers of post {}", postId, e);
+        }
+    }
+
+    public static String viewerOf(AuthDto.UserInfo userInfo, HttpServletRequest request) {
+        if (userInfo != null) {
+            return "user:" + userInfo.getId();
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        String address = StringUtils.hasText(forwardedFor)
+                ? forwardedFor.split(",")[0].trim()
+                : request.getRemoteAddr();
+        String fingerprint = address + "|" + request.getHeader("User-Agent");
+        return "anon:" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String postKey(Long postId) {
+        return "post:viewers:" + postId;
+    }
+
+    private static String categoryKey(CategoryType categoryType) {
+        return "category:viewers:" + categoryType.name();
+    }
+}
@@ -0,0 +1,116 @@
+package com.devillage.teamproject.service.reconcile;
+
+import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.tag.TagService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 증감 UPDATE 로만 바꾸는 집계 컬럼을 원본 테이블 기준으로 다시 세는 야간 작업.
+ * <ul>
+ *     <li>tag_count.usage_count : post_tag 기준. 기동 시에는 tag_count 행이 없는 태그(도입 이전 태그)를 먼저 채운다.</li>
+ *     <li>post.like_count, post_summary.like_count : likes 기준</li>
+ *     <li>post.comment_count, post_summary.comment_count : comment, re_comment 기준</li>
+ * </ul>
+ * 모든 서버에서 같은 시각에 스케줄이 돌므로, 작업마다 Redis 잠금을 잡은 서버 한 곳만 보정한다.
+ */
+@Slf4j
+@Component
+@Order(0) // 자동완성 트라이가 채워진 tag_count 로 만들어지도록 먼저 실행한다.
+public class CountReconciler implements ApplicationRunner {
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final String LOCK_KEY_PREFIX = "reconcile:lock:";
+    // 잠금 값이 자기 것일 때만 지운다. 작업이 TTL 을 넘겨 다른 서버가 잡은 잠금은 풀지 않는다.
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final TagService tagService;
+    private final PostService postService;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public CountReconciler(TagService tagService, PostService postService, StringRedisTemplate redisTemplate,
+                           @Value("${reconcile.lock-ttl-minutes:30}") long lockTtlMinutes) {
+        this.tagService = tagService;
+        this.postService = postService;
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 없는 행만 넣으므로 서버마다 실행해도 된다. 이 서버의 자동완성 트라이보다 먼저 끝나야 하므로 잠금으로 건너뛰지 않는다.
+        reconcileInBatches(tagService::createMissingUsageCounts);
+    }
+
+    @Scheduled(cron = "${tag.usage-reconcile.cron:0 40 4 * * *}")
+    public void reconcileTagUsageCounts() {
+        reconcileOnOneNode("tag-usage-counts", tagService::reconcileUsageCounts);
+    }
+
+    @Scheduled(cron = "${post.like-reconcile.cron:0 30 4 * * *}")
+    public void reconcileLikeCounts() {
+        reconcileOnOneNode("post-like-counts", postService::reconcileLikeCounts);
+    }
+
+    @Scheduled(cron = "${post.comment-reconcile.cron:0 45 4 * * *}")
+    public void reconcileCommentCounts() {
+        reconcileOnOneNode("post-comment-counts", postService::reconcileCommentCounts);
+    }
+
+    private void reconcileOnOneNode(String job, Batch batch) {
+        String lockKey = LOCK_KEY_PREFIX + job;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl))) {
+                log.info("skipped reconciling {}, another node holds the lock", job);
+                return;
+            }
+        } catch (DataAccessException e) {
+            // 다음 스케줄에 다시 보정하므로, 잠금을 확인할 수 없으면 여러 서버가 겹쳐 돌지 않도록 건너뛴다.
+            log.warn("skipped reconciling {}, could not take the lock", job, e);
+            return;
+        }
+
+        try {
+            log.info("reconciling {}", job);
+            reconcileInBatches(batch);
+            log.info("{} reconciled", job);
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), token);
+            } catch (DataAccessException e) {
+                log.warn("failed to release reconcile lock {}, it expires in {}", lockKey, lockTtl, e);
+            }
+        }
+    }
+
+    private void reconcileInBatches(Batch batch) {
+        Long lastId = 0L;
+        while (lastId != null) {
+            lastId = batch.reconcile(lastId, RECONCILE_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * lastId 다음부터 size 개를 보정하고 마지막 식별자를, 더 없으면 null 을 돌려준다.
+     */
+    @FunctionalInterface
+    private interface Batch {
+        Long reconcile(Long lastId, int size);
+    }
+}
@@ -0,0 +1,241 @@
+package com.devillage.teamproject.service.related;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글별 태그 집합과 본문 글자 shingle 집합의 MinHash 서명, 그리고 서명을 band 로 나눈 LSH 버킷.
+ * <p>
+ * 같은 버킷에 한 번이라도 들어간 게시글만 후보로 보고, 후보와는 서명 일치 비율로 Jaccard 유사도를 추정하므로
+ * 전체 게시글과 비교하지 않는다. 태그와 본문은 따로 서명해 가중 평균한다(태그 없는 글끼리 같은 태그로 보지 않도록).
+ * 서명은 노드별 메모리에 있으며 기동 시 다시 만든다.
+ */
+@Component
+public class RelatedPostIndex {
+    static final int ROWS_PER_BAND = 4;
+    static final int TAG_BANDS = 8;
+    static final int CONTENT_BANDS = 16;
+
+    private static final double TAG_WEIGHT = 0.6;
+    private static final double MIN_SIMILARITY = 0.1;
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int MAX_TEXT_LENGTH = 10_000;
+    // 흔한 태그 조합처럼 큰 버킷은 최신 글 일부만 후보로 본다.
+    private static final int MAX_BUCKET_SCAN = 100;
+    private static final long[] SEEDS = new Random(20220901L).longs(CONTENT_BANDS * ROWS_PER_BAND).toArray();
+
+    private final Map<Long, Signature> signatures = new HashMap<>();
+    private final Map<Long, TreeSet<Long>> buckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Long postId, Collection<String> tagNames, String title, String content) {
+        Signature signature = new Signature(
+                minHash(tagFeatures(tagNames), TAG_BANDS * ROWS_PER_BAND),
+                minHash(contentFeatures(title, content), CONTENT_BANDS * ROWS_PER_BAND));
+        lock.writeLock().lock();
+        try {
+            Signature previous = signatures.put(postId, signature);
+            if (previous != null) {
+                removeFromBuckets(postId, previous);
+            }
+            bucketKeys(signature).forEach(key -> buckets.computeIfAbsent(key, k -> new TreeSet<>()).add(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Signature previous = signatures.remove(postId);
+            if (previous != null) {
+                removeFromBuckets(postId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return signatures.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 추정 유사도가 높은 순(같으면 최신 글 먼저)으로 최대 size 개의 게시글 식별자.
+     */
+    public List<Long> related(Long postId, int size) {
+        lock.readLock().lock();
+        try {
+            Signature signature = signatures.get(postId);
+            if (signature == null) {
+                return List.of();
+            }
+
+            Set<Long> candidates = new HashSet<>();
+            for (long key : bucketKeys(signature)) {
+                Iterator<Long> newestFirst = buckets.get(key).descendingIterator();
+                for (int i = 0; i < MAX_BUCKET_SCAN && newestFirst.hasNext(); i++) {
+                    candidates.add(newestFirst.next());
+                }
+            }
+            candidates.remove(postId);
+
+            Map<Long, Double> scores = new HashMap<>();
+            candidates.forEach(candidate -> {
+                double similarity = signature.similarity(signatures.get(candidate));
+                if (similarity >= MIN_SIMILARITY) {
+                    scores.put(candidate, similarity);
+                }
+            });
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                    .limit(size)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeFromBuckets(Long postId, Signature signature) {
+        bucketKeys(signature).forEach(key -> {
+            TreeSet<Long> bucket = buckets.get(key);
+            bucket.remove(postId);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        });
+    }
+
+    // 서명 종류와 band 번호를 상위 비트에, band 해시를 하위 32비트에 둔다.
+    private static List<Long> bucketKeys(Signature signature) {
+        List<Long> keys = new ArrayList<>(TAG_BANDS + CONTENT_BANDS);
+        addBandKeys(keys, signature.tags, 0);
+        addBandKeys(keys, signature.content, TAG_BANDS);
+        return keys;
+    }
+
+    private static void addBandKeys(List<Long> keys, int[] values, int bandOffset) {
+        if (values == null) {
+            return;
+        }
+        for (int band = 0; band < values.length / ROWS_PER_BAND; band++) {
+            int hash = 1;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                hash = 31 * hash + values[band * ROWS_PER_BAND + row];
+            }
+            keys.add(((long) (bandOffset + band) << 32) | (hash & 0xffffffffL));
+        }
+    }
+
+    private static Set<Long> tagFeatures(Collection<String> tagNames) {
+        if (tagNames == null) {
+            return Set.of();
+        }
+        return tagNames.stream()
+                .map(tagName -> hash64(tagName.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.toSet());
+    }
+
+    // 한글은 조사가 붙어 어절이 달라지므로 어절 대신 어절 안의 글자 3-gram 을 쓴다.
+    private static Set<Long> contentFeatures(String title, String content) {
+        String text = ((title == null ? "" : title) + " " + (content == null ? "" : content));
+        if (text.length() > MAX_TEXT_LENGTH) {
+            text = text.substring(0, MAX_TEXT_LENGTH);
+        }
+        Set<Long> features = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() <= SHINGLE_LENGTH) {
+                features.add(hash64(word));
+                continue;
+            }
+            for (int i = 0; i + SHINGLE_LENGTH <= word.length(); i++) {
+                features.add(hash64(word.substring(i, i + SHINGLE_LENGTH)));
+            }
+        }
+        return features;
+    }
+
+    private static int[] minHash(Set<Long> features, int length) {
+        if (features.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[length];
+        for (int i = 0; i < length; i++) {
+            int min = Integer.MAX_VALUE;
+            for (long feature : features) {
+                min = Math.min(min, (int) (mix64(feature ^ SEEDS[i]) >>> 33));
+            }
+            signature[i] = min;
+        }
+        return signature;
+    }
+
+    // FNV-1a
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static class Signature {
+        private final int[] tags;
+        private final int[] content;
+
+        private Signature(int[] tags, int[] content) {
+            this.tags = tags;
+            this.content = content;
+        }
+
+        private double similarity(Signature other) {
+            return TAG_WEIGHT * estimate(tags, other.tags) + (1 - TAG_WEIGHT) * estimate(content, other.content);
+        }
+
+        private static double estimate(int[] a, int[] b) {
+            if (a == null || b == null) {
+                return 0;
+            }
+            int equal = 0;
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] == b[i]) {
+                    equal++;
+                }
+            }
+            return (double) equal / a.length;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.devillage.teamproject.service.related;
+
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.event.PostEvent;
+import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.service.post.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 모든 게시글의 서명을 만들고, 게시글이 바뀌면 커밋 이후 서명을 갱신한다.
+ * <p>
+ * 관련 글 목록은 요청마다 계산하지 않고 post.related_posts 에 저장해 두므로, 바뀐 글과 그 글의 이전/이후 관련 글을
+ * 다시 계산할 대상으로 모았다가 주기적으로 몇 개씩 저장한다.
+ */
+@Slf4j
+@Component
+public class RelatedPostIndexer implements ApplicationRunner {
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final RelatedPostIndex relatedPostIndex;
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final int size;
+    private final int batchSize;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public RelatedPostIndexer(RelatedPostIndex relatedPostIndex, PostRepository postRepository, PostService postService,
+                              @Value("${post.related.size:5}") int size,
+                              @Value("${post.related.batch-size:200}") int batchSize) {
+        this.relatedPostIndex = relatedPostIndex;
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.size = size;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener
+    public void handlePostEvent(PostEvent event) {
+        Long postId = event.getPostId();
+        try {
+            // 이 글을 관련 글로 들고 있던 글은 제목이나 유사도가 바뀌었을 수 있다.
+            dirty.addAll(relatedPostIndex.related(postId, size));
+            if (event.getEventType() == PostEvent.EventType.DELETED) {
+                relatedPostIndex.delete(postId);
+                return;
+            }
+            relatedPostIndex.index(postId, event.getTagNames(), event.getTitle(), event.getContent());
+            dirty.add(postId);
+            dirty.addAll(relatedPostIndex.related(postId, size));
+        } catch (RuntimeException e) {
+            log.warn("failed to update related posts for post {}", postId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.related.refresh-interval:5000}")
+    public void refresh() {
+        List<Long> batch = new ArrayList<>(Math.min(dirty.size(), batchSize));
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+
+        for (Long postId : batch) {
+            try {
+                postService.updateRelatedPosts(postId, relatedPostIndex.related(postId, size));
+            } catch (RuntimeException e) {
+                log.warn("failed to store related posts for post {}, retrying on next refresh", postId, e);
+                dirty.add(postId);
+            }
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("building related post signatures");
+        long indexed = 0L;
+        Long lastId = 0L;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsAfter(lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            for (Post post : postRepository.findAllWithTagsByIdIn(postIds)) {
+                relatedPostIndex.index(post.getId(), tagNamesOf(post), post.getTitle(), post.getContent());
+                // 아직 한 번도 계산하지 않은 글만 저장 대상으로 둔다.
+                if (post.getRelatedPosts() == null) {
+                    dirty.add(post.getId());
+                }
+            }
+
+            indexed += postIds.size();
+            lastId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == REINDEX_BATCH_SIZE);
+
+        log.info("related post signatures built : {} posts, {} waiting", indexed, dirty.size());
+    }
+
+    private List<String> tagNamesOf(Post post) {
+        return post.getTags().stream()
+                .filter(postTag -> postTag.getTag() != null)
+                .map(postTag -> postTag.getTag().getName())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
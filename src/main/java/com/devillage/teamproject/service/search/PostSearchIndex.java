@@ -0,0 +1,342 @@
+package com.devillage.teamproject.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 제목, 본문, 태그에 대한 로컬 디스크 Lucene 역색인.
+ * search.index.path 를 비워 두면 메모리에 색인한다. 테스트 컨텍스트마다 디렉터리 쓰기 잠금이 겹치지 않게 하려는 용도다.
+ * <p>
+ * 변경은 NRT 리더를 다시 열어 바로 검색에 보이고, 디스크 커밋(fsync)은 PostSearchIndexer 가 주기적으로, 그리고 종료할 때 한다.
+ * 비정상 종료하면 마지막 커밋 이후 변경은 색인에서 빠지므로 --reindex 로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String TAGS = "tags";
+    private static final Map<String, Float> BOOSTS = Map.of(TITLE, 3f, TAGS, 2f, CONTENT, 1f);
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+    private static final Sort LATEST = new Sort(new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Path indexPath;
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    // 쓰기와 리더 갱신, 재색인 교체를 한 줄로 세운다. 교체 도중 비어 있는 색인이 검색에 보이지 않게 한다.
+    private final Object writeLock = new Object();
+    // 재색인하는 동안 바뀐 게시글. 교체한 뒤 새 색인에 다시 반영한다.
+    private Set<Long> changedDuringRebuild;
+
+    public PostSearchIndex(@Value("${search.index.path:}") String indexPath) throws IOException {
+        this.indexPath = indexPath == null || indexPath.isBlank() ? null : Paths.get(indexPath).toAbsolutePath();
+        this.directory = this.indexPath == null
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(this.indexPath);
+        IndexWriter writer = null;
+        try {
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.indexWriter = writer;
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException | RuntimeException e) {
+            // 생성에 실패해도 쓰기 잠금을 남기지 않는다.
+            IOUtils.closeWhileHandlingException(writer, directory);
+            throw e;
+        }
+    }
+
+    public void index(Long postId, String title, String content, List<String> tagNames) {
+        Document document = toDocument(postId, title, content, tagNames);
+        synchronized (writeLock) {
+            try {
+                indexWriter.updateDocument(new Term(ID, String.valueOf(postId)), document);
+                changed(postId);
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void delete(Long postId) {
+        synchronized (writeLock) {
+            try {
+                indexWriter.deleteDocuments(new Term(ID, String.valueOf(postId)));
+                changed(postId);
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void commit() {
+        synchronized (writeLock) {
+            try {
+                if (indexWriter.hasUncommittedChanges()) {
+                    indexWriter.commit();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 지금 색인은 그대로 두고 새 디렉터리에 전체 색인을 만든다. Rebuild.swap() 을 부르기 전까지 검색은 지금 색인을 본다.
+     */
+    public Rebuild rebuild() {
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                throw new IllegalStateException("post search index is already being rebuilt");
+            }
+            changedDuringRebuild = new HashSet<>();
+        }
+        try {
+            return new Rebuild();
+        } catch (IOException e) {
+            stopTrackingChanges();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            stopTrackingChanges();
+            throw e;
+        }
+    }
+
+    public boolean isEmpty() {
+        return indexWriter.getDocStats().numDocs == 0;
+    }
+
+    public Page<Long> search(String word, Pageable pageable) {
+        Query query = parse(word);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = (int) pageable.getOffset();
+                TopDocs topDocs = searcher.search(query, Math.max(1, offset + pageable.getPageSize()), RELEVANCE, true);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+                List<Long> postIds = new ArrayList<>();
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    postIds.add(Long.valueOf(searcher.doc(scoreDocs[i].doc).get(ID)));
+                }
+                return new PageImpl<>(postIds, pageable, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Slice<Long> searchBefore(String word, Long postId, int size) {
+        Pageable pageable = Pageable.ofSize(size);
+        Query query = parse(word);
+        if (query == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        Query beforeQuery = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(LongPoint.newRangeQuery(ID_SORT, Long.MIN_VALUE, postId - 1), BooleanClause.Occur.FILTER)
+                .build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(beforeQuery, size + 1, LATEST).scoreDocs;
+
+                List<Long> postIds = new ArrayList<>();
+                for (int i = 0; i < Math.min(size, scoreDocs.length); i++) {
+                    postIds.add(Long.valueOf(searcher.doc(scoreDocs[i].doc).get(ID)));
+                }
+                return new SliceImpl<>(postIds, pageable, scoreDocs.length > size);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Document toDocument(Long postId, String title, String content, List<String> tagNames) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(postId), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, postId));
+        document.add(new LongPoint(ID_SORT, postId));
+        document.add(new TextField(TITLE, title == null ? "" : title, Field.Store.NO));
+        document.add(new TextField(CONTENT, content == null ? "" : content, Field.Store.NO));
+        tagNames.forEach(tagName -> document.add(new TextField(TAGS, tagName, Field.Store.NO)));
+        return document;
+    }
+
+    private Query parse(String word) {
+        if (word == null || word.isBlank()) {
+            return null;
+        }
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[]{TITLE, TAGS, CONTENT}, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParserBase.AND_OPERATOR);
+        try {
+            return parser.parse(QueryParser.escape(word));
+        } catch (ParseException e) {
+            log.debug("search word could not be parsed : {}", word, e);
+            return null;
+        }
+    }
+
+    private void changed(Long postId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(postId);
+        }
+    }
+
+    private void stopTrackingChanges() {
+        synchronized (writeLock) {
+            changedDuringRebuild = null;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        // IndexWriter 는 닫을 때 남은 변경을 커밋한다. 앞의 자원을 닫다가 실패해도 쓰기 잠금과 디렉터리는 마저 닫는다.
+        IOUtils.close(searcherManager, indexWriter, directory);
+    }
+
+    /**
+     * 따로 만드는 전체 색인. 디스크 색인이면 같은 위치의 임시 디렉터리에 만들고, 닫을 때 지운다.
+     */
+    public class Rebuild implements Closeable {
+        private final Path rebuildPath;
+        private final Directory rebuildDirectory;
+        private final IndexWriter rebuildWriter;
+
+        private Rebuild() throws IOException {
+            this.rebuildPath = indexPath == null
+                    ? null
+                    : Files.createTempDirectory(indexPath.getParent(), indexPath.getFileName() + "-rebuild");
+            this.rebuildDirectory = rebuildPath == null ? new ByteBuffersDirectory() : FSDirectory.open(rebuildPath);
+            IndexWriter writer = null;
+            try {
+                writer = new IndexWriter(rebuildDirectory, new IndexWriterConfig(analyzer)
+                        .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+                this.rebuildWriter = writer;
+            } catch (IOException | RuntimeException e) {
+                IOUtils.closeWhileHandlingException(writer, rebuildDirectory);
+                try {
+                    deleteRebuildPath();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        public void addAll(List<Document> documents) {
+            try {
+                rebuildWriter.addDocuments(documents);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 지금 색인을 새로 만든 색인으로 바꾸고 커밋한다. 지우기와 옮겨 담기 사이의 빈 색인은 검색에 보이지 않는다.
+         */
+        public void swap() {
+            try {
+                rebuildWriter.close();
+                synchronized (writeLock) {
+                    indexWriter.deleteAll();
+                    indexWriter.addIndexes(rebuildDirectory);
+                    indexWriter.commit();
+                    searcherManager.maybeRefreshBlocking();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 재색인을 시작한 뒤(또는 지난번 호출 뒤) 바뀐 게시글을 돌려준다. 새 색인에는 읽을 때의 내용이 들어 있을 수 있으므로
+         * 호출한 쪽이 다시 색인하고, 비어 있을 때까지 반복한다. 비어 있으면 더 모으지 않는다.
+         */
+        public Set<Long> drainChanged() {
+            synchronized (writeLock) {
+                Set<Long> changed = changedDuringRebuild == null ? Set.of() : changedDuringRebuild;
+                changedDuringRebuild = changed.isEmpty() ? null : new HashSet<>();
+                return changed;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            stopTrackingChanges();
+            try {
+                IOUtils.close(rebuildWriter, rebuildDirectory);
+            } finally {
+                deleteRebuildPath();
+            }
+        }
+
+        private void deleteRebuildPath() throws IOException {
+            if (rebuildPath != null) {
+                IOUtils.rm(rebuildPath);
+            }
+        }
+    }
+}
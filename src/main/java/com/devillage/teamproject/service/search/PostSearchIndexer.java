@@ -0,0 +1,135 @@
+package com.devillage.teamproject.service.search;
+
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.event.PostEvent;
+import com.devillage.teamproject.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 변경을 커밋 이후 검색 색인에 반영하고, 색인이 비어 있거나 --reindex 옵션으로 기동하면 전체 색인을 다시 만든다.
+ * <p>
+ * 반영은 검색에 바로 보이게만 하고, 디스크 커밋과 반영에 실패한 글의 재시도는 주기적으로 모아서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer implements ApplicationRunner {
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final Set<Long> failed = ConcurrentHashMap.newKeySet();
+
+    @Value("${search.index.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @TransactionalEventListener
+    public void handlePostEvent(PostEvent event) {
+        try {
+            if (event.getEventType() == PostEvent.EventType.DELETED) {
+                postSearchIndex.delete(event.getPostId());
+            } else {
+                postSearchIndex.index(event.getPostId(), event.getTitle(), event.getContent(), event.getTagNames());
+            }
+        } catch (RuntimeException e) {
+            failed.add(event.getPostId());
+            log.warn("failed to update search index for post {}, retrying on next commit", event.getPostId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval:30000}")
+    public void commit() {
+        if (!failed.isEmpty()) {
+            List<Long> postIds = new ArrayList<>(failed);
+            failed.removeAll(postIds);
+            try {
+                reindex(postIds);
+            } catch (RuntimeException e) {
+                failed.addAll(postIds);
+                log.error("failed to retry search index for {} posts", postIds.size(), e);
+            }
+        }
+        postSearchIndex.commit();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup || args.containsOption("reindex") || postSearchIndex.isEmpty()) {
+            reindexAll();
+        }
+    }
+
+    public long reindexAll() {
+        log.info("rebuilding post search index");
+        // 새 색인을 따로 만들어 바꿔 넣으므로 재색인하는 동안에도 지금 색인으로 검색한다.
+        try (PostSearchIndex.Rebuild rebuild = postSearchIndex.rebuild()) {
+            long indexed = 0L;
+            Long lastId = 0L;
+            List<Long> postIds;
+            do {
+                postIds = postRepository.findIdsAfter(lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+                if (postIds.isEmpty()) {
+                    break;
+                }
+                List<Document> documents = postRepository.findAllWithTagsByIdIn(postIds).stream()
+                        .map(this::toDocument)
+                        .collect(Collectors.toList());
+                rebuild.addAll(documents);
+
+                indexed += documents.size();
+                lastId = postIds.get(postIds.size() - 1);
+            } while (postIds.size() == REINDEX_BATCH_SIZE);
+            rebuild.swap();
+
+            // 읽은 뒤에 바뀐 글은 새 색인에 이전 내용으로 들어가 있을 수 있다.
+            for (Set<Long> changed = rebuild.drainChanged(); !changed.isEmpty(); changed = rebuild.drainChanged()) {
+                reindex(changed);
+            }
+
+            log.info("post search index rebuilt : {} posts", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reindex(Collection<Long> postIds) {
+        Set<Long> deleted = new HashSet<>(postIds);
+        for (Post post : postRepository.findAllWithTagsByIdIn(postIds)) {
+            postSearchIndex.index(post.getId(), post.getTitle(), post.getContent(), tagNames(post));
+            deleted.remove(post.getId());
+        }
+        deleted.forEach(postSearchIndex::delete);
+    }
+
+    private Document toDocument(Post post) {
+        return postSearchIndex.toDocument(post.getId(), post.getTitle(), post.getContent(), tagNames(post));
+    }
+
+    private List<String> tagNames(Post post) {
+        return post.getTags().stream()
+                .filter(postTag -> postTag.getTag() != null)
+                .map(postTag -> postTag.getTag().getName())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
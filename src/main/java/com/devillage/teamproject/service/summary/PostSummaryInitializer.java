@@ -0,0 +1,37 @@
+package com.devillage.teamproject.service.summary;
+
+import com.devillage.teamproject.repository.post.PostSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 모델이 비어 있거나 --rebuild-summary 옵션으로 기동하면 기존 게시글로 post_summary 를 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSummaryInitializer implements ApplicationRunner {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostSummaryService postSummaryService;
+    private final PostSummaryRepository postSummaryRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("rebuild-summary") || postSummaryRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    public void rebuildAll() {
+        log.info("rebuilding post summaries");
+        Long lastId = 0L;
+        while (lastId != null) {
+            lastId = postSummaryService.rebuild(lastId, REBUILD_BATCH_SIZE);
+        }
+        log.info("post summaries rebuilt");
+    }
+}
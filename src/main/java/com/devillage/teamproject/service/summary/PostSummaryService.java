@@ -0,0 +1,24 @@
+package com.devillage.teamproject.service.summary;
+
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.User;
+
+import java.util.List;
+
+public interface PostSummaryService {
+    void refresh(Post post, List<String> tagNames);
+
+    void delete(Long postId);
+
+    void addLikeCount(Long postId, long delta);
+
+    void reconcileLikeCounts(List<Long> postIds);
+
+    void addCommentCount(Long postId, long delta);
+
+    void reconcileCommentCounts(List<Long> postIds);
+
+    void updateAuthor(User author);
+
+    Long rebuild(Long lastPostId, int size);
+}
@@ -0,0 +1,89 @@
+package com.devillage.teamproject.service.summary;
+
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.PostSummary;
+import com.devillage.teamproject.entity.User;
+import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.repository.post.PostSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostSummaryServiceImpl implements PostSummaryService {
+
+    private final PostSummaryRepository postSummaryRepository;
+    private final PostRepository postRepository;
+
+    @Override
+    public void refresh(Post post, List<String> tagNames) {
+        List<String> distinctNames = tagNames == null ? List.of() : tagNames.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        postSummaryRepository.findById(post.getId()).ifPresentOrElse(
+                summary -> summary.update(post, distinctNames),
+                () -> postSummaryRepository.save(new PostSummary(post, distinctNames)));
+    }
+
+    @Override
+    public void delete(Long postId) {
+        if (postSummaryRepository.existsById(postId)) {
+            postSummaryRepository.deleteById(postId);
+        }
+    }
+
+    @Override
+    public void addLikeCount(Long postId, long delta) {
+        postSummaryRepository.addLikeCount(postId, delta);
+    }
+
+    @Override
+    public void reconcileLikeCounts(List<Long> postIds) {
+        postSummaryRepository.reconcileLikeCounts(postIds);
+    }
+
+    @Override
+    public void addCommentCount(Long postId, long delta) {
+        postSummaryRepository.addCommentCount(postId, delta);
+    }
+
+    @Override
+    public void reconcileCommentCounts(List<Long> postIds) {
+        postSummaryRepository.reconcileCommentCounts(postIds);
+    }
+
+    @Override
+    public void updateAuthor(User author) {
+        postSummaryRepository.updateAuthor(author.getId(), author.getNickName(),
+                author.getAvatar() == null ? null : author.getAvatar().getRemotePath());
+    }
+
+    @Override
+    public Long rebuild(Long lastPostId, int size) {
+        List<Long> postIds = postRepository.findIdsAfter(lastPostId, PageRequest.of(0, size));
+        if (postIds.isEmpty()) {
+            return null;
+        }
+
+        List<PostSummary> summaries = postRepository.findAllWithTagsByIdIn(postIds).stream()
+                .map(post -> new PostSummary(post, post.getTags().stream()
+                        .filter(postTag -> postTag.getTag() != null)
+                        .map(postTag -> postTag.getTag().getName())
+                        .distinct()
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+        postSummaryRepository.deleteAllByIdInBatch(postIds);
+        postSummaryRepository.saveAll(summaries);
+        postSummaryRepository.flush();
+        postSummaryRepository.reconcileCommentCounts(postIds);
+
+        return postIds.get(postIds.size() - 1);
+    }
+}
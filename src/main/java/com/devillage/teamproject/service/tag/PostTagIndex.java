@@ -0,0 +1,140 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 -> 게시글 id, 카테고리 -> 게시글 id 압축 비트맵(RoaringBitmap) 색인.
+ * 여러 태그의 AND / OR / NOT 조합을 조인 없이 비트맵 연산으로 계산하고, 결과를 id 내림차순 커서로 자른다.
+ * 게시글 id 는 int 범위여야 한다. 태그 이름은 색인과 조회 모두 Tag.normalizeName 으로 맞춘다.
+ */
+@Component
+public class PostTagIndex {
+    private final Map<String, RoaringBitmap> tags = new HashMap<>();
+    private final Map<CategoryType, RoaringBitmap> categories = new EnumMap<>(CategoryType.class);
+    private final RoaringBitmap all = new RoaringBitmap();
+    // 조회는 동시에, 색인 변경은 배타적으로 수행한다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Long postId, CategoryType categoryType, Collection<String> tagNames) {
+        int id = Math.toIntExact(postId);
+        lock.writeLock().lock();
+        try {
+            removeFromAll(id);
+            all.add(id);
+            if (categoryType != null) {
+                categories.computeIfAbsent(categoryType, key -> new RoaringBitmap()).add(id);
+            }
+            tagNames.forEach(tagName -> tags.computeIfAbsent(Tag.normalizeName(tagName), key -> new RoaringBitmap())
+                    .add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long postId) {
+        int id = Math.toIntExact(postId);
+        lock.writeLock().lock();
+        try {
+            removeFromAll(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void deleteAll() {
+        lock.writeLock().lock();
+        try {
+            tags.clear();
+            categories.clear();
+            all.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return all.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (allOf 의 교집합) ∩ (anyOf 의 합집합) - (noneOf 의 합집합) 을 카테고리로 거른 뒤, before 보다 작은 id 를 큰 순서로 size 개 돌려준다.
+     * allOf 와 anyOf 가 모두 비어 있으면 카테고리 전체가 대상이다.
+     */
+    public Slice<Long> search(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf,
+                              CategoryType categoryType, Long before, int size) {
+        RoaringBitmap result;
+        lock.readLock().lock();
+        try {
+            result = categoryType == null || categoryType == CategoryType.ALL
+                    ? all.clone()
+                    : RoaringBitmap.and(all, categories.getOrDefault(categoryType, new RoaringBitmap()));
+            for (String tagName : allOf) {
+                result.and(tags.getOrDefault(Tag.normalizeName(tagName), new RoaringBitmap()));
+            }
+            if (!anyOf.isEmpty()) {
+                result.and(union(anyOf));
+            }
+            if (!noneOf.isEmpty()) {
+                result.andNot(union(noneOf));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (before != null && before <= Integer.MAX_VALUE) {
+            result.remove(Math.max(before, 0L), 0x100000000L);
+        }
+
+        List<Long> postIds = new ArrayList<>(Math.min(size, result.getCardinality()));
+        IntIterator iterator = result.getReverseIntIterator();
+        while (iterator.hasNext() && postIds.size() < size) {
+            postIds.add(Integer.toUnsignedLong(iterator.next()));
+        }
+        return new SliceImpl<>(postIds, PageRequest.of(0, size), iterator.hasNext());
+    }
+
+    private RoaringBitmap union(Collection<String> tagNames) {
+        RoaringBitmap union = new RoaringBitmap();
+        tagNames.forEach(tagName -> {
+            RoaringBitmap posts = tags.get(Tag.normalizeName(tagName));
+            if (posts != null) {
+                union.or(posts);
+            }
+        });
+        return union;
+    }
+
+    // 게시글별 태그 목록을 따로 두지 않고, 드문 쓰기 시점에 모든 비트맵에서 지운다.
+    private void removeFromAll(int id) {
+        if (!all.contains(id)) {
+            return;
+        }
+        all.remove(id);
+        categories.values().forEach(posts -> posts.remove(id));
+        tags.values().removeIf(posts -> {
+            posts.remove(id);
+            return posts.isEmpty();
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.event.PostEvent;
+import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.repository.post.PostTagRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 게시글-태그 관계로 태그 비트맵 색인을 만들고, 이후 게시글 변경은 커밋 이후 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTagIndexer implements ApplicationRunner {
+    private static final int REINDEX_BATCH_SIZE = 1000;
+
+    private final PostTagIndex postTagIndex;
+    private final PostRepository postRepository;
+
+    @TransactionalEventListener
+    public void handlePostEvent(PostEvent event) {
+        try {
+            if (event.getEventType() == PostEvent.EventType.DELETED) {
+                postTagIndex.delete(event.getPostId());
+            } else {
+                postTagIndex.index(event.getPostId(), event.getCategoryType(), event.getTagNames());
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to update tag index for post {}", event.getPostId(), e);
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reindexAll();
+    }
+
+    public long reindexAll() {
+        log.info("building post tag index");
+        postTagIndex.deleteAll();
+
+        long indexed = 0L;
+        Long lastId = 0L;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsAfter(lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<PostTagRow>> rowsByPost = new LinkedHashMap<>();
+            postRepository.findTagRowsByIdIn(postIds)
+                    .forEach(row -> rowsByPost.computeIfAbsent(row.getPostId(), key -> new ArrayList<>()).add(row));
+            rowsByPost.forEach((postId, rows) -> postTagIndex.index(postId, rows.get(0).getCategoryType(),
+                    rows.stream()
+                            .map(PostTagRow::getTagName)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList())));
+
+            indexed += rowsByPost.size();
+            lastId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == REINDEX_BATCH_SIZE);
+
+        log.info("post tag index built : {} posts", indexed);
+        return indexed;
+    }
+}
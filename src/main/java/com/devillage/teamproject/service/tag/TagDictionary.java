@@ -0,0 +1,73 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 태그 이름 -> 태그 id 사전. 이름은 Tag.normalizeName 으로 맞춘 값을 키로 쓴다.
+ * 태그는 생성만 되고 이름이 바뀌거나 삭제되지 않으므로, 다른 노드에서 만든 태그는 miss 시 DB 조회로 채워진다.
+ */
+@Component
+public class TagDictionary {
+    private final Cache<String, Long> cache;
+
+    @Getter
+    private final int maxSize;
+
+    public TagDictionary(@Value("${tag.dictionary.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tagDictionary");
+    }
+
+    public Optional<Long> find(String name) {
+        String key = Tag.normalizeName(name);
+        return key == null ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(Tag tag) {
+        cache.put(Tag.normalizeName(tag.getName()), tag.getId());
+    }
+
+    public void putAll(Collection<Tag> tags) {
+        tags.forEach(this::put);
+    }
+
+    public void putAfterCommit(Collection<Tag> tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putAll(tags);
+            return;
+        }
+        List<Tag> created = List.copyOf(tags);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putAll(created);
+            }
+        });
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
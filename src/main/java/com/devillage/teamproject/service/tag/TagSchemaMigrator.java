@@ -0,0 +1,180 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기존 tag, post_tag 데이터가 있는 스키마를 ddl-auto 보다 먼저 옮긴다.
+ * <p>
+ * tag.name 유니크 제약은 정규화한 이름(Tag.normalizeName) 기준이다. 대소문자·앞뒤 공백만 다른 태그가 남아 있으면
+ * ddl-auto 가 제약을 만들지 못하고 로그만 남기므로, 가장 먼저 만든 태그로 합치고 이름을 정규화해 둔다.
+ * <p>
+ * tag, post_tag id 는 시퀀스로 만드는데, 시퀀스가 없는 MySQL 에서는 Hibernate 가 tag_seq, post_tag_seq 테이블로 흉내 낸다.
+ * ddl-auto 가 만든 시퀀스 테이블은 1 부터 시작해 IDENTITY 시절 id 와 겹치므로, 기존 최대 id 다음 블록부터 나눠 주도록 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagSchemaMigrator implements InitializingBean {
+    // Tag, PostTag 의 allocationSize 와 같아야 한다.
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final List<IdSequence> ID_SEQUENCES = List.of(
+            new IdSequence("tag_seq", "tag", "tag_id"),
+            new IdSequence("post_tag_seq", "post_tag", "post_tag_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    void migrate() {
+        mergeDuplicateTags();
+        boolean emulatesSequences = emulatesSequences();
+        ID_SEQUENCES.forEach(sequence -> seed(sequence, emulatesSequences));
+    }
+
+    private void mergeDuplicateTags() {
+        if (!tableExists("tag")) {
+            return;
+        }
+
+        Map<String, List<StoredTag>> tagsByName = new LinkedHashMap<>();
+        jdbcTemplate.query("select tag_id, name from tag order by tag_id", (RowCallbackHandler) resultSet -> {
+            StoredTag tag = new StoredTag(resultSet.getLong("tag_id"), resultSet.getString("name"));
+            if (tag.name != null) {
+                tagsByName.computeIfAbsent(Tag.normalizeName(tag.name), name -> new ArrayList<>()).add(tag);
+            }
+        });
+        // 합칠 태그가 없고 이름도 이미 정규화된 것은 건드리지 않는다.
+        tagsByName.entrySet().removeIf(entry ->
+                entry.getValue().size() == 1 && entry.getKey().equals(entry.getValue().get(0).name));
+        if (tagsByName.isEmpty()) {
+            return;
+        }
+
+        boolean hasPostTag = tableExists("post_tag");
+        boolean hasTagCount = tableExists("tag_count");
+        new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()))
+                .executeWithoutResult(status -> tagsByName.forEach(
+                        (name, tags) -> merge(name, tags, hasPostTag, hasTagCount)));
+        // post_summary.tag_names 에는 합치기 전 이름이 남아 있을 수 있다.
+        log.info("normalized {} tag names; run with --rebuild-summary to refresh post_summary.tag_names",
+                tagsByName.size());
+    }
+
+    private void merge(String name, List<StoredTag> tags, boolean hasPostTag, boolean hasTagCount) {
+        StoredTag kept = tags.get(0);
+        List<StoredTag> duplicates = tags.subList(1, tags.size());
+        for (StoredTag duplicate : duplicates) {
+            if (hasPostTag) {
+                // 같은 게시글에 두 태그가 모두 달려 있으면 연결을 하나만 남긴다.
+                jdbcTemplate.update("delete from post_tag where tag_id = ? and post_id in "
+                        + "(select post_id from (select post_id from post_tag where tag_id = ?) kept_posts)",
+                        duplicate.id, kept.id);
+                jdbcTemplate.update("update post_tag set tag_id = ? where tag_id = ?", kept.id, duplicate.id);
+            }
+            if (hasTagCount) {
+                jdbcTemplate.update("delete from tag_count where tag_id = ?", duplicate.id);
+            }
+            jdbcTemplate.update("delete from tag where tag_id = ?", duplicate.id);
+        }
+
+        jdbcTemplate.update("update tag set name = ? where tag_id = ?", name, kept.id);
+        if (hasTagCount && !duplicates.isEmpty()) {
+            // 합친 태그의 사용 횟수는 CountReconciler 가 기동 시 다시 만든다.
+            jdbcTemplate.update("delete from tag_count where tag_id = ?", kept.id);
+        } else if (hasTagCount) {
+            jdbcTemplate.update("update tag_count set tag_name = ? where tag_id = ?", name, kept.id);
+        }
+    }
+
+    private void seed(IdSequence sequence, boolean emulatesSequences) {
+        // 테이블이 없으면 처음 만드는 스키마이므로 1 부터 시작해도 된다.
+        if (!tableExists(sequence.table)) {
+            return;
+        }
+
+        // pooled 최적화는 읽은 값을 블록의 끝으로 쓰므로, 최대 id 에 블록 크기를 더해야 첫 블록이 기존 id 와 겹치지 않는다.
+        Long maxId = jdbcTemplate.queryForObject(
+                "select coalesce(max(" + sequence.idColumn + "), 0) from " + sequence.table, Long.class);
+        long nextValue = (maxId == null ? 0L : maxId) + ID_ALLOCATION_SIZE;
+
+        if (tableExists(sequence.sequenceTable)) {
+            if (jdbcTemplate.update("update " + sequence.sequenceTable + " set next_val = ? where next_val < ?",
+                    nextValue, nextValue) > 0) {
+                log.info("raised {} to {}", sequence.sequenceTable, nextValue);
+            }
+        } else if (emulatesSequences) {
+            // ddl-auto 는 이미 있는 시퀀스 테이블을 다시 만들거나 초기값을 넣지 않는다.
+            jdbcTemplate.execute("create table " + sequence.sequenceTable + " (next_val bigint)");
+            jdbcTemplate.update("insert into " + sequence.sequenceTable + " values (?)", nextValue);
+            log.info("created {} starting at {}", sequence.sequenceTable, nextValue);
+        }
+    }
+
+    private boolean emulatesSequences() {
+        String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return productName != null && (productName.equalsIgnoreCase("MySQL")
+                || productName.equalsIgnoreCase("MariaDB"));
+    }
+
+    boolean tableExists(String table) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null,
+                    identifier(metaData, table), new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // H2 는 따옴표 없는 이름을 대문자로, MySQL 은 그대로 저장한다.
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    @RequiredArgsConstructor
+    private static class StoredTag {
+        private final long id;
+        private final String name;
+    }
+
+    @RequiredArgsConstructor
+    private static class IdSequence {
+        private final String sequenceTable;
+        private final String table;
+        private final String idColumn;
+    }
+
+    /**
+     * ddl-auto 가 유니크 제약과 시퀀스 테이블을 만들기 전에 옮기도록 EntityManagerFactory 를 이 빈 뒤에 만든다.
+     */
+    @Component
+    static class JpaDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        JpaDependency() {
+            super("tagSchemaMigrator");
+        }
+    }
+}
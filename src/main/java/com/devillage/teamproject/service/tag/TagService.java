@@ -0,0 +1,24 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.tag.TagUsage;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagService {
+    List<Tag> findOrCreateTags(List<String> tagNames);
+
+    Tag findVerifiedTag(String name);
+
+    List<TagSuggestion> suggestTags(String prefix, int size);
+
+    void addUsage(Collection<Long> tagIds, CategoryType categoryType, long delta);
+
+    List<TagUsage> getPopularTags(String category, int size);
+
+    Long createMissingUsageCounts(Long lastTagId, int size);
+
+    Long reconcileUsageCounts(Long lastTagId, int size);
+}
@@ -0,0 +1,190 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.TagCount;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.exception.BusinessLogicException;
+import com.devillage.teamproject.exception.ExceptionCode;
+import com.devillage.teamproject.repository.UniqueConstraints;
+import com.devillage.teamproject.repository.tag.TagCountRepository;
+import com.devillage.teamproject.repository.tag.TagRepository;
+import com.devillage.teamproject.repository.tag.TagUsage;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class TagServiceImpl implements TagService {
+
+    private final TagRepository tagRepository;
+    private final TagCountRepository tagCountRepository;
+    private final TagDictionary tagDictionary;
+    private final TagSuggester tagSuggester;
+    private final TransactionTemplate newTransaction;
+
+    public TagServiceImpl(TagRepository tagRepository, TagCountRepository tagCountRepository,
+                          TagDictionary tagDictionary, TagSuggester tagSuggester,
+                          PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.tagCountRepository = tagCountRepository;
+        this.tagDictionary = tagDictionary;
+        this.tagSuggester = tagSuggester;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUpDictionary() {
+        tagDictionary.putAll(tagRepository.findAll(PageRequest.of(0, tagDictionary.getMaxSize())).getContent());
+    }
+
+    @Override
+    public List<Tag> findOrCreateTags(List<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return List.of();
+        }
+        Set<String> names = tagNames.stream()
+                .map(Tag::normalizeName)
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Tag> tags = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        names.forEach(name -> tagDictionary.find(name).ifPresentOrElse(
+                id -> tags.put(name, tagRepository.getReferenceById(id)),
+                () -> misses.add(name)));
+
+        if (!misses.isEmpty()) {
+            // 태그는 게시글 저장과 별도 트랜잭션에서 만든다. 다른 요청이 같은 태그를 먼저 만들어 이름 유니크 제약에 걸리면
+            // 게시글 트랜잭션은 그대로 두고, 새 트랜잭션에서 다시 읽어 그 요청이 만든 태그를 쓴다.
+            List<Tag> resolvedTags;
+            try {
+                resolvedTags = newTransaction.execute(status -> findOrCreateMissingTags(misses));
+            } catch (DataIntegrityViolationException e) {
+                if (!UniqueConstraints.isViolated(e, Tag.NAME_CONSTRAINT)) {
+                    throw e;
+                }
+                resolvedTags = newTransaction.execute(status -> findOrCreateMissingTags(misses));
+            }
+            // 이미 대소문자만 다르게 저장된 태그가 있으면 새로 만들지 않고 그 태그를 쓴다.
+            resolvedTags.forEach(tag -> tags.put(Tag.normalizeName(tag.getName()), tag));
+        }
+
+        return names.stream()
+                .map(tags::get)
+                .collect(Collectors.toList());
+    }
+
+    private List<Tag> findOrCreateMissingTags(List<String> names) {
+        List<Tag> foundTags = tagRepository.findAllByNameIn(names);
+        tagDictionary.putAll(foundTags);
+        Set<String> foundNames = foundTags.stream()
+                .map(tag -> Tag.normalizeName(tag.getName()))
+                .collect(Collectors.toSet());
+
+        List<Tag> newTags = tagRepository.saveAll(names.stream()
+                .filter(name -> !foundNames.contains(name))
+                .map(Tag::new)
+                .collect(Collectors.toList()));
+        tagCountRepository.saveAll(newTags.stream()
+                .flatMap(tag -> TagCount.allCategoriesOf(tag).stream())
+                .collect(Collectors.toList()));
+        // 이름 충돌을 커밋이 아니라 여기서 DataIntegrityViolationException 으로 받는다.
+        tagRepository.flush();
+        tagDictionary.putAfterCommit(newTags);
+        tagSuggester.addAfterCommit(newTags);
+
+        List<Tag> resolvedTags = new ArrayList<>(foundTags);
+        resolvedTags.addAll(newTags);
+        return resolvedTags;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Tag findVerifiedTag(String name) {
+        String normalizedName = Tag.normalizeName(name);
+        Optional<Long> tagId = tagDictionary.find(normalizedName);
+        if (tagId.isPresent()) {
+            return tagRepository.getReferenceById(tagId.get());
+        }
+
+        Tag tag = tagRepository.findTagByName(normalizedName)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.TAG_NOT_FOUND));
+        tagDictionary.put(tag);
+        return tag;
+    }
+
+    // 메모리 트라이만 읽으므로 트랜잭션(커넥션)을 잡지 않는다.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TagSuggestion> suggestTags(String prefix, int size) {
+        return tagSuggester.suggest(prefix, size);
+    }
+
+    @Override
+    public void addUsage(Collection<Long> tagIds, CategoryType categoryType, long delta) {
+        if (tagIds.isEmpty() || categoryType == null) {
+            return;
+        }
+        tagCountRepository.addUsageCounts(tagIds, EnumSet.of(categoryType, CategoryType.ALL), delta);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TagUsage> getPopularTags(String category, int size) {
+        return tagCountRepository.findPopular(verifiedCategoryType(category), PageRequest.of(0, size));
+    }
+
+    @Override
+    public Long createMissingUsageCounts(Long lastTagId, int size) {
+        List<Long> tagIds = tagRepository.findIdsWithoutCountAfter(lastTagId, PageRequest.of(0, size));
+        if (tagIds.isEmpty()) {
+            return null;
+        }
+
+        tagCountRepository.saveAll(tagRepository.findAllById(tagIds).stream()
+                .flatMap(tag -> TagCount.allCategoriesOf(tag).stream())
+                .collect(Collectors.toList()));
+        tagCountRepository.reconcileUsageCounts(tagIds, CategoryType.ALL);
+        return tagIds.get(tagIds.size() - 1);
+    }
+
+    @Override
+    public Long reconcileUsageCounts(Long lastTagId, int size) {
+        List<Long> tagIds = tagRepository.findIdsAfter(lastTagId, PageRequest.of(0, size));
+        if (tagIds.isEmpty()) {
+            return null;
+        }
+
+        tagCountRepository.reconcileUsageCounts(tagIds, CategoryType.ALL);
+        return tagIds.get(tagIds.size() - 1);
+    }
+
+    private CategoryType verifiedCategoryType(String category) {
+        try {
+            return CategoryType.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.tag.TagCountRepository;
+import com.devillage.teamproject.repository.tag.TagUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 이름 접두사 트라이. 노드마다 그 접두사로 시작하는 태그 중 사용 횟수 상위 K 개를 미리 들고 있어,
+ * 조회는 접두사 길이만큼 내려가서 목록을 복사하는 것으로 끝나고 태그 수와 무관하다.
+ * <p>
+ * 한글은 자모 단위로 풀어 색인하므로 입력 중인 글자("잡")로도 "자바" 를 찾을 수 있다.
+ * 새 태그는 커밋 후 바로 추가하고, 사용 횟수와 다른 노드에서 만든 태그는 tag_count 를 읽는 주기적인 재구성으로 맞춘다.
+ */
+@Slf4j
+@Component
+public class TagSuggester implements ApplicationRunner {
+    private static final Comparator<TagSuggestion> BY_USAGE = Comparator.comparingLong(TagSuggestion::getUsageCount)
+            .reversed()
+            .thenComparing(TagSuggestion::getName);
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ",
+            "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    private final TagCountRepository tagCountRepository;
+    private final int maxSize;
+    // 조회는 동시에, 추가와 재구성 교체는 배타적으로 수행한다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    // 재구성 조회 이후에 추가된 태그는 새 트라이에 없을 수 있으므로 교체할 때 다시 넣는다.
+    private List<TagSuggestion> addedWhileRebuilding;
+
+    public TagSuggester(TagCountRepository tagCountRepository, @Value("${tag.suggest.max-size:10}") int maxSize) {
+        this.tagCountRepository = tagCountRepository;
+        this.maxSize = maxSize;
+    }
+
+    public List<TagSuggestion> suggest(String prefix, int size) {
+        String key = searchKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return List.copyOf(node.top.subList(0, Math.max(0, Math.min(size, node.top.size()))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 방금 만든 태그를 추가한다. 새 태그는 만든 게시글 하나에서 쓰이고 있으므로 사용 횟수 1 로 넣는다.
+     */
+    public void addAfterCommit(Collection<Tag> created) {
+        List<TagSuggestion> suggestions = created.stream()
+                .map(tag -> new TagSuggestion(tag.getName(), 1L))
+                .collect(Collectors.toList());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addAll(suggestions);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addAll(suggestions);
+            }
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${tag.suggest.rebuild-interval:600000}",
+            initialDelayString = "${tag.suggest.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            addedWhileRebuilding = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<TagUsage> usages;
+        try {
+            usages = tagCountRepository.findUsagesByCategoryType(CategoryType.ALL);
+        } catch (DataAccessException e) {
+            log.warn("failed to rebuild tag suggestions", e);
+            lock.writeLock().lock();
+            try {
+                addedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        // 새 트라이는 락 밖에서 만들고 교체만 락 안에서 한다.
+        Node rebuilt = new Node();
+        usages.forEach(usage -> insert(rebuilt, new TagSuggestion(usage.getName(), usage.getUsageCount())));
+
+        lock.writeLock().lock();
+        try {
+            addedWhileRebuilding.forEach(suggestion -> insertIfAbsent(rebuilt, suggestion));
+            addedWhileRebuilding = null;
+            root = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("tag suggestions rebuilt : {} tags", usages.size());
+    }
+
+    private void addAll(Collection<TagSuggestion> suggestions) {
+        lock.writeLock().lock();
+        try {
+            suggestions.forEach(suggestion -> insertIfAbsent(root, suggestion));
+            if (addedWhileRebuilding != null) {
+                addedWhileRebuilding.addAll(suggestions);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이미 있는 태그는 재구성에서 읽은 사용 횟수가 더 정확하므로 덮어쓰지 않는다.
+    // 태그 이름은 대소문자만 다르면 같은 태그다(Tag.normalizeName).
+    private void insertIfAbsent(Node root, TagSuggestion suggestion) {
+        Node node = root;
+        String key = searchKey(suggestion.getName());
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null || node.names == null
+                || node.names.stream().noneMatch(name -> name.equalsIgnoreCase(suggestion.getName()))) {
+            insert(root, suggestion);
+        }
+    }
+
+    private void insert(Node root, TagSuggestion suggestion) {
+        String key = searchKey(suggestion.getName());
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.offer(suggestion, maxSize);
+        }
+        if (node.names == null) {
+            node.names = new HashSet<>(1);
+        }
+        node.names.add(suggestion.getName());
+    }
+
+    static String searchKey(String value) {
+        if (value == null) {
+            return "";
+        }
+        String lowerCase = value.strip().toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(lowerCase.length() * 3);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                int offset = c - HANGUL_BEGIN;
+                key.append(CHOSEONG.charAt(offset / (JUNGSEONG.length * JONGSEONG.length)))
+                        .append(JUNGSEONG[offset / JONGSEONG.length % JUNGSEONG.length])
+                        .append(JONGSEONG[offset % JONGSEONG.length]);
+            } else {
+                key.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return key.toString();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // 키가 이 노드에서 끝나는 태그 이름. 대소문자만 다른 태그는 같은 키를 가진다.
+        private Set<String> names;
+        private List<TagSuggestion> top = List.of();
+
+        // 같은 이름은 새 값으로 바꾸고, 정렬 후 상위 maxSize 개만 남긴다.
+        private void offer(TagSuggestion suggestion, int maxSize) {
+            List<TagSuggestion> candidates = new ArrayList<>(top.size() + 1);
+            top.stream()
+                    .filter(current -> !current.getName().equals(suggestion.getName()))
+                    .forEach(candidates::add);
+            candidates.add(suggestion);
+            candidates.sort(BY_USAGE);
+            top = candidates.size() > maxSize
+                    ? List.copyOf(candidates.subList(0, maxSize))
+                    : List.copyOf(candidates);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.devillage.teamproject.service.tag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TagSuggestion {
+    private final String name;
+    private final long usageCount;
+}
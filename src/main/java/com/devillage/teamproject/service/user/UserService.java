@@ -21,6 +21,10 @@ public interface UserService {
 
     User findVerifiedUser(Long userId);
 
+    void earnCommentPoint(Long userId);
+
+    User getUserReference(Long userId);
+
     Long checkUserPassword(Long id, String password, Long tokenId
     );
 
@@ -12,6 +12,7 @@ import com.devillage.teamproject.repository.user.BlockRepository;
 import com.devillage.teamproject.repository.user.UserRepository;
 import com.devillage.teamproject.security.resolver.AccessToken;
 import com.devillage.teamproject.security.util.JwtTokenUtil;
+import com.devillage.teamproject.service.summary.PostSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -33,6 +34,7 @@ public class UserServiceImpl implements UserService {
     private final BlockRepository blockRepository;
     private final JwtTokenUtil jwtTokenUtil;
     private final PasswordEncoder passwordEncoder;
+    private final PostSummaryService postSummaryService;
 
     @Override
     public User joinUser(User user) {
@@ -57,6 +59,7 @@ public class UserServiceImpl implements UserService {
                 throw new BusinessLogicException(ExceptionCode.NICKNAME_ALREADY_EXISTS);
             }
             user.setNickName(nickName);
+            postSummaryService.updateAuthor(user);
         }
 
         if (statusMessage != null) {
@@ -118,6 +121,22 @@ public class UserServiceImpl implements UserService {
         return findUser;
     }
 
+    @Override
+    public void earnCommentPoint(Long userId) {
+        // 회원을 읽지 않고 포인트를 올리면서 존재 여부와 탈퇴 여부를 같이 확인한다.
+        // 실패했을 때만 어느 쪽인지 구분해서 findVerifiedUser 와 같은 예외를 던진다.
+        if (userRepository.earnCommentPoint(userId, UserStatus.RESIGNED) == 0) {
+            throw new BusinessLogicException(userRepository.existsById(userId)
+                    ? ExceptionCode.USER_RESIGNED
+                    : ExceptionCode.USER_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     @Override
     public Long checkUserPassword(Long id, String password, Long tokenId) {
         if (!Objects.equals(id, tokenId)) throw new IllegalArgumentException("잘못된 요청");
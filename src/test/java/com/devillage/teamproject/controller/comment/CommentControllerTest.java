@@ -7,6 +7,9 @@ import com.devillage.teamproject.entity.ReComment;
 import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.security.resolver.ResultJwtArgumentResolver;
 import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.comment.CommentThread;
+import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.PostVersion;
 import com.devillage.teamproject.util.security.SecurityTestConfig;
 import com.devillage.teamproject.util.security.WithMockCustomUser;
 import com.google.gson.Gson;
@@ -19,19 +22,27 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.devillage.teamproject.security.util.JwtConstants.AUTHORIZATION_HEADER;
 import static com.devillage.teamproject.util.TestConstants.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -54,12 +65,37 @@ class CommentControllerTest {
     @MockBean
     CommentService commentService;
 
+    @MockBean
+    PostService postService;
+
     @MockBean
     ResultJwtArgumentResolver resultJwtArgumentResolver;
 
     @Autowired
     private Gson gson;
 
+    @Test
+    void getCommentsNotModified() throws Exception {
+        // given
+        Long postId = 1L;
+        PostVersion version = PostVersion.of(postId, 3L, LocalDateTime.of(2022, 9, 1, 12, 0));
+        String etag = version.strongEtag("comments:1:10:anonymous");
+
+        given(postService.getVersion(postId)).willReturn(version);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/{post-id}/comments", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        );
+
+        // then
+        actions.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(commentService, never()).findComments(anyLong(), anyInt(), anyInt());
+    }
+
     @Test
     void deleteReComment() throws Exception {
         // given
@@ -316,12 +352,15 @@ class CommentControllerTest {
         User user = User.builder().id(ID1).nickName(NICKNAME1).build();
         Comment comment1 = Comment.builder().id(ID1).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
         ReComment reComment1_1 = ReComment.builder().id(ID1).content(COMMENT_CONTENT).user(user).comment(comment1).build();
-        comment1.getReComments().add(reComment1_1);
+        ReComment reComment1_2 = ReComment.builder().id(ID2).content(COMMENT_CONTENT).user(user).comment(comment1).build();
         Comment comment2 = Comment.builder().id(ID2).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
         Comment comment3 = Comment.builder().id(ID2 + 1).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
 
         given(commentService.findComments(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .willReturn(new PageImpl<>(List.of(comment1, comment2, comment3)));
+                .willReturn(new PageImpl<>(List.of(
+                        CommentThread.of(comment1, List.of(reComment1_1, reComment1_2), 1),
+                        CommentThread.of(comment2, List.of(), 1),
+                        CommentThread.of(comment3, List.of(), 1))));
 
         // when
         ResultActions actions = mockMvc.perform(
@@ -335,6 +374,10 @@ class CommentControllerTest {
         // then
         actions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].reComments.length()").value(1))
+                .andExpect(jsonPath("$.data[0].reCommentCursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.data[0].reCommentCursorInfo.nextCursor").value(reComment1_1.getId()))
+                .andExpect(jsonPath("$.data[1].reCommentCursorInfo.hasNext").value(false))
                 .andDo(document(
                         "get-comments",
                         preprocessResponse(prettyPrint()),
@@ -376,6 +419,10 @@ class CommentControllerTest {
                                 fieldWithPath("data[].reComments[].createdAt").description("작성 시간"),
                                 fieldWithPath("data[].reComments[].lastModifiedAt").description("수정 시간"),
                                 fieldWithPath("data[].reComments[].isLiked").type(JsonFieldType.BOOLEAN).description("좋아요 여부"),
+                                fieldWithPath("data[].reCommentCursorInfo").type(JsonFieldType.OBJECT).description("대댓글 커서 정보"),
+                                fieldWithPath("data[].reCommentCursorInfo.size").type(JsonFieldType.NUMBER).description("포함된 대댓글 수"),
+                                fieldWithPath("data[].reCommentCursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("나머지 대댓글 존재 여부"),
+                                fieldWithPath("data[].reCommentCursorInfo.nextCursor").type(JsonFieldType.NUMBER).description("대댓글 조회에 사용할 커서").optional(),
                                 fieldWithPath("pageInfo").type(JsonFieldType.OBJECT).description("페이지 정보"),
                                 fieldWithPath("pageInfo.page").type(JsonFieldType.NUMBER).description("페이지"),
                                 fieldWithPath("pageInfo.size").type(JsonFieldType.NUMBER).description("사이즈"),
@@ -386,6 +433,55 @@ class CommentControllerTest {
 
     }
 
+    @Test
+    public void getReComments() throws Exception {
+        // given
+        Post post = Post.builder().id(ID1).build();
+        User user = User.builder().id(ID1).nickName(NICKNAME1).build();
+        Comment comment = Comment.builder().id(ID1).content(COMMENT_CONTENT).user(user).post(post).build();
+        ReComment reComment = ReComment.builder().id(ID2 + 1).content(COMMENT_CONTENT).user(user).comment(comment).build();
+        Long after = ID2;
+
+        given(commentService.findReComments(post.getId(), comment.getId(), after, 1))
+                .willReturn(new SliceImpl<>(List.of(reComment), PageRequest.of(0, 1), true));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/{post-id}/comments/{comment-id}/re-comments", post.getId(), comment.getId())
+                        .param("after", String.valueOf(after))
+                        .param("size", "1")
+        );
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].reCommentId").value(reComment.getId()))
+                .andExpect(jsonPath("$.data[0].parentCommentId").value(comment.getId()))
+                .andExpect(jsonPath("$.cursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.cursorInfo.nextCursor").value(reComment.getId()))
+                .andDo(document(
+                        "get-re-comments",
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("post-id").description("게시글 식별자"),
+                                parameterWithName("comment-id").description("댓글 식별자")
+                        ),
+                        requestParameters(
+                                parameterWithName("after").description("이전 응답의 nextCursor, 댓글 조회의 reCommentCursorInfo.nextCursor (처음은 생략)").optional(),
+                                parameterWithName("size").description("사이즈, 생략시 10").optional()
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("대댓글 목록"),
+                                fieldWithPath("data[].reCommentId").type(JsonFieldType.NUMBER).description("대댓글 식별자"),
+                                fieldWithPath("data[].parentCommentId").type(JsonFieldType.NUMBER).description("부모댓글 식별자"),
+                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("대댓글 내용"),
+                                fieldWithPath("cursorInfo").type(JsonFieldType.OBJECT).description("커서 정보"),
+                                fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("사이즈"),
+                                fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("다음 데이터 존재 여부"),
+                                fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.NUMBER).description("다음 요청에 사용할 커서").optional()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("deleteComment")
     public void deleteComment() throws Exception {
@@ -3,12 +3,15 @@ package com.devillage.teamproject.controller.post;
 import com.devillage.teamproject.entity.*;
 import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.entity.enums.FileType;
+import com.devillage.teamproject.repository.post.BookmarkedPost;
 import com.devillage.teamproject.security.config.SecurityConfig;
 import com.devillage.teamproject.security.resolver.ResultJwtArgumentResolver;
 import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.post.PostResponseCache;
 import com.devillage.teamproject.service.post.PostService;
 import com.devillage.teamproject.util.Reflection;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
@@ -19,6 +22,8 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
@@ -28,17 +33,20 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.devillage.teamproject.security.util.JwtConstants.AUTHORIZATION_HEADER;
 import static com.devillage.teamproject.util.TestConstants.TAGNAME1;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
@@ -70,6 +78,9 @@ public class GetPostsControllerTest implements Reflection {
     @MockBean
     ResultJwtArgumentResolver resultJwtArgumentResolver;
 
+    @MockBean
+    PostResponseCache postResponseCache;
+
     @Autowired
     ObjectMapper objectMapper = new ObjectMapper();
 
@@ -85,11 +96,13 @@ public class GetPostsControllerTest implements Reflection {
     int page = 1;
     int size = 2;
 
-    List<Post> posts = new ArrayList<>();
-    Page<Post> pagePosts;
+    PostSummary summary;
+    List<PostSummary> posts = new ArrayList<>();
+    Page<PostSummary> pagePosts;
 
     GetPostsControllerTest() throws Exception {
         setField(user, "id", 1L);
+        setField(user, "nickName", "닉네임");
         setField(post, "id", 2L);
 
         setField(category, "categoryType", CategoryType.FREE);
@@ -107,18 +120,27 @@ public class GetPostsControllerTest implements Reflection {
         setField(file, "owner", user);
 
         setField(post, "title", "제목");
-        setField(post, "content", "내용");
+        setField(post, "body", PostContent.of("내용"));
         setField(post, "clicks", 1L);
+        setField(post, "likeCount", 0L);
+        setField(post, "user", user);
         setField(post, "category", category);
         setField(post, "tags", List.of(postTag));
         setField(post, "postsFiles", List.of(postsFile));
         post.setDate();
 
-        posts.add(post);
+        summary = new PostSummary(post, List.of(TAGNAME1));
+        posts.add(summary);
 
         pagePosts = new PageImpl<>(posts, PageRequest.of(page - 1, size), 1);
     }
 
+    @BeforeEach
+    void setUp() {
+        given(postResponseCache.getCategoryPage(any(), anyInt(), anyInt(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<String>>getArgument(3).get());
+    }
+
     @Test
     public void getPostsByCategory() throws Exception {
         // given
@@ -135,20 +157,17 @@ public class GetPostsControllerTest implements Reflection {
         // then
         actions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].id").value(post.getId()))
-                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
-                .andExpect(jsonPath("$.data[0].content").value(post.getContent()))
-                .andExpect(jsonPath("$.data[0].clicks").value(post.getClicks()))
-                .andExpect(jsonPath("$.data[0].category").value(post.getCategory().getCategoryType().name()))
-                .andExpect(jsonPath("$.data[0].tags[0].tagId").value(tag.getId()))
-                .andExpect(jsonPath("$.data[0].tags[0].name").value(tag.getName()))
-                .andExpect(jsonPath("$.data[0].files[0].id").value(file.getId()))
-                .andExpect(jsonPath("$.data[0].files[0].originalFilename").value(file.getOriginalFilename()))
-                .andExpect(jsonPath("$.data[0].files[0].fileSize").value(file.getFileSize()))
-                .andExpect(jsonPath("$.data[0].files[0].localPath").value(file.getLocalPath()))
-                .andExpect(jsonPath("$.data[0].files[0].remotePath").value(file.getRemotePath()))
-                .andExpect(jsonPath("$.data[0].files[0].fileType").value(file.getFileType().toString()))
-                .andExpect(jsonPath("$.data[0].files[0].ownerUserId").value(file.getOwner().getId()))
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].excerpt").value(summary.getExcerpt()))
+                .andExpect(jsonPath("$.data[0].clicks").value(summary.getClicks()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(summary.getLikeCount()))
+                .andExpect(jsonPath("$.data[0].commentCount").value(summary.getCommentCount()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.data[0].thumbnail").value(file.getRemotePath()))
+                .andExpect(jsonPath("$.data[0].authorId").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].authorName").value(user.getNickName()))
                 .andExpect(jsonPath("$.pageInfo.page").value(page))
                 .andExpect(jsonPath("$.pageInfo.size").value(size))
                 .andDo(document("posts/getPostsByCategory",
@@ -163,21 +182,16 @@ public class GetPostsControllerTest implements Reflection {
                                 fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
                                 fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("게시글 식별자"),
                                 fieldWithPath("data[].title").type(JsonFieldType.STRING).description("게시글 제목"),
-                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("게시글 내용"),
+                                fieldWithPath("data[].excerpt").type(JsonFieldType.STRING).description("게시글 내용 미리보기"),
                                 fieldWithPath("data[].clicks").type(JsonFieldType.NUMBER).description("게시글 조회수"),
+                                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("게시글 좋아요 수"),
+                                fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("게시글 댓글 수"),
                                 fieldWithPath("data[].category").type(JsonFieldType.STRING).description("게시글 카테고리"),
-                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그"),
-                                fieldWithPath("data[].tags[].tagId").type(JsonFieldType.NUMBER).description("태그 식별자"),
-                                fieldWithPath("data[].tags[].name").type(JsonFieldType.STRING).description("태그 이름"),
-                                fieldWithPath("data[].files").type(JsonFieldType.ARRAY).description("게시글 파일"),
-                                fieldWithPath("data[].files[].id").type(JsonFieldType.NUMBER).description("파일 식별자"),
-                                fieldWithPath("data[].files[].originalFilename").type(JsonFieldType.STRING).description("파일 원본 이름"),
-                                fieldWithPath("data[].files[].filename").type(JsonFieldType.STRING).description("파일 원본 이름"),
-                                fieldWithPath("data[].files[].fileSize").type(JsonFieldType.NUMBER).description("파일 용량"),
-                                fieldWithPath("data[].files[].localPath").type(JsonFieldType.STRING).description("파일 로컬 경로"),
-                                fieldWithPath("data[].files[].remotePath").type(JsonFieldType.STRING).description("파일 리모트 경로"),
-                                fieldWithPath("data[].files[].fileType").type(JsonFieldType.STRING).description("파일 타입"),
-                                fieldWithPath("data[].files[].ownerUserId").type(JsonFieldType.NUMBER).description("파일 생성자"),
+                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그 이름"),
+                                fieldWithPath("data[].thumbnail").type(JsonFieldType.STRING).description("첫 번째 이미지 경로").optional(),
+                                fieldWithPath("data[].authorId").type(JsonFieldType.NUMBER).description("작성자 식별자"),
+                                fieldWithPath("data[].authorName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                fieldWithPath("data[].authorAvatar").type(JsonFieldType.STRING).description("작성자 아바타 경로").optional(),
                                 fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("게시글 생성일시"),
                                 fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("게시글 수정일시"),
 
@@ -190,6 +204,138 @@ public class GetPostsControllerTest implements Reflection {
                 ));
     }
 
+    @Test
+    public void getPostsByCategoryWithCursor() throws Exception {
+        // given
+        String freeCategory = CategoryType.FREE.name();
+        Long after = 10L;
+        Slice<PostSummary> slicePosts = new SliceImpl<>(posts, PageRequest.of(0, 1), true);
+
+        given(postService.getPostsByCategory(freeCategory, after, 1))
+                .willReturn(slicePosts);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts?category={category}&after={after}&size={size}", freeCategory, after, 1)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].excerpt").value(summary.getExcerpt()))
+                .andExpect(jsonPath("$.data[0].clicks").value(summary.getClicks()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(summary.getLikeCount()))
+                .andExpect(jsonPath("$.data[0].commentCount").value(summary.getCommentCount()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.data[0].thumbnail").value(file.getRemotePath()))
+                .andExpect(jsonPath("$.data[0].authorId").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].authorName").value(user.getNickName()))
+                .andExpect(jsonPath("$.cursorInfo.size").value(1))
+                .andExpect(jsonPath("$.cursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.cursorInfo.nextCursor").value(summary.getPostId()))
+                .andDo(document("posts/getPostsByCategoryWithCursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("category").description("카테고리"),
+                                parameterWithName("after").description("이전 응답의 nextCursor (첫 페이지는 생략)"),
+                                parameterWithName("size").description("사이즈")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
+                                fieldWithPath("cursorInfo").type(JsonFieldType.OBJECT).description("커서 정보"),
+                                fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("사이즈"),
+                                fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("다음 데이터 존재 여부"),
+                                fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.NUMBER).description("다음 요청에 사용할 커서").optional()
+                        )
+                ));
+    }
+
+    @Test
+    public void getPostsByTags() throws Exception {
+        // given
+        List<String> allOf = List.of("spring", "jpa");
+        List<String> noneOf = List.of("querydsl");
+        Long after = 10L;
+        Slice<PostSummary> slicePosts = new SliceImpl<>(posts, PageRequest.of(0, 1), true);
+
+        given(postService.getPostsByTags(allOf, null, noneOf, "QNA", after, 1))
+                .willReturn(slicePosts);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/tags?all={all}&all={all}&none={none}&category={category}&after={after}&size={size}",
+                        "spring", "jpa", "querydsl", "QNA", after, 1)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.cursorInfo.size").value(1))
+                .andExpect(jsonPath("$.cursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.cursorInfo.nextCursor").value(summary.getPostId()))
+                .andDo(document("posts/getPostsByTags",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("all").description("모두 포함해야 하는 태그 (여러 번 지정 가능)").optional(),
+                                parameterWithName("any").description("하나 이상 포함해야 하는 태그 (여러 번 지정 가능)").optional(),
+                                parameterWithName("none").description("포함하지 않아야 하는 태그 (여러 번 지정 가능)").optional(),
+                                parameterWithName("category").description("카테고리 (기본값 ALL)").optional(),
+                                parameterWithName("after").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("size").description("사이즈")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
+                                fieldWithPath("cursorInfo").type(JsonFieldType.OBJECT).description("커서 정보"),
+                                fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("사이즈"),
+                                fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("다음 데이터 존재 여부"),
+                                fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.NUMBER).description("다음 요청에 사용할 커서").optional()
+                        )
+                ));
+    }
+
+    @Test
+    public void getTrendingPosts() throws Exception {
+        // given
+        String category = "FREE";
+
+        given(postService.getTrendingPosts(category, size))
+                .willReturn(posts);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/trending?category={category}&size={size}", category, size)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andDo(document("posts/getTrendingPosts",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("category").description("카테고리 (기본값 ALL)").optional(),
+                                parameterWithName("size").description("사이즈 (기본값 10)").optional()
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("최근 반응 점수 순 게시글"),
+                                fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("게시글 식별자"),
+                                fieldWithPath("data[].title").type(JsonFieldType.STRING).description("게시글 제목"),
+                                fieldWithPath("data[].category").type(JsonFieldType.STRING).description("게시글 카테고리")
+                        )
+                ));
+    }
+
     @Test
     public void getPostsBySearch() throws Exception {
         // given
@@ -206,20 +352,17 @@ public class GetPostsControllerTest implements Reflection {
         // then
         actions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].id").value(post.getId()))
-                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
-                .andExpect(jsonPath("$.data[0].content").value(post.getContent()))
-                .andExpect(jsonPath("$.data[0].clicks").value(post.getClicks()))
-                .andExpect(jsonPath("$.data[0].category").value(post.getCategory().getCategoryType().name()))
-                .andExpect(jsonPath("$.data[0].tags[0].tagId").value(tag.getId()))
-                .andExpect(jsonPath("$.data[0].tags[0].name").value(tag.getName()))
-                .andExpect(jsonPath("$.data[0].files[0].id").value(file.getId()))
-                .andExpect(jsonPath("$.data[0].files[0].originalFilename").value(file.getOriginalFilename()))
-                .andExpect(jsonPath("$.data[0].files[0].fileSize").value(file.getFileSize()))
-                .andExpect(jsonPath("$.data[0].files[0].localPath").value(file.getLocalPath()))
-                .andExpect(jsonPath("$.data[0].files[0].remotePath").value(file.getRemotePath()))
-                .andExpect(jsonPath("$.data[0].files[0].fileType").value(file.getFileType().toString()))
-                .andExpect(jsonPath("$.data[0].files[0].ownerUserId").value(file.getOwner().getId()))
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].excerpt").value(summary.getExcerpt()))
+                .andExpect(jsonPath("$.data[0].clicks").value(summary.getClicks()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(summary.getLikeCount()))
+                .andExpect(jsonPath("$.data[0].commentCount").value(summary.getCommentCount()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.data[0].thumbnail").value(file.getRemotePath()))
+                .andExpect(jsonPath("$.data[0].authorId").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].authorName").value(user.getNickName()))
                 .andExpect(jsonPath("$.pageInfo.page").value(page))
                 .andExpect(jsonPath("$.pageInfo.size").value(size))
                 .andDo(document("posts/getPostsBySearch",
@@ -234,21 +377,16 @@ public class GetPostsControllerTest implements Reflection {
                                 fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
                                 fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("게시글 식별자"),
                                 fieldWithPath("data[].title").type(JsonFieldType.STRING).description("게시글 제목"),
-                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("게시글 내용"),
+                                fieldWithPath("data[].excerpt").type(JsonFieldType.STRING).description("게시글 내용 미리보기"),
                                 fieldWithPath("data[].clicks").type(JsonFieldType.NUMBER).description("게시글 조회수"),
+                                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("게시글 좋아요 수"),
+                                fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("게시글 댓글 수"),
                                 fieldWithPath("data[].category").type(JsonFieldType.STRING).description("게시글 카테고리"),
-                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그"),
-                                fieldWithPath("data[].tags[].tagId").type(JsonFieldType.NUMBER).description("태그 식별자"),
-                                fieldWithPath("data[].tags[].name").type(JsonFieldType.STRING).description("태그 이름"),
-                                fieldWithPath("data[].files").type(JsonFieldType.ARRAY).description("게시글 파일"),
-                                fieldWithPath("data[].files[].id").type(JsonFieldType.NUMBER).description("파일 식별자"),
-                                fieldWithPath("data[].files[].originalFilename").type(JsonFieldType.STRING).description("파일 이름"),
-                                fieldWithPath("data[].files[].filename").type(JsonFieldType.STRING).description("파일 이름"),
-                                fieldWithPath("data[].files[].fileSize").type(JsonFieldType.NUMBER).description("파일 용량"),
-                                fieldWithPath("data[].files[].localPath").type(JsonFieldType.STRING).description("파일 로컬 경로"),
-                                fieldWithPath("data[].files[].remotePath").type(JsonFieldType.STRING).description("파일 리모트 경로"),
-                                fieldWithPath("data[].files[].fileType").type(JsonFieldType.STRING).description("파일 타입"),
-                                fieldWithPath("data[].files[].ownerUserId").type(JsonFieldType.NUMBER).description("파일 생성자"),
+                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그 이름"),
+                                fieldWithPath("data[].thumbnail").type(JsonFieldType.STRING).description("첫 번째 이미지 경로").optional(),
+                                fieldWithPath("data[].authorId").type(JsonFieldType.NUMBER).description("작성자 식별자"),
+                                fieldWithPath("data[].authorName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                fieldWithPath("data[].authorAvatar").type(JsonFieldType.STRING).description("작성자 아바타 경로").optional(),
                                 fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("게시글 생성일시"),
                                 fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("게시글 수정일시"),
 
@@ -277,20 +415,17 @@ public class GetPostsControllerTest implements Reflection {
         // then
         actions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].id").value(post.getId()))
-                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
-                .andExpect(jsonPath("$.data[0].content").value(post.getContent()))
-                .andExpect(jsonPath("$.data[0].clicks").value(post.getClicks()))
-                .andExpect(jsonPath("$.data[0].category").value(post.getCategory().getCategoryType().name()))
-                .andExpect(jsonPath("$.data[0].tags[0].tagId").value(tag.getId()))
-                .andExpect(jsonPath("$.data[0].tags[0].name").value(tag.getName()))
-                .andExpect(jsonPath("$.data[0].files[0].id").value(file.getId()))
-                .andExpect(jsonPath("$.data[0].files[0].originalFilename").value(file.getOriginalFilename()))
-                .andExpect(jsonPath("$.data[0].files[0].fileSize").value(file.getFileSize()))
-                .andExpect(jsonPath("$.data[0].files[0].localPath").value(file.getLocalPath()))
-                .andExpect(jsonPath("$.data[0].files[0].remotePath").value(file.getRemotePath()))
-                .andExpect(jsonPath("$.data[0].files[0].fileType").value(file.getFileType().toString()))
-                .andExpect(jsonPath("$.data[0].files[0].ownerUserId").value(file.getOwner().getId()))
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].excerpt").value(summary.getExcerpt()))
+                .andExpect(jsonPath("$.data[0].clicks").value(summary.getClicks()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(summary.getLikeCount()))
+                .andExpect(jsonPath("$.data[0].commentCount").value(summary.getCommentCount()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.data[0].thumbnail").value(file.getRemotePath()))
+                .andExpect(jsonPath("$.data[0].authorId").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].authorName").value(user.getNickName()))
                 .andExpect(jsonPath("$.pageInfo.page").value(page))
                 .andExpect(jsonPath("$.pageInfo.size").value(size))
                 .andDo(document("posts/getPostsByTag",
@@ -305,21 +440,16 @@ public class GetPostsControllerTest implements Reflection {
                                 fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
                                 fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("게시글 식별자"),
                                 fieldWithPath("data[].title").type(JsonFieldType.STRING).description("게시글 제목"),
-                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("게시글 내용"),
+                                fieldWithPath("data[].excerpt").type(JsonFieldType.STRING).description("게시글 내용 미리보기"),
                                 fieldWithPath("data[].clicks").type(JsonFieldType.NUMBER).description("게시글 조회수"),
+                                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("게시글 좋아요 수"),
+                                fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("게시글 댓글 수"),
                                 fieldWithPath("data[].category").type(JsonFieldType.STRING).description("게시글 카테고리"),
-                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그"),
-                                fieldWithPath("data[].tags[].tagId").type(JsonFieldType.NUMBER).description("태그 식별자"),
-                                fieldWithPath("data[].tags[].name").type(JsonFieldType.STRING).description("태그 이름"),
-                                fieldWithPath("data[].files").type(JsonFieldType.ARRAY).description("게시글 파일"),
-                                fieldWithPath("data[].files[].id").type(JsonFieldType.NUMBER).description("파일 식별자"),
-                                fieldWithPath("data[].files[].originalFilename").type(JsonFieldType.STRING).description("원본 파일 이름"),
-                                fieldWithPath("data[].files[].filename").type(JsonFieldType.STRING).description("파일 이름"),
-                                fieldWithPath("data[].files[].fileSize").type(JsonFieldType.NUMBER).description("파일 이름"),
-                                fieldWithPath("data[].files[].localPath").type(JsonFieldType.STRING).description("파일 로컬 경로"),
-                                fieldWithPath("data[].files[].remotePath").type(JsonFieldType.STRING).description("파일 리모트 경로"),
-                                fieldWithPath("data[].files[].fileType").type(JsonFieldType.STRING).description("파일 타입"),
-                                fieldWithPath("data[].files[].ownerUserId").type(JsonFieldType.NUMBER).description("파일 생성자"),
+                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그 이름"),
+                                fieldWithPath("data[].thumbnail").type(JsonFieldType.STRING).description("첫 번째 이미지 경로").optional(),
+                                fieldWithPath("data[].authorId").type(JsonFieldType.NUMBER).description("작성자 식별자"),
+                                fieldWithPath("data[].authorName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                fieldWithPath("data[].authorAvatar").type(JsonFieldType.STRING).description("작성자 아바타 경로").optional(),
                                 fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("게시글 생성일시"),
                                 fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("게시글 수정일시"),
 
@@ -347,20 +477,17 @@ public class GetPostsControllerTest implements Reflection {
         // then
         actions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].id").value(post.getId()))
-                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
-                .andExpect(jsonPath("$.data[0].content").value(post.getContent()))
-                .andExpect(jsonPath("$.data[0].clicks").value(post.getClicks()))
-                .andExpect(jsonPath("$.data[0].category").value(post.getCategory().getCategoryType().name()))
-                .andExpect(jsonPath("$.data[0].tags[0].tagId").value(tag.getId()))
-                .andExpect(jsonPath("$.data[0].tags[0].name").value(tag.getName()))
-                .andExpect(jsonPath("$.data[0].files[0].id").value(file.getId()))
-                .andExpect(jsonPath("$.data[0].files[0].originalFilename").value(file.getOriginalFilename()))
-                .andExpect(jsonPath("$.data[0].files[0].fileSize").value(file.getFileSize()))
-                .andExpect(jsonPath("$.data[0].files[0].localPath").value(file.getLocalPath()))
-                .andExpect(jsonPath("$.data[0].files[0].remotePath").value(file.getRemotePath()))
-                .andExpect(jsonPath("$.data[0].files[0].fileType").value(file.getFileType().toString()))
-                .andExpect(jsonPath("$.data[0].files[0].ownerUserId").value(file.getOwner().getId()))
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.data[0].excerpt").value(summary.getExcerpt()))
+                .andExpect(jsonPath("$.data[0].clicks").value(summary.getClicks()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(summary.getLikeCount()))
+                .andExpect(jsonPath("$.data[0].commentCount").value(summary.getCommentCount()))
+                .andExpect(jsonPath("$.data[0].category").value(summary.getCategoryType().name()))
+                .andExpect(jsonPath("$.data[0].tags[0]").value(tag.getName()))
+                .andExpect(jsonPath("$.data[0].thumbnail").value(file.getRemotePath()))
+                .andExpect(jsonPath("$.data[0].authorId").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].authorName").value(user.getNickName()))
                 .andExpect(jsonPath("$.pageInfo.page").value(page))
                 .andExpect(jsonPath("$.pageInfo.size").value(size))
                 .andDo(document("posts/getPostsByBookmark",
@@ -377,21 +504,16 @@ public class GetPostsControllerTest implements Reflection {
                                 fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
                                 fieldWithPath("data[].id").type(JsonFieldType.NUMBER).description("게시글 식별자"),
                                 fieldWithPath("data[].title").type(JsonFieldType.STRING).description("게시글 제목"),
-                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("게시글 내용"),
+                                fieldWithPath("data[].excerpt").type(JsonFieldType.STRING).description("게시글 내용 미리보기"),
                                 fieldWithPath("data[].clicks").type(JsonFieldType.NUMBER).description("게시글 조회수"),
+                                fieldWithPath("data[].likeCount").type(JsonFieldType.NUMBER).description("게시글 좋아요 수"),
+                                fieldWithPath("data[].commentCount").type(JsonFieldType.NUMBER).description("게시글 댓글 수"),
                                 fieldWithPath("data[].category").type(JsonFieldType.STRING).description("게시글 카테고리"),
-                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그"),
-                                fieldWithPath("data[].tags[].tagId").type(JsonFieldType.NUMBER).description("태그 식별자"),
-                                fieldWithPath("data[].tags[].name").type(JsonFieldType.STRING).description("태그 이름"),
-                                fieldWithPath("data[].files").type(JsonFieldType.ARRAY).description("게시글 파일"),
-                                fieldWithPath("data[].files[].id").type(JsonFieldType.NUMBER).description("파일 식별자"),
-                                fieldWithPath("data[].files[].originalFilename").type(JsonFieldType.STRING).description("파일 이름"),
-                                fieldWithPath("data[].files[].filename").type(JsonFieldType.STRING).description("파일 이름"),
-                                fieldWithPath("data[].files[].fileSize").type(JsonFieldType.NUMBER).description("파일 용량"),
-                                fieldWithPath("data[].files[].localPath").type(JsonFieldType.STRING).description("파일 로컬 경로"),
-                                fieldWithPath("data[].files[].remotePath").type(JsonFieldType.STRING).description("파일 리모트 경로"),
-                                fieldWithPath("data[].files[].fileType").type(JsonFieldType.STRING).description("파일 타입"),
-                                fieldWithPath("data[].files[].ownerUserId").type(JsonFieldType.NUMBER).description("파일 생성자"),
+                                fieldWithPath("data[].tags").type(JsonFieldType.ARRAY).description("게시글 태그 이름"),
+                                fieldWithPath("data[].thumbnail").type(JsonFieldType.STRING).description("첫 번째 이미지 경로").optional(),
+                                fieldWithPath("data[].authorId").type(JsonFieldType.NUMBER).description("작성자 식별자"),
+                                fieldWithPath("data[].authorName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                fieldWithPath("data[].authorAvatar").type(JsonFieldType.STRING).description("작성자 아바타 경로").optional(),
                                 fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("게시글 생성일시"),
                                 fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("게시글 수정일시"),
 
@@ -404,4 +526,58 @@ public class GetPostsControllerTest implements Reflection {
                 ));
     }
 
+    @Test
+    public void getPostsByBookmarkWithCursor() throws Exception {
+        // given
+        Long after = 10L;
+        BookmarkedPost bookmarkedPost = new BookmarkedPost() {
+            @Override
+            public Long getBookmarkId() {
+                return 7L;
+            }
+
+            @Override
+            public PostSummary getSummary() {
+                return summary;
+            }
+        };
+        Slice<BookmarkedPost> slicePosts = new SliceImpl<>(List.of(bookmarkedPost), PageRequest.of(0, 1), true);
+
+        given(postService.getPostsByBookmark(any(), eq(after), eq(1)))
+                .willReturn(slicePosts);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/bookmark?after={after}&size={size}", after, 1)
+                        .header(HttpHeaders.AUTHORIZATION, "")
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(summary.getPostId()))
+                .andExpect(jsonPath("$.data[0].title").value(summary.getTitle()))
+                .andExpect(jsonPath("$.cursorInfo.size").value(1))
+                .andExpect(jsonPath("$.cursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.cursorInfo.nextCursor").value(bookmarkedPost.getBookmarkId()))
+                .andDo(document("posts/getPostsByBookmarkWithCursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION_HEADER).description("JWT")
+                        ),
+                        requestParameters(
+                                parameterWithName("after").description("이전 응답의 nextCursor (첫 페이지는 생략)"),
+                                parameterWithName("size").description("사이즈")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
+                                fieldWithPath("cursorInfo").type(JsonFieldType.OBJECT).description("커서 정보"),
+                                fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("사이즈"),
+                                fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("다음 데이터 존재 여부"),
+                                fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.NUMBER).description("다음 요청에 사용할 커서 (북마크 식별자)").optional()
+                        )
+                ));
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.devillage.teamproject.controller.post;
 
+import com.devillage.teamproject.dto.CachedPostDetail;
 import com.devillage.teamproject.dto.PostDto;
 import com.devillage.teamproject.dto.ReportDto;
 import com.devillage.teamproject.dto.UserDto;
@@ -8,12 +9,16 @@ import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.entity.enums.ReportType;
 import com.devillage.teamproject.security.util.JwtTokenUtil;
 import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.comment.CommentThread;
+import com.devillage.teamproject.service.post.PostResponseCache;
 import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.PostVersion;
 import com.devillage.teamproject.util.Reflection;
 import com.devillage.teamproject.util.TestConstants;
 import com.devillage.teamproject.util.security.SecurityTestConfig;
 import com.devillage.teamproject.util.security.WithMockCustomUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +28,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -32,6 +38,8 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import static com.devillage.teamproject.security.util.JwtConstants.AUTHORIZATION_HEADER;
 import static com.devillage.teamproject.util.TestConstants.*;
@@ -39,6 +47,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -50,6 +60,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -69,6 +80,9 @@ class PostControllerTest implements Reflection {
     @MockBean
     CommentService commentService;
 
+    @MockBean
+    PostResponseCache postResponseCache;
+
     @Autowired
     JwtTokenUtil jwtTokenUtil;
 
@@ -78,6 +92,13 @@ class PostControllerTest implements Reflection {
     User user = newInstance(User.class);
     Post post = newInstance(Post.class);
 
+    @BeforeEach
+    void setUp() {
+        given(postResponseCache.getPostDetail(anyLong(), any()))
+                .willAnswer(invocation -> invocation.<Function<Long, CachedPostDetail>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
+    }
+
     PostControllerTest() throws Exception {
         setField(user, "id", ID1);
         setField(post, "id", ID2);
@@ -173,9 +194,12 @@ class PostControllerTest implements Reflection {
         setField(post, "category", category);
         setField(post, "title", "Mockito 관련 질문입니다.");
         setField(post, "tags", List.of(postTag));
-        setField(post, "content", "안녕하세요. 스트링 통째로 드가는게 맞나요");
+        setField(post, "body", PostContent.of("안녕하세요. 스트링 통째로 드가는게 맞나요"));
+        post.getBody().render("hash", "<p>안녕하세요. 스트링 통째로 드가는게 맞나요</p>", "안녕하세요. 스트링 통째로 드가는게 맞나요", 1);
         setField(post, "clicks", 1L);
+        setField(post, "commentCount", 4L);
         setField(post,"postLastModifiedAt", LocalDateTime.of(0000, 12, 31, 00, 00,00,3333));
+        setField(post, "relatedPosts", List.of(new RelatedPost(2L, "Mockito given 질문입니다.")));
         setField(category, "categoryType", CategoryType.NOTICE);
         setField(postTag, "tag", tag);
         setField(tag, "id", 1L);
@@ -191,15 +215,21 @@ class PostControllerTest implements Reflection {
 
         Comment comment1 = Comment.builder().id(ID1).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
         ReComment reComment1_1 = ReComment.builder().id(ID1).content(COMMENT_CONTENT).user(user).comment(comment1).build();
-        comment1.getReComments().add(reComment1_1);
         Comment comment2 = Comment.builder().id(ID2).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
         Comment comment3 = Comment.builder().id(ID2 + 1).content(COMMENT_CONTENT).user(user).post(post).commentLikes(List.of()).build();
 
         String token = BEARER + jwtTokenUtil.createAccessToken(EMAIL1, ID1, TestConstants.ROLES);
 
+        given(postService.getVersion(id)).willReturn(PostVersion.of(id, 1L, LocalDateTime.of(2022, 9, 1, 12, 0)));
         given(postService.getPost(any(long.class))).willReturn(post);
+        given(postService.recordViewer(anyLong(), any(CategoryType.class), any(String.class)))
+                .willReturn(PostDto.Response.ViewerCount.of(3L, 2L, 10L));
+        given(postService.isLiked(ID1, id)).willReturn(true);
+        given(commentService.findLikedCommentIds(ID1, List.of(comment1.getId(), comment2.getId(), comment3.getId())))
+                .willReturn(Set.of(comment1.getId()));
         given(commentService.findComments(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .willReturn(new PageImpl<>(List.of(comment1, comment2, comment3)));
+                .willReturn(new PageImpl<>(List.of(CommentThread.of(comment1, List.of(reComment1_1), 3),
+                        CommentThread.of(comment2, List.of(), 3), CommentThread.of(comment3, List.of(), 3))));
 
         //when
         ResultActions actions =
@@ -216,11 +246,49 @@ class PostControllerTest implements Reflection {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.title").value(post.getTitle()))
                 .andExpect(jsonPath("$.data.content").value(post.getContent()))
+                .andExpect(jsonPath("$.data.html").value(post.getBody().getHtml()))
+                .andExpect(jsonPath("$.data.readingMinutes").value(1))
                 .andExpect(jsonPath("$.data.author.authorId").value(UserDto.AuthorInfo.of(post.getUser()).getAuthorId()))
                 .andExpect(jsonPath("$.data.category").value(post.getCategory().getCategoryType().name()))
+                .andExpect(jsonPath("$.data.viewers.uniqueViewers").value(3L))
+                .andExpect(jsonPath("$.data.viewers.todayViewers").value(2L))
+                .andExpect(jsonPath("$.data.relatedPosts[0].id").value(2L))
+                .andExpect(jsonPath("$.data.relatedPosts[0].title").value("Mockito given 질문입니다."))
+                .andExpect(jsonPath("$.data.liked").value(true))
+                .andExpect(jsonPath("$.data.bookmarked").value(false))
+                .andExpect(jsonPath("$.data.comments.data[0].isLiked").value(true))
+                .andExpect(jsonPath("$.data.comments.data[1].isLiked").value(false))
+                .andExpect(jsonPath("$.data.comments.data[0].reComments[0].reCommentId").value(reComment1_1.getId()))
+                .andExpect(jsonPath("$.data.comments.data[0].reCommentCursorInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.data.commentCount").value(4L))
                 .andReturn();
     }
 
+    @Test
+    void getPostNotModified() throws Exception {
+        // given
+        Long postId = post.getId();
+        PostVersion version = PostVersion.of(postId, 5L, LocalDateTime.of(2022, 9, 1, 12, 0));
+        String etag = version.weakEtag("user:" + ID1);
+        String token = BEARER + jwtTokenUtil.createAccessToken(EMAIL1, ID1, TestConstants.ROLES);
+
+        given(postService.getVersion(postId)).willReturn(version);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/posts/{post-id}", postId)
+                        .header(AUTHORIZATION_HEADER, token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        );
+
+        // then
+        actions.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.getLastModifiedMillis()));
+        verify(postResponseCache, never()).getPostDetail(anyLong(), any());
+        verify(postService, never()).countView(anyLong());
+    }
+
 
     @Test
     void postBookmark() throws Exception {
@@ -0,0 +1,127 @@
+package com.devillage.teamproject.controller.tag;
+
+import com.devillage.teamproject.repository.tag.TagUsage;
+import com.devillage.teamproject.security.config.SecurityConfig;
+import com.devillage.teamproject.security.resolver.ResultJwtArgumentResolver;
+import com.devillage.teamproject.service.tag.TagService;
+import com.devillage.teamproject.service.tag.TagSuggestion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {TagController.class, ResultJwtArgumentResolver.class},
+        excludeFilters = {
+                @ComponentScan.Filter(
+                        type = FilterType.ASSIGNABLE_TYPE,
+                        classes = {SecurityConfig.class}
+                )
+        })
+@WithMockUser
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class TagControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    TagService tagService;
+
+    @MockBean
+    ResultJwtArgumentResolver resultJwtArgumentResolver;
+
+    @Test
+    public void getTagSuggestions() throws Exception {
+        // given
+        String prefix = "자바";
+        int size = 5;
+
+        given(tagService.suggestTags(prefix, size))
+                .willReturn(List.of(new TagSuggestion("자바스크립트", 7L), new TagSuggestion("자바", 5L)));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/tags/suggest?prefix={prefix}&size={size}", prefix, size)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("자바스크립트"))
+                .andExpect(jsonPath("$.data[0].usageCount").value(7L))
+                .andExpect(jsonPath("$.data[1].name").value("자바"))
+                .andDo(document("tags/getTagSuggestions",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("prefix").description("태그 접두사 (한글은 입력 중인 글자도 가능)"),
+                                parameterWithName("size").description("사이즈 (기본값 10, 최대 10)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("사용 횟수 순 추천 태그"),
+                                fieldWithPath("data[].name").type(JsonFieldType.STRING).description("태그 이름"),
+                                fieldWithPath("data[].usageCount").type(JsonFieldType.NUMBER).description("태그를 사용한 게시글 수")
+                        )
+                ));
+    }
+
+    @Test
+    public void getPopularTags() throws Exception {
+        // given
+        String category = "QNA";
+        int size = 5;
+        TagUsage usage = mock(TagUsage.class);
+        given(usage.getName()).willReturn("spring");
+        given(usage.getUsageCount()).willReturn(42L);
+
+        given(tagService.getPopularTags(category, size))
+                .willReturn(List.of(usage));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/tags/popular?category={category}&size={size}", category, size)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("spring"))
+                .andExpect(jsonPath("$.data[0].usageCount").value(42L))
+                .andDo(document("tags/getPopularTags",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("category").description("카테고리 (기본값 ALL)").optional(),
+                                parameterWithName("size").description("사이즈 (기본값 10)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("사용 횟수 순 태그"),
+                                fieldWithPath("data[].name").type(JsonFieldType.STRING).description("태그 이름"),
+                                fieldWithPath("data[].usageCount").type(JsonFieldType.NUMBER).description("카테고리에서 태그를 사용한 게시글 수")
+                        )
+                ));
+    }
+}
@@ -0,0 +1,26 @@
+package com.devillage.teamproject.entity.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringListConverterTest {
+
+    private final StringListConverter converter = new StringListConverter();
+
+    @Test
+    void keepValuesWithComma() {
+        // given
+        List<String> tagNames = List.of("a,b", "스프링", "say \"hi\"");
+
+        // when
+        String dbData = converter.convertToDatabaseColumn(tagNames);
+
+        // then
+        assertThat(converter.convertToEntityAttribute(dbData)).containsExactlyElementsOf(tagNames);
+        assertThat(converter.convertToDatabaseColumn(List.of())).isEmpty();
+        assertThat(converter.convertToEntityAttribute("")).isEmpty();
+    }
+}
@@ -1,17 +1,29 @@
 package com.devillage.teamproject.repository.comment;
 
+import com.devillage.teamproject.dto.CommentDto;
 import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.File;
 import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.ReComment;
 import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.repository.post.PostRepository;
 import com.devillage.teamproject.repository.user.UserRepository;
+import com.devillage.teamproject.service.comment.CommentThread;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.devillage.teamproject.util.TestConstants.ID1;
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,12 +31,21 @@ import static org.junit.jupiter.api.Assertions.*;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class CommentRepositoryTest {
+    private static final int PREVIEW_SIZE = 3;
+    private static final int RE_COMMENTS = 5;
+
     @Autowired
     private CommentRepository commentRepository;
     @Autowired
+    private ReCommentRepository reCommentRepository;
+    @Autowired
     private PostRepository postRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private int sequence;
 
     @Test
     @DisplayName("where와 페이지 같이 되는지 테스트")
@@ -51,4 +72,84 @@ class CommentRepositoryTest {
         // then
         assertEquals(4, commentPage.getTotalElements());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 스레드는 댓글·대댓글·작성자 수와 관계없이 고정된 쿼리로 읽는다")
+    public void findThreadsInFixedStatements() throws Exception {
+        // given
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        Post quietPost = persistThreads(1);
+        Post busyPost = persistThreads(10);
+        em.flush();
+
+        // when
+        long quietCount = countStatements(statistics, quietPost.getId());
+        long busyCount = countStatements(statistics, busyPost.getId());
+
+        // then
+        assertEquals(quietCount, busyCount);
+    }
+
+    private long countStatements(Statistics statistics, Long postId) {
+        em.clear();
+        statistics.clear();
+
+        Page<Long> commentIds = commentRepository.findIdsByPostId(postId, PageRequest.of(0, 10));
+        Map<Long, List<ReComment>> reComments = reCommentRepository.findHeadsByCommentIdIn(commentIds.getContent(),
+                PREVIEW_SIZE + 1).stream().collect(Collectors.groupingBy(reComment -> reComment.getComment().getId()));
+        commentRepository.findWithAuthorByIdIn(commentIds.getContent()).forEach(comment -> {
+            CommentThread thread = CommentThread.of(comment, reComments.get(comment.getId()), PREVIEW_SIZE);
+            CommentDto.ResponseWithReComment response = CommentDto.ResponseWithReComment.of(thread, false);
+            assertEquals(PREVIEW_SIZE, response.getReComments().size());
+            assertTrue(response.getReCommentCursorInfo().isHasNext());
+            assertNotNull(response.getAvatar());
+            response.getReComments().forEach(reComment -> assertNotNull(reComment.getAvatar()));
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("대댓글은 마지막으로 받은 식별자 다음부터 이어서 읽는다")
+    public void findReCommentsAfterCursor() throws Exception {
+        // given
+        Post post = persistThreads(1);
+        Comment comment = commentRepository.findAllByPostId(post.getId(), PageRequest.of(0, 1)).getContent().get(0);
+        em.flush();
+        em.clear();
+
+        // when
+        Slice<ReComment> first = reCommentRepository.findByCommentIdAndIdGreaterThanOrderByIdAsc(comment.getId(), 0L,
+                PageRequest.of(0, 3));
+        Slice<ReComment> next = reCommentRepository.findByCommentIdAndIdGreaterThanOrderByIdAsc(comment.getId(),
+                first.getContent().get(2).getId(), PageRequest.of(0, 3));
+
+        // then
+        assertEquals(3, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(RE_COMMENTS - 3, next.getNumberOfElements());
+        assertFalse(next.hasNext());
+        assertTrue(first.getContent().get(2).getId() < next.getContent().get(0).getId());
+    }
+
+    private Post persistThreads(int comments) {
+        Post post = em.persist(Post.builder().build());
+        for (int i = 0; i < comments; i++) {
+            Comment comment = em.persist(Comment.builder().content("댓글").user(persistUser()).post(post).build());
+            for (int j = 0; j < RE_COMMENTS; j++) {
+                em.persist(ReComment.createReComment(persistUser(), comment, "대댓글"));
+            }
+        }
+        return post;
+    }
+
+    private User persistUser() {
+        sequence++;
+        User user = em.persist(User.builder()
+                .email("comment-thread-" + sequence + "@devillage.com")
+                .nickName("comment-thread-" + sequence)
+                .build());
+        user.addAvatar(em.persist(File.builder().remotePath("avatar-" + user.getId()).build()));
+        return user;
+    }
+}
@@ -1,21 +1,31 @@
 package com.devillage.teamproject.repository.post;
 
 import com.devillage.teamproject.entity.Category;
+import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.Like;
 import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.entity.ReComment;
+import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.repository.category.CategoryRepository;
+import com.devillage.teamproject.repository.user.UserRepository;
 import com.devillage.teamproject.util.Reflection;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -27,6 +37,15 @@ class PostRepositoryTest implements Reflection {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
     @Test
     public void saveAndFindById() throws Exception {
         // given
@@ -86,40 +105,141 @@ class PostRepositoryTest implements Reflection {
     }
 
     @Test
-    public void findBySearch() throws Exception {
+    public void loadContentLazily() throws Exception {
         // given
-        int page = 1;
-        int size = 3;
+        String shortContent = "짧은 본문";
+        String longContent = "긴 본문 ".repeat(1000);
+        Post shortPost = postRepository.save(new Post("짧은 글", shortContent, List.of()));
+        Post longPost = postRepository.save(new Post("긴 글", longContent, List.of()));
+        em.flush();
+        em.clear();
 
-        Post post1 = newInstance(Post.class);
-        Post post2 = newInstance(Post.class);
-        Post post3 = newInstance(Post.class);
-        Post post4 = newInstance(Post.class);
+        // when
+        List<Post> posts = postRepository.findAllById(List.of(shortPost.getId(), longPost.getId()));
+        boolean loadedWithList = posts.stream().anyMatch(post -> Hibernate.isInitialized(post.getBody()));
+        Post findLongPost = postRepository.findById(longPost.getId()).get();
 
-        String word1 = "검색어1";
-        String word2 = "검색어2";
-        PageRequest pageable = PageRequest.of(page - 1, size, Sort.by("id").descending());
+        // then
+        assertThat(loadedWithList).isFalse();
+        assertThat(findLongPost.getContent()).isEqualTo(longContent);
+        assertThat(postRepository.findById(shortPost.getId()).get().getContent()).isEqualTo(shortContent);
+        assertThat(Hibernate.isInitialized(findLongPost.getBody())).isTrue();
+        em.clear();
+        assertThat(postRepository.findAllWithTagsByIdIn(List.of(longPost.getId())))
+                .allMatch(post -> Hibernate.isInitialized(post.getBody()));
+    }
 
-        long prevWord1Size = postRepository.findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(word1, word1, pageable)
-                .getTotalElements();
-        long prevWord2Size = postRepository.findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(word2, word2, pageable)
-                .getTotalElements();
+    @Test
+    public void addAndReconcileLikeCount() throws Exception {
+        // given
+        Post post = postRepository.save(newInstance(Post.class));
+        likeRepository.save(new Like(userRepository.save(newInstance(User.class)), post));
+        likeRepository.save(new Like(userRepository.save(newInstance(User.class)), post));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            postRepository.addLikeCount(post.getId(), 1L);
+        }
+        postRepository.addLikeCount(post.getId(), -1L);
+        Long drifted = postRepository.findById(post.getId()).get().getLikeCount();
+
+        postRepository.reconcileLikeCounts(List.of(post.getId()));
+        em.clear();
+        Long reconciled = postRepository.findById(post.getId()).get().getLikeCount();
+
+        // then
+        assertThat(drifted).isEqualTo(4L);
+        assertThat(reconciled).isEqualTo(2L);
+    }
 
-        setField(post1, "title", word1);
-        setField(post2, "content", word1);
-        setField(post3, "title", word2);
-        setField(post4, "content", word2);
+    @Test
+    public void addAndReconcileCommentCount() throws Exception {
+        // given
+        Post post = postRepository.save(new Post("제목", "내용", List.of()));
+        Comment comment = em.persist(Comment.builder().content("댓글").post(post).build());
+        em.persist(ReComment.builder().content("대댓글").comment(comment).build());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            postRepository.addCommentCount(post.getId(), 1L, LocalDateTime.now());
+        }
+        em.clear();
+        Post drifted = postRepository.findById(post.getId()).get();
 
-        postRepository.saveAll(List.of(post1, post2, post3, post4));
+        postRepository.reconcileCommentCounts(List.of(post.getId()));
+        em.clear();
+        Long reconciled = postRepository.findById(post.getId()).get().getCommentCount();
+
+        // then
+        assertThat(drifted.getCommentCount()).isEqualTo(3L);
+        assertThat(drifted.getRevision()).isEqualTo(3L);
+        assertThat(reconciled).isEqualTo(2L);
+    }
 
+    @Test
+    public void duplicateLikeIsRejected() throws Exception {
+        // given
+        Post post = postRepository.save(newInstance(Post.class));
+        User user = userRepository.save(newInstance(User.class));
+        likeRepository.saveAndFlush(new Like(user, post));
+
+        // when
+        int deleted = likeRepository.deleteByUserIdAndPostId(user.getId(), post.getId());
+        likeRepository.saveAndFlush(new Like(user, post));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThrows(DataIntegrityViolationException.class,
+                () -> likeRepository.saveAndFlush(new Like(user, post)));
+    }
+
+    @Test
+    public void increaseRevisionIsNotOverwrittenByDirtyChecking() throws Exception {
+        // given
+        Post post = postRepository.save(newInstance(Post.class));
+        em.flush();
+        LocalDateTime revisedAt = LocalDateTime.of(2022, 9, 1, 12, 0);
+
+        // when
+        Post loaded = postRepository.findById(post.getId()).get();
+        postRepository.increaseRevision(post.getId(), revisedAt);
+        postRepository.increaseRevision(post.getId(), revisedAt);
+        loaded.editPost(new Post("수정한 제목", "수정한 본문", List.of()));
+        em.flush();
+        em.clear();
+        PostRevision revision = postRepository.findRevisionById(post.getId()).get();
+
+        // then
+        assertThat(revision.getId()).isEqualTo(post.getId());
+        assertThat(revision.getRevision()).isEqualTo(2L);
+        assertThat(revision.getRevisedAt()).isEqualTo(revisedAt);
+        assertThat(postRepository.findById(post.getId()).get().getTitle()).isEqualTo("수정한 제목");
+    }
+
+    @Test
+    public void countersAreNotOverwrittenByPostEdit() throws Exception {
+        // given
+        Post post = postRepository.save(new Post("제목", "본문", List.of()));
+        em.flush();
+        em.clear();
+        Post loaded = postRepository.findById(post.getId()).get();
 
         // when
-        Page<Post> posts1 = postRepository.findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(word1, word1, pageable);
-        Page<Post> posts2 = postRepository.findDistinctByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(word2, word2, pageable);
+        // 게시글을 읽어 둔 사이 다른 트랜잭션이 좋아요·조회수 증감 UPDATE 를 커밋한 상황
+        em.getEntityManager()
+                .createNativeQuery("update post set like_count = coalesce(like_count, 0) + 1, "
+                        + "clicks = coalesce(clicks, 0) + 3 where post_id = ?")
+                .setParameter(1, post.getId())
+                .executeUpdate();
+        loaded.editPost(new Post("수정한 제목", "수정한 본문", List.of()));
+        em.flush();
+        em.clear();
+        Post found = postRepository.findById(post.getId()).get();
 
         // then
-        assertThat(posts1.getTotalElements() - prevWord1Size).isEqualTo(2);
-        assertThat(posts2.getTotalElements() - prevWord2Size).isEqualTo(2);
+        assertThat(found.getTitle()).isEqualTo("수정한 제목");
+        assertThat(found.getLikeCount()).isEqualTo(1L);
+        assertThat(found.getClicks()).isEqualTo(3L);
     }
 
-}
\ No newline at end of file
+}
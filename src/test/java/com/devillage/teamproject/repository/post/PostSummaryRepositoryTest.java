@@ -0,0 +1,201 @@
+package com.devillage.teamproject.repository.post;
+
+import com.devillage.teamproject.entity.*;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.category.CategoryRepository;
+import com.devillage.teamproject.repository.comment.CommentRepository;
+import com.devillage.teamproject.repository.posttag.PostTagRepository;
+import com.devillage.teamproject.repository.tag.TagRepository;
+import com.devillage.teamproject.repository.user.UserRepository;
+import com.devillage.teamproject.util.Reflection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.devillage.teamproject.util.TestConstants.TAGNAME1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostSummaryRepositoryTest implements Reflection {
+
+    @Autowired
+    private PostSummaryRepository postSummaryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    public void findByCategoryTypeAndPostIdLessThan() throws Exception {
+        // given
+        Category category = newInstance(Category.class);
+        setField(category, "categoryType", CategoryType.STUDY);
+        categoryRepository.save(category);
+
+        Post post1 = savePost(category);
+        Post post2 = savePost(category);
+        Post post3 = savePost(category);
+        postSummaryRepository.saveAll(List.of(
+                new PostSummary(post1, List.of()),
+                new PostSummary(post2, List.of()),
+                new PostSummary(post3, List.of())));
+
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("postId").descending());
+
+        // when
+        Slice<PostSummary> first = postSummaryRepository.findByCategoryTypeAndPostIdLessThan(
+                CategoryType.STUDY, Long.MAX_VALUE, pageable);
+        Slice<PostSummary> second = postSummaryRepository.findByCategoryTypeAndPostIdLessThan(
+                CategoryType.STUDY, first.getContent().get(1).getPostId(), pageable);
+
+        // then
+        assertThat(first.getContent()).extracting(PostSummary::getPostId)
+                .containsExactly(post3.getId(), post2.getId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(PostSummary::getPostId)
+                .containsExactly(post1.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void findByTag() throws Exception {
+        // given
+        Tag tag = new Tag(TAGNAME1);
+        tagRepository.save(tag);
+
+        Post tagged = savePost(null);
+        Post untagged = savePost(null);
+        postTagRepository.save(new PostTag(tagged, tag));
+        postSummaryRepository.saveAll(List.of(
+                new PostSummary(tagged, List.of(TAGNAME1)),
+                new PostSummary(untagged, List.of())));
+
+        // when
+        Page<PostSummary> summaries = postSummaryRepository.findByTag(tag,
+                PageRequest.of(0, 10, Sort.by("postId").descending()));
+
+        // then
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        assertThat(summaries.getContent().get(0).getPostId()).isEqualTo(tagged.getId());
+        assertThat(summaries.getContent().get(0).getTagNames()).containsExactly(TAGNAME1);
+    }
+
+    @Test
+    public void addAndReconcileCommentCount() throws Exception {
+        // given
+        Post post = savePost(null);
+        postSummaryRepository.save(new PostSummary(post, List.of()));
+        commentRepository.save(Comment.builder().content("댓글").post(post).build());
+        em.flush();
+
+        // when
+        postSummaryRepository.addCommentCount(post.getId(), 5L);
+        em.clear();
+        Long drifted = postSummaryRepository.findById(post.getId()).get().getCommentCount();
+
+        postSummaryRepository.reconcileCommentCounts(List.of(post.getId()));
+        em.clear();
+        Long reconciled = postSummaryRepository.findById(post.getId()).get().getCommentCount();
+
+        // then
+        assertThat(drifted).isEqualTo(5L);
+        assertThat(reconciled).isEqualTo(1L);
+    }
+
+    @Test
+    public void countersAreNotOverwrittenByRefresh() throws Exception {
+        // given
+        Post post = savePost(null);
+        postSummaryRepository.save(new PostSummary(post, List.of()));
+        em.flush();
+        em.clear();
+        PostSummary loaded = postSummaryRepository.findById(post.getId()).get();
+
+        // when
+        // 요약을 읽어 둔 사이 조회수 배치가 증감 UPDATE 를 커밋한 상황
+        em.getEntityManager()
+                .createNativeQuery("update post_summary set clicks = coalesce(clicks, 0) + 3 where post_id = ?")
+                .setParameter(1, post.getId())
+                .executeUpdate();
+        loaded.update(post, List.of(TAGNAME1));
+        em.flush();
+        em.clear();
+        PostSummary found = postSummaryRepository.findById(post.getId()).get();
+
+        // then
+        assertThat(found.getTagNames()).containsExactly(TAGNAME1);
+        assertThat(found.getClicks()).isEqualTo(3L);
+    }
+
+    @Test
+    public void findSummariesByBookmark() throws Exception {
+        // given
+        User user = userRepository.save(newInstance(User.class));
+        User otherUser = userRepository.save(newInstance(User.class));
+        Post post1 = savePost(null);
+        Post post2 = savePost(null);
+        Post post3 = savePost(null);
+        postSummaryRepository.saveAll(List.of(
+                new PostSummary(post1, List.of()),
+                new PostSummary(post2, List.of()),
+                new PostSummary(post3, List.of())));
+        bookmarkRepository.save(new Bookmark(user, post2));
+        bookmarkRepository.save(new Bookmark(user, post1));
+        Bookmark lastBookmark = bookmarkRepository.save(new Bookmark(user, post3));
+        bookmarkRepository.save(new Bookmark(otherUser, post1));
+
+        // when
+        Page<PostSummary> page = bookmarkRepository.findSummariesByUserId(user.getId(), PageRequest.of(0, 2));
+        Slice<BookmarkedPost> first = bookmarkRepository.findSummariesByUserIdAndBookmarkIdLessThan(
+                user.getId(), Long.MAX_VALUE, PageRequest.of(0, 2));
+        Slice<BookmarkedPost> second = bookmarkRepository.findSummariesByUserIdAndBookmarkIdLessThan(
+                user.getId(), first.getContent().get(1).getBookmarkId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(PostSummary::getPostId)
+                .containsExactly(post3.getId(), post1.getId());
+        assertThat(first.getContent().get(0).getBookmarkId()).isEqualTo(lastBookmark.getId());
+        assertThat(first.getContent()).extracting(bookmarked -> bookmarked.getSummary().getPostId())
+                .containsExactly(post3.getId(), post1.getId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(bookmarked -> bookmarked.getSummary().getPostId())
+                .containsExactly(post2.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private Post savePost(Category category) throws Exception {
+        Post post = newInstance(Post.class);
+        setField(post, "category", category);
+        return postRepository.save(post);
+    }
+}
@@ -1,10 +1,16 @@
 package com.devillage.teamproject.repository.post;
 
+import com.devillage.teamproject.entity.Category;
 import com.devillage.teamproject.entity.Post;
 import com.devillage.teamproject.entity.PostTag;
 import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.TagCount;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.category.CategoryRepository;
 import com.devillage.teamproject.repository.posttag.PostTagRepository;
+import com.devillage.teamproject.repository.tag.TagCountRepository;
 import com.devillage.teamproject.repository.tag.TagRepository;
+import com.devillage.teamproject.repository.tag.TagUsage;
 import com.devillage.teamproject.util.Reflection;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,11 +19,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static com.devillage.teamproject.util.TestConstants.TAGNAME1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -32,6 +40,12 @@ public class TagRepositoryTest implements Reflection {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private TagCountRepository tagCountRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     @Test
     public void findTag() throws Exception {
         // given
@@ -78,4 +92,34 @@ public class TagRepositoryTest implements Reflection {
         assertThat(totalElements).isEqualTo(2L);
     }
 
+    @Test
+    public void maintainTagCounts() throws Exception {
+        // given
+        Category qna = Category.builder().categoryType(CategoryType.QNA).build();
+        categoryRepository.save(qna);
+        Tag usedTag = new Tag(TAGNAME1);
+        Tag unusedTag = new Tag("unused");
+        Post post1 = newInstance(Post.class);
+        Post post2 = newInstance(Post.class);
+        post1.addCategory(qna);
+        post2.addCategory(qna);
+        tagRepository.saveAll(List.of(usedTag, unusedTag));
+        tagCountRepository.saveAll(TagCount.allCategoriesOf(usedTag));
+        postRepository.saveAll(List.of(post1, post2));
+        postTagRepository.saveAll(List.of(new PostTag(post1, usedTag), new PostTag(post2, usedTag)));
+
+        // when
+        tagCountRepository.addUsageCounts(List.of(usedTag.getId()), EnumSet.of(CategoryType.QNA, CategoryType.ALL), 5L);
+        List<TagUsage> drifted = tagCountRepository.findPopular(CategoryType.QNA, PageRequest.of(0, 10));
+        List<Long> missing = tagRepository.findIdsWithoutCountAfter(0L, PageRequest.of(0, 10));
+        tagCountRepository.reconcileUsageCounts(List.of(usedTag.getId()), CategoryType.ALL);
+
+        // then
+        assertThat(drifted).extracting(TagUsage::getUsageCount).containsExactly(5L);
+        assertThat(missing).containsExactly(unusedTag.getId());
+        assertThat(tagCountRepository.findPopular(CategoryType.ALL, PageRequest.of(0, 10)))
+                .extracting(TagUsage::getName, TagUsage::getUsageCount)
+                .containsExactly(tuple(TAGNAME1, 2L));
+        assertThat(tagCountRepository.findPopular(CategoryType.FREE, PageRequest.of(0, 10))).isEmpty();
+    }
 }
@@ -1,25 +1,39 @@
 package com.devillage.teamproject.service.comment;
 
 import com.devillage.teamproject.entity.*;
+import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.entity.enums.CommentStatus;
+import com.devillage.teamproject.entity.enums.UserStatus;
+import com.devillage.teamproject.event.CommentEvent;
 import com.devillage.teamproject.exception.BusinessLogicException;
+import com.devillage.teamproject.exception.ExceptionCode;
 import com.devillage.teamproject.repository.comment.CommentLikeRepository;
+import com.devillage.teamproject.repository.comment.CommentPostRow;
 import com.devillage.teamproject.repository.comment.CommentRepository;
 import com.devillage.teamproject.repository.comment.ReCommentRepository;
 import com.devillage.teamproject.security.util.JwtTokenUtil;
 import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.post.TrendingPostRanker;
 import com.devillage.teamproject.service.user.UserService;
 import com.devillage.teamproject.util.Reflection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +46,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest implements Reflection {
@@ -47,6 +63,12 @@ class CommentServiceTest implements Reflection {
     private PostService postService;
     @Mock
     private UserService userService;
+    @Mock
+    private TrendingPostRanker trendingPostRanker;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -90,20 +112,28 @@ class CommentServiceTest implements Reflection {
         Post post = Post.builder().id(ID1).build();
         Comment comment = Comment.builder().content(COMMENT_CONTENT).post(post).build();
 
-        given(userService.findVerifiedUser(Mockito.anyLong())).willReturn(user);
         given(jwtTokenUtil.getUserId(anyString())).willReturn(user.getId());
-        given(postService.getPost(Mockito.anyLong())).willReturn(post);
-        Comment expectedComment = Comment.createComment(comment, user, post);
-        given(commentRepository.save(Mockito.any(Comment.class))).willReturn(expectedComment);
+        given(postService.findVerifiedCategoryType(post.getId())).willReturn(CategoryType.QNA);
+        given(userService.getUserReference(user.getId())).willReturn(user);
+        given(postService.getPostReference(post.getId())).willReturn(post);
+        given(commentRepository.save(Mockito.any(Comment.class))).willAnswer(AdditionalAnswers.returnsFirstArg());
 
         // when
         Comment actualComment = commentService.createComment(comment, "someToken");
 
         // then
+        assertEquals(COMMENT_CONTENT, actualComment.getContent());
         assertEquals(user, actualComment.getUser());
         assertEquals(post, actualComment.getPost());
-        assertEquals(actualComment, user.getComments().get(0));
-        assertEquals(actualComment, post.getComments().get(0));
+        verify(userService).earnCommentPoint(user.getId());
+        verify(postService).addCommentCount(post.getId(), 1L);
+        verify(trendingPostRanker).recordComment(post.getId(), CategoryType.QNA);
+        ArgumentCaptor<CommentEvent> event = ArgumentCaptor.forClass(CommentEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getEventType()).isEqualTo(CommentEvent.EventType.CREATED);
+        assertThat(event.getValue().getPostId()).isEqualTo(post.getId());
+        assertThat(event.getValue().getUserId()).isEqualTo(user.getId());
+        assertThat(event.getValue().getContent()).isEqualTo(COMMENT_CONTENT);
     }
 
     @Test
@@ -161,13 +191,18 @@ class CommentServiceTest implements Reflection {
     public void createReComment() throws Exception {
         // given
         User user = User.builder().id(ID1).point(0L).postCount(0L).commentCount(0L).build();
-        Comment comment = Comment.builder().id(ID1).build();
+        Post post = Post.builder().id(ID1).build();
+        Comment comment = Comment.builder().id(ID1).post(post).build();
         ReComment reCommentDto = ReComment.builder().content(COMMENT_CONTENT)
                 .comment(comment).build();
 
-        given(commentRepository.findById(Mockito.anyLong())).willReturn(Optional.of(comment));
+        CommentPostRow commentPostRow = Mockito.mock(CommentPostRow.class);
+        given(commentPostRow.getCommentId()).willReturn(comment.getId());
+        given(commentPostRow.getPostId()).willReturn(post.getId());
+        given(commentRepository.findPostRowById(comment.getId())).willReturn(Optional.of(commentPostRow));
         given(jwtTokenUtil.getUserId(anyString())).willReturn(user.getId());
-        given(userService.findVerifiedUser(user.getId())).willReturn(user);
+        given(userService.getUserReference(user.getId())).willReturn(user);
+        given(commentRepository.getReferenceById(comment.getId())).willReturn(comment);
         given(reCommentRepository.save(Mockito.any(ReComment.class))).willAnswer(AdditionalAnswers.returnsFirstArg());
 
         // when
@@ -177,6 +212,8 @@ class CommentServiceTest implements Reflection {
         assertEquals(reCommentDto.getContent(), actualReComment.getContent());
         assertEquals(user, actualReComment.getUser());
         assertEquals(comment, actualReComment.getComment());
+        verify(userService).earnCommentPoint(user.getId());
+        verify(postService).addCommentCount(post.getId(), 1L);
     }
 
     /**
@@ -224,47 +261,75 @@ class CommentServiceTest implements Reflection {
     public void getAllComments() throws Exception {
         // given
         Comment comment1 = Comment.builder().id(ID1).content(COMMENT_CONTENT).build();
-        ReComment reComment1_1 = ReComment.builder().id(ID1).content(COMMENT_CONTENT).comment(comment1).build();
-        comment1.getReComments().add(reComment1_1);
         Comment comment2 = Comment.builder().id(ID2).content(COMMENT_CONTENT).build();
         Comment comment3 = Comment.builder().id(ID2 + 1).content(COMMENT_CONTENT).build();
-
-        given(postService.getPost(Mockito.anyLong())).willReturn(null);
-        given(commentRepository.findAllByPostId(Mockito.anyLong(), Mockito.any()))
-                .willReturn(new PageImpl<>(List.of(comment1, comment2, comment3)));
+        List<ReComment> reComments = new ArrayList<>();
+        for (long id = 1; id <= CommentServiceImpl.RE_COMMENT_PREVIEW_SIZE + 1; id++) {
+            reComments.add(ReComment.builder().id(id).content(COMMENT_CONTENT).comment(comment1).build());
+        }
+        ReComment reComment2_1 = ReComment.builder().id(ID2 + 10).content(COMMENT_CONTENT).comment(comment2).build();
+        reComments.add(reComment2_1);
+        List<Long> commentIds = List.of(comment1.getId(), comment2.getId(), comment3.getId());
+
+        given(postService.findVerifyPost(Mockito.anyLong())).willReturn(null);
+        given(commentRepository.findIdsByPostId(Mockito.anyLong(), Mockito.any()))
+                .willReturn(new PageImpl<>(commentIds));
+        given(commentRepository.findWithAuthorByIdIn(commentIds)).willReturn(List.of(comment3, comment1, comment2));
+        given(reCommentRepository.findHeadsByCommentIdIn(commentIds, CommentServiceImpl.RE_COMMENT_PREVIEW_SIZE + 1))
+                .willReturn(reComments);
 
         // when
-        Page<Comment> commentPage = commentService.findComments(ID1, 1, 10);
+        Page<CommentThread> commentPage = commentService.findComments(ID1, 1, 10);
 
         // then
         assertEquals(3, commentPage.getTotalElements());
+        assertThat(commentPage.getContent()).extracting(CommentThread::getComment)
+                .containsExactly(comment1, comment2, comment3);
+        assertThat(commentPage.getContent().get(0).getReComments())
+                .containsExactlyElementsOf(reComments.subList(0, CommentServiceImpl.RE_COMMENT_PREVIEW_SIZE));
+        assertTrue(commentPage.getContent().get(0).isHasMoreReComments());
+        assertThat(commentPage.getContent().get(1).getReComments()).containsExactly(reComment2_1);
+        assertFalse(commentPage.getContent().get(1).isHasMoreReComments());
+        assertThat(commentPage.getContent().get(2).getReComments()).isEmpty();
+    }
 
+    @Test
+    public void findReComments() throws Exception {
+        // given
+        Post post = Post.builder().id(ID1).build();
+        Comment comment = Comment.builder().id(ID1).post(post).build();
+        ReComment reComment = ReComment.builder().id(ID2).comment(comment).build();
+
+        given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+        given(reCommentRepository.findByCommentIdAndIdGreaterThanOrderByIdAsc(comment.getId(), 0L, PageRequest.of(0, 10)))
+                .willReturn(new SliceImpl<>(List.of(reComment)));
+
+        // when
+        Slice<ReComment> reComments = commentService.findReComments(post.getId(), comment.getId(), null, 10);
+
+        // then
+        assertThat(reComments.getContent()).containsExactly(reComment);
+        assertThrows(BusinessLogicException.class,
+                () -> commentService.findReComments(post.getId() + 1, comment.getId(), ID1, 10));
     }
 
     @Test
     public void likeComment() throws Exception{
         //given
-        Post post = newInstance(Post.class);
-        User user = newInstance(User.class);
         Comment comment = newInstance(Comment.class);
-        CommentLike commentLike = newInstance(CommentLike.class);
-
-        setField(comment,"likeCount",0L);
-        setField(comment,"user",user);
-        setField(comment,"post",post);
-        setField(user,"commentLikes",new ArrayList<>());
+        setField(comment,"likeCount",1L);
 
         Long commentId = 1L;
         Long userId = 1L;
         Long postId = 1L;
 
-        List<CommentLike> commentLikes = commentLikeRepository.findByCommentIdAndUserIdAndPostId(commentId,userId,postId);
-
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(commentId, userId, postId, UserStatus.RESIGNED))
+                .willReturn(0);
+        given(commentLikeRepository.insertForActiveUser(Mockito.eq(userId), Mockito.eq(commentId), Mockito.eq(postId),
+                Mockito.eq(UserStatus.RESIGNED.name()), Mockito.any())).willReturn(1);
+        given(commentRepository.addLikeCount(commentId, postId, 1L)).willReturn(1);
         given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
-        given(commentLikeRepository.findByCommentIdAndUserIdAndPostId(anyLong(),anyLong(),anyLong())).willReturn(new ArrayList<>());
-        given(userService.findVerifiedUser(userId)).willReturn(user);
-        given(commentLikeRepository.countByCommentId(commentId)).willReturn(0L);
-        given(postService.findVerifyPost(postId)).willReturn(post);
 
         //when
         Comment compareComment = commentService.likeComment(userId,postId,commentId);
@@ -272,6 +337,110 @@ class CommentServiceTest implements Reflection {
         //then
         assertThat(compareComment).isEqualTo(comment);
         assertEquals(comment.getLikeCount(),1L);
+        verify(userService, never()).findVerifiedUser(userId);
+        verify(postService).touchPost(postId);
+    }
+
+    @Test
+    public void unlikeComment() throws Exception {
+        // given
+        Comment comment = newInstance(Comment.class);
+        setField(comment, "likeCount", 0L);
+
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(ID1, ID1, ID1, UserStatus.RESIGNED))
+                .willReturn(1);
+        given(commentRepository.addLikeCount(ID1, ID1, -1L)).willReturn(1);
+        given(commentRepository.findById(ID1)).willReturn(Optional.of(comment));
+
+        // when
+        commentService.likeComment(ID1, ID1, ID1);
+
+        // then
+        verify(commentLikeRepository, never()).insertForActiveUser(anyLong(), anyLong(), anyLong(), anyString(),
+                Mockito.any());
     }
 
+    @Test
+    public void likeCommentOfAnotherPost() throws Exception {
+        // given
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(ID1, ID1, ID2, UserStatus.RESIGNED))
+                .willReturn(0);
+        given(commentLikeRepository.insertForActiveUser(Mockito.eq(ID1), Mockito.eq(ID1), Mockito.eq(ID2),
+                anyString(), Mockito.any())).willReturn(0);
+        given(userService.findVerifiedUser(ID1)).willReturn(newInstance(User.class));
+
+        // when then
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> commentService.likeComment(ID1, ID2, ID1));
+        assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.COMMENT_NOT_FOUND);
+        verify(commentRepository, never()).addLikeCount(anyLong(), anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    public void likeCommentByResignedUser() throws Exception {
+        // given
+        // 탈퇴한 회원은 DELETE, INSERT 조건에 걸려 아무 행도 바꾸지 못한다.
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(ID1, ID1, ID1, UserStatus.RESIGNED))
+                .willReturn(0);
+        given(commentLikeRepository.insertForActiveUser(Mockito.eq(ID1), Mockito.eq(ID1), Mockito.eq(ID1),
+                anyString(), Mockito.any())).willReturn(0);
+        given(userService.findVerifiedUser(ID1))
+                .willThrow(new BusinessLogicException(ExceptionCode.USER_RESIGNED));
+
+        // when then
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> commentService.likeComment(ID1, ID1, ID1));
+        assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.USER_RESIGNED);
+        verify(commentRepository, never()).addLikeCount(anyLong(), anyLong(), Mockito.anyLong());
+        verify(postService, never()).touchPost(ID1);
+    }
+
+    @Test
+    public void concurrentLikeComment() throws Exception {
+        // given
+        // 같은 회원의 다른 요청이 먼저 좋아요를 넣어 유니크 제약에 걸린다.
+        Comment comment = newInstance(Comment.class);
+        setField(comment, "likeCount", 1L);
+
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(ID1, ID1, ID1, UserStatus.RESIGNED))
+                .willReturn(0);
+        given(commentLikeRepository.insertForActiveUser(Mockito.eq(ID1), Mockito.eq(ID1), Mockito.eq(ID1),
+                anyString(), Mockito.any()))
+                .willThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '1-1' for key 'comment_like.uk_comment_like_user_id_comment_id'"));
+        given(commentRepository.findById(ID1)).willReturn(Optional.of(comment));
+
+        // when
+        Comment likedComment = commentService.likeComment(ID1, ID1, ID1);
+
+        // then
+        assertThat(likedComment).isEqualTo(comment);
+        verify(postService, never()).touchPost(ID1);
+    }
+
+    @Test
+    public void likeCommentRethrowsOtherViolations() throws Exception {
+        // given
+        // 좋아요가 반영되지 않은 외래 키 위반은 이미 반영된 것으로 보지 않는다.
+        givenTransaction();
+        given(commentLikeRepository.deleteByCommentIdAndUserIdAndPostId(ID1, ID1, ID1, UserStatus.RESIGNED))
+                .willReturn(0);
+        given(commentLikeRepository.insertForActiveUser(Mockito.eq(ID1), Mockito.eq(ID1), Mockito.eq(ID1),
+                anyString(), Mockito.any()))
+                .willThrow(new DataIntegrityViolationException(
+                        "Cannot add or update a child row: a foreign key constraint fails"));
+
+        // when then
+        assertThrows(DataIntegrityViolationException.class, () -> commentService.likeComment(ID1, ID1, ID1));
+        verify(commentRepository, never()).findById(ID1);
+    }
+
+    private void givenTransaction() {
+        given(transactionTemplate.execute(Mockito.any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Comment>>getArgument(0).doInTransaction(null));
+    }
 }
\ No newline at end of file
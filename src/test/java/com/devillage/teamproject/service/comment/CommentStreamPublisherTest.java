@@ -0,0 +1,51 @@
+package com.devillage.teamproject.service.comment;
+
+import com.devillage.teamproject.entity.Comment;
+import com.devillage.teamproject.entity.Post;
+import com.devillage.teamproject.event.CommentEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import static com.devillage.teamproject.util.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentStreamPublisherTest {
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+    @InjectMocks
+    private CommentStreamPublisher commentStreamPublisher;
+
+    @Test
+    public void handleCommentEvent() throws Exception {
+        // given
+        Comment comment = Comment.builder().id(ID2).content(COMMENT_CONTENT).post(Post.builder().id(ID1).build())
+                .build();
+        CommentEvent event = CommentEvent.created(comment);
+
+        // when
+        commentStreamPublisher.handleCommentEvent(event);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/topic/posts/" + ID1 + "/comments", event);
+    }
+
+    @Test
+    public void ignoreSendFailure() throws Exception {
+        // given
+        willThrow(new MessageDeliveryException("closed"))
+                .given(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        // when / then
+        assertDoesNotThrow(() -> commentStreamPublisher.handleCommentEvent(CommentEvent.deleted(ID1, ID2)));
+    }
+}
@@ -0,0 +1,167 @@
+package com.devillage.teamproject.service.comment;
+
+import com.devillage.teamproject.entity.*;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.security.util.JwtTokenUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.devillage.teamproject.util.TestConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 쓰기가 회원·게시글·댓글 엔티티를 읽지 않고 고정된 수의 쿼리로 끝나는지 검증한다.
+ * 쓰기 한 건과 존재 확인 외의 쿼리는 포인트, 게시글 댓글 수와 버전, 요약 댓글 수를 올리는 UPDATE 다.
+ */
+@SpringBootTest
+@Transactional
+class CommentWriteQueryCountTest {
+    private static final long CREATE_STATEMENTS = 5;
+    private static final long LIKE_STATEMENTS = 5;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User user;
+    private Category category;
+    private Post post;
+    private Comment comment;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // 테스트 트랜잭션이 있으면 참여하고, 없으면(좋아요 토글) 커밋해 별도 트랜잭션에서도 보이게 한다.
+        transactionTemplate.executeWithoutResult(status -> {
+            user = User.builder().email("comment-write@devillage.com").nickName("comment-write").build();
+            em.persist(user);
+            category = Category.builder().categoryType(CategoryType.FREE).build();
+            em.persist(category);
+            post = new Post("제목", "내용", List.of());
+            post.addCategory(category);
+            post.addUser(user);
+            em.persist(post);
+            comment = Comment.builder().content(COMMENT_CONTENT).user(user).post(post).build();
+            em.persist(comment);
+            em.flush();
+            em.clear();
+        });
+        token = BEARER + jwtTokenUtil.createAccessToken(user.getEmail(), user.getId(), ROLES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 테스트 트랜잭션 안에서 만든 데이터는 롤백되므로, 커밋한 경우만 지운다.
+        if (TestTransaction.isActive()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Long postContentId = em.createQuery("select p.body.id from Post p where p.id = :postId", Long.class)
+                    .setParameter("postId", post.getId())
+                    .getSingleResult();
+            em.createQuery("delete from CommentLike cl where cl.comment.id = :commentId")
+                    .setParameter("commentId", comment.getId())
+                    .executeUpdate();
+            em.createQuery("delete from Comment c where c.id = :commentId")
+                    .setParameter("commentId", comment.getId())
+                    .executeUpdate();
+            em.createQuery("delete from Post p where p.id = :postId")
+                    .setParameter("postId", post.getId())
+                    .executeUpdate();
+            em.createQuery("delete from PostContent pc where pc.id = :postContentId")
+                    .setParameter("postContentId", postContentId)
+                    .executeUpdate();
+            em.createQuery("delete from Category c where c.id = :categoryId")
+                    .setParameter("categoryId", category.getId())
+                    .executeUpdate();
+            em.createQuery("delete from User u where u.id = :userId")
+                    .setParameter("userId", user.getId())
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    void createComment() {
+        // given
+        statistics.clear();
+
+        // when
+        Comment savedComment = commentService.createComment(
+                Comment.builder().content(COMMENT_CONTENT).post(Post.builder().id(post.getId()).build()).build(),
+                token);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(CREATE_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        em.flush();
+        em.clear();
+        assertThat(em.find(Comment.class, savedComment.getId()).getPost().getId()).isEqualTo(post.getId());
+        assertThat(em.find(User.class, user.getId()).getCommentCount()).isEqualTo(1L);
+        assertThat(em.find(Post.class, post.getId()).getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void createReComment() {
+        // given
+        statistics.clear();
+
+        // when
+        ReComment savedReComment = commentService.createReComment(ReComment.builder()
+                .content(COMMENT_CONTENT)
+                .comment(Comment.builder().id(comment.getId()).post(Post.builder().id(post.getId()).build()).build())
+                .build(), token);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(CREATE_STATEMENTS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        em.flush();
+        em.clear();
+        assertThat(em.find(ReComment.class, savedReComment.getId()).getComment().getId()).isEqualTo(comment.getId());
+    }
+
+    // 좋아요 토글은 REQUIRES_NEW 트랜잭션에서 하므로 테스트 트랜잭션 없이 커밋된 데이터로 확인한다.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void likeAndUnlikeComment() {
+        // given
+        statistics.clear();
+
+        // when
+        Comment liked = commentService.likeComment(user.getId(), post.getId(), comment.getId());
+        long likeStatements = statistics.getPrepareStatementCount();
+        long likeLoads = statistics.getEntityLoadCount();
+        long likeCount = liked.getLikeCount();
+        statistics.clear();
+        Comment unliked = commentService.likeComment(user.getId(), post.getId(), comment.getId());
+
+        // then
+        assertThat(likeStatements).isLessThanOrEqualTo(LIKE_STATEMENTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(LIKE_STATEMENTS);
+        // 응답에 쓸 댓글 하나만 읽는다.
+        assertThat(likeLoads).isEqualTo(1L);
+        assertThat(likeCount).isEqualTo(1L);
+        assertThat(unliked.getLikeCount()).isZero();
+    }
+}
@@ -18,7 +18,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class BookmarkTest implements Reflection {
@@ -32,6 +35,9 @@ class BookmarkTest implements Reflection {
     @Mock
     private UserService userService;
 
+    @Mock
+    private PostResponseCache postResponseCache;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -61,6 +67,8 @@ class BookmarkTest implements Reflection {
         // then
         Assertions.assertThat(findBookmark.getPost()).isEqualTo(post);
         Assertions.assertThat(findBookmark.getUser()).isEqualTo(user);
+        verify(postRepository).increaseRevision(eq(postId), any());
+        verify(postResponseCache).evictPost(postId);
     }
 
     @Test
@@ -3,9 +3,12 @@ package com.devillage.teamproject.service.post;
 import com.devillage.teamproject.entity.*;
 import com.devillage.teamproject.entity.enums.CategoryType;
 import com.devillage.teamproject.exception.BusinessLogicException;
-import com.devillage.teamproject.repository.post.PostRepository;
-import com.devillage.teamproject.repository.posttag.PostTagRepository;
-import com.devillage.teamproject.repository.tag.TagRepository;
+import com.devillage.teamproject.exception.ExceptionCode;
+import com.devillage.teamproject.repository.post.BookmarkRepository;
+import com.devillage.teamproject.repository.post.BookmarkedPost;
+import com.devillage.teamproject.repository.post.PostSummaryRepository;
+import com.devillage.teamproject.service.tag.PostTagIndex;
+import com.devillage.teamproject.service.tag.TagService;
 import com.devillage.teamproject.service.user.UserService;
 import com.devillage.teamproject.util.Reflection;
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.util.List;
-import java.util.Optional;
 
 import static com.devillage.teamproject.util.TestConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,17 +29,23 @@ import static org.mockito.BDDMockito.given;
 public class GetPostsServiceTest implements Reflection {
 
     @Mock
-    private PostRepository postRepository;
+    private PostSummaryRepository postSummaryRepository;
 
     @Mock
-    private TagRepository tagRepository;
+    private BookmarkRepository bookmarkRepository;
 
     @Mock
-    private PostTagRepository postTagRepository;
+    private TagService tagService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private TrendingPostRanker trendingPostRanker;
+
+    @Mock
+    private PostTagIndex postTagIndex;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -49,21 +57,19 @@ public class GetPostsServiceTest implements Reflection {
         String notExistCategory = "CATEGORY";
         int page = 1;
         int size = 1;
-        Post post = newInstance(Post.class);
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("id").descending());
-        PageImpl<Post> allPosts = new PageImpl<>(List.of(post),
-                pageable, 1L);
-        Page<Post> posts = new PageImpl<>(List.of(post),
-                pageable, 1L);
-
-        given(postRepository.findAll(pageable))
+        PostSummary summary = newInstance(PostSummary.class);
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("postId").descending());
+        Page<PostSummary> allPosts = new PageImpl<>(List.of(summary), pageable, 1L);
+        Page<PostSummary> posts = new PageImpl<>(List.of(summary), pageable, 1L);
+
+        given(postSummaryRepository.findAll(pageable))
                 .willReturn(allPosts);
-        given(postRepository.findDistinctByCategory_CategoryType(CategoryType.valueOf(existCategory), pageable))
+        given(postSummaryRepository.findByCategoryType(CategoryType.valueOf(existCategory), pageable))
                 .willReturn(posts);
 
         // when
-        Page<Post> findAllPosts = postService.getPostsByCategory(allCategory, page, size);
-        Page<Post> findPosts = postService.getPostsByCategory(existCategory, page, size);
+        Page<PostSummary> findAllPosts = postService.getPostsByCategory(allCategory, page, size);
+        Page<PostSummary> findPosts = postService.getPostsByCategory(existCategory, page, size);
 
         // then
         assertThat(findAllPosts).isEqualTo(allPosts);
@@ -72,38 +78,127 @@ public class GetPostsServiceTest implements Reflection {
                 () -> postService.getPostsByCategory(notExistCategory, page, size));
     }
 
+    @Test
+    public void getPostsByCategoryWithCursor() throws Exception {
+        // given
+        PostSummary summary = newInstance(PostSummary.class);
+        Long after = 10L;
+        int size = 1;
+        Pageable pageable = PageRequest.of(0, size, Sort.by("postId").descending());
+        Slice<PostSummary> allPosts = new SliceImpl<>(List.of(summary), pageable, true);
+        Slice<PostSummary> freePosts = new SliceImpl<>(List.of(summary), pageable, false);
+
+        given(postSummaryRepository.findByPostIdLessThan(Long.MAX_VALUE, pageable))
+                .willReturn(allPosts);
+        given(postSummaryRepository.findByCategoryTypeAndPostIdLessThan(CategoryType.FREE, after, pageable))
+                .willReturn(freePosts);
+
+        // when
+        Slice<PostSummary> findAllPosts = postService.getPostsByCategory("ALL", null, size);
+        Slice<PostSummary> findFreePosts = postService.getPostsByCategory("FREE", after, size);
+
+        // then
+        assertThat(findAllPosts).isEqualTo(allPosts);
+        assertThat(findFreePosts).isEqualTo(freePosts);
+        assertThrows(BusinessLogicException.class,
+                () -> postService.getPostsByCategory("CATEGORY", after, size));
+    }
+
+    @Test
+    public void getTrendingPosts() throws Exception {
+        // given
+        PostSummary summary1 = newInstance(PostSummary.class);
+        PostSummary summary2 = newInstance(PostSummary.class);
+        setField(summary1, "postId", 1L);
+        setField(summary2, "postId", 2L);
+
+        given(trendingPostRanker.top(CategoryType.FREE, 3))
+                .willReturn(List.of(2L, 3L, 1L));
+        given(postSummaryRepository.findAllById(List.of(2L, 3L, 1L)))
+                .willReturn(List.of(summary1, summary2));
+
+        // when
+        List<PostSummary> trendingPosts = postService.getTrendingPosts("free", 3);
+
+        // then
+        assertThat(trendingPosts).containsExactly(summary2, summary1);
+        assertThrows(BusinessLogicException.class,
+                () -> postService.getTrendingPosts("CATEGORY", 3));
+    }
+
+    @Test
+    public void getPostsByTags() throws Exception {
+        // given
+        PostSummary summary1 = newInstance(PostSummary.class);
+        PostSummary summary2 = newInstance(PostSummary.class);
+        setField(summary1, "postId", 3L);
+        setField(summary2, "postId", 2L);
+        List<String> allOf = List.of("spring", "jpa");
+        List<String> noneOf = List.of("querydsl");
+        Long after = 10L;
+        int size = 2;
+
+        given(postTagIndex.search(allOf, List.of(), noneOf, CategoryType.QNA, after, size))
+                .willReturn(new SliceImpl<>(List.of(3L, 2L), PageRequest.of(0, size), true));
+        given(postSummaryRepository.findAllById(List.of(3L, 2L)))
+                .willReturn(List.of(summary2, summary1));
+
+        // when
+        Slice<PostSummary> posts = postService.getPostsByTags(allOf, null, noneOf, "qna", after, size);
+
+        // then
+        assertThat(posts.getContent()).containsExactly(summary1, summary2);
+        assertThat(posts.hasNext()).isTrue();
+        assertThrows(BusinessLogicException.class,
+                () -> postService.getPostsByTags(allOf, null, noneOf, "CATEGORY", after, size));
+    }
+
+    @Test
+    public void getPostsByTagsWithInvalidSize() throws Exception {
+        // given
+        given(postTagIndex.search(List.of("spring"), List.of(), List.of(), CategoryType.ALL, null,
+                PostServiceImpl.MAX_TAG_SEARCH_SIZE))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, PostServiceImpl.MAX_TAG_SEARCH_SIZE), false));
+
+        // when
+        Slice<PostSummary> posts = postService.getPostsByTags(List.of("spring"), null, null, "all", null,
+                Integer.MAX_VALUE);
+
+        // then
+        assertThat(posts.getContent()).isEmpty();
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> postService.getPostsByTags(List.of("spring"), null, null, "all", null, -1));
+        assertThat(exception.getExceptionCode()).isEqualTo(ExceptionCode.INVALID_PAGE_SIZE);
+        assertThrows(BusinessLogicException.class,
+                () -> postService.getPostsByTags(List.of("spring"), null, null, "all", null, 0));
+    }
+
     @Test
     public void getPostsByTag() throws Exception {
         // given
         String existTagName = TAGNAME1;
         String notExistTagName = TAGNAME2;
         Tag tag = newInstance(Tag.class);
-        PostTag postTag1 = newInstance(PostTag.class);
-        PostTag postTag2 = newInstance(PostTag.class);
-        Post post1 = newInstance(Post.class);
-        Post post2 = newInstance(Post.class);
-
-        setField(postTag1, "post", post1);
-        setField(postTag2, "post", post2);
-        setField(postTag1, "tag", tag);
-        setField(postTag2, "tag", tag);
+        PostSummary summary1 = newInstance(PostSummary.class);
+        PostSummary summary2 = newInstance(PostSummary.class);
+        setField(summary1, "postId", 2L);
+        setField(summary2, "postId", 1L);
 
         int page = 1;
         int size = 5;
 
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("id").descending());
-        Page<PostTag> postTags = new PageImpl<>(List.of(postTag1, postTag2), pageable, 2L);
-        Page<Post> posts = new PageImpl<>(List.of(post1, post2), pageable, 2L);
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("postId").descending());
+        Page<PostSummary> posts = new PageImpl<>(List.of(summary1, summary2), pageable, 2L);
 
-        given(tagRepository.findTagByName(existTagName))
-                .willReturn(Optional.ofNullable(tag));
-        given(tagRepository.findTagByName(notExistTagName))
-                .willReturn(Optional.empty());
-        given(postTagRepository.findDistinctByTag(tag, pageable))
-                .willReturn(postTags);
+        given(tagService.findVerifiedTag(existTagName))
+                .willReturn(tag);
+        given(tagService.findVerifiedTag(notExistTagName))
+                .willThrow(new BusinessLogicException(ExceptionCode.TAG_NOT_FOUND));
+        given(postSummaryRepository.findByTag(tag, pageable))
+                .willReturn(posts);
 
         // when
-        Page<Post> postsByTag = postService.getPostsByTag(existTagName, page, size);
+        Page<PostSummary> postsByTag = postService.getPostsByTag(existTagName, page, size);
 
         // then
         assertThat(postsByTag.getNumber()).isEqualTo(posts.getNumber());
@@ -118,54 +213,52 @@ public class GetPostsServiceTest implements Reflection {
     @Test
     public void getPostsByBookmark() throws Exception {
         // given
-        Post post1 = newInstance(Post.class);
-        Post post2 = newInstance(Post.class);
-        Post post3 = newInstance(Post.class);
-        Bookmark bookmark1 = newInstance(Bookmark.class);
-        Bookmark bookmark2 = newInstance(Bookmark.class);
-        Bookmark bookmark3 = newInstance(Bookmark.class);
         User user = newInstance(User.class);
-
-        setField(post1, "id", 1L);
-        setField(post2, "id", 2L);
-        setField(post3, "id", 3L);
-        setField(bookmark1, "post", post1);
-        setField(bookmark2, "post", post2);
-        setField(bookmark3, "post", post3);
-        setField(bookmark1, "id", 2L);
-        setField(bookmark2, "id", 1L);
-        setField(bookmark3, "id", 3L);
-        setField(bookmark1, "user", user);
-        setField(bookmark2, "user", user);
-        setField(bookmark3, "user", user);
+        PostSummary summary = newInstance(PostSummary.class);
         setField(user, "id", 1L);
-        setField(user, "bookmarks", List.of(bookmark1, bookmark2, bookmark3));
+        setField(summary, "postId", 3L);
 
-        int page = 1;
-        int size1 = 1;
-        int size2 = 3;
+        int page = 2;
+        int size = 1;
+        Pageable pageable = PageRequest.of(page - 1, size);
+        Page<PostSummary> posts = new PageImpl<>(List.of(summary), pageable, 3L);
 
         given(userService.findVerifiedUser(user.getId()))
                 .willReturn(user);
+        given(bookmarkRepository.findSummariesByUserId(user.getId(), pageable))
+                .willReturn(posts);
+
+        // when
+        Page<PostSummary> findPosts = postService.getPostsByBookmark(user.getId(), page, size);
+
+        // then
+        assertThat(findPosts.getContent()).containsExactly(summary);
+        assertThat(findPosts.getNumber() + 1).isEqualTo(page);
+        assertThat(findPosts.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    public void getPostsByBookmarkWithCursor() throws Exception {
+        // given
+        User user = newInstance(User.class);
+        setField(user, "id", 1L);
+        Pageable pageable = PageRequest.of(0, 2);
+        Slice<BookmarkedPost> posts = new SliceImpl<>(List.of(), pageable, false);
+
+        given(userService.findVerifiedUser(user.getId()))
+                .willReturn(user);
+        given(bookmarkRepository.findSummariesByUserIdAndBookmarkIdLessThan(user.getId(), Long.MAX_VALUE, pageable))
+                .willReturn(posts);
+        given(bookmarkRepository.findSummariesByUserIdAndBookmarkIdLessThan(user.getId(), 5L, pageable))
+                .willReturn(posts);
 
         // when
-        Page<Post> findPosts1 = postService.getPostsByBookmark(user.getId(), page, size1);
-        Page<Post> findPosts2 = postService.getPostsByBookmark(user.getId(), page, size2);
+        Slice<BookmarkedPost> firstPage = postService.getPostsByBookmark(user.getId(), null, 2);
+        Slice<BookmarkedPost> nextPage = postService.getPostsByBookmark(user.getId(), 5L, 2);
 
         // then
-        assertThat(findPosts1.getContent().get(0)).isEqualTo(post3);
-        assertThat(findPosts1.getNumber() + 1).isEqualTo(page);
-        assertThat(findPosts1.getSize()).isEqualTo(size1);
-        assertThat(findPosts1.getTotalPages()).isEqualTo(user.getBookmarks().size() / size1);
-        assertThat(findPosts1.getTotalElements()).isEqualTo(user.getBookmarks().size());
-
-        assertThat(findPosts2.getContent().get(0)).isEqualTo(post3);
-        assertThat(findPosts2.getContent().get(1)).isEqualTo(post1);
-        assertThat(findPosts2.getContent().get(2)).isEqualTo(post2);
-        assertThat(findPosts2.getNumber() + 1).isEqualTo(page);
-        assertThat(findPosts2.getSize()).isEqualTo(size2);
-        assertThat(findPosts2.getTotalPages()).isEqualTo(user.getBookmarks().size() / size2);
-        assertThat(findPosts2.getTotalElements()).isEqualTo(user.getBookmarks().size());
+        assertThat(firstPage).isEqualTo(posts);
+        assertThat(nextPage).isEqualTo(posts);
     }
 
 }
@@ -5,6 +5,7 @@ import com.devillage.teamproject.entity.Post;
 import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.repository.post.LikeRepository;
 import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.service.summary.PostSummaryService;
 import com.devillage.teamproject.service.user.UserService;
 import com.devillage.teamproject.util.Reflection;
 import org.assertj.core.api.Assertions;
@@ -13,12 +14,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LikeTest implements Reflection {
@@ -32,6 +41,18 @@ class LikeTest implements Reflection {
     @Mock
     private UserService userService;
 
+    @Mock
+    private PostSummaryService postSummaryService;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @Mock
+    private TrendingPostRanker trendingPostRanker;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -49,14 +70,13 @@ class LikeTest implements Reflection {
     @Test
     void createLike() {
         // given
+        givenTransaction();
+        given(likeRepository.deleteByUserIdAndPostId(userId, postId))
+                .willReturn(0);
+
         given(postRepository.findById(postId))
                 .willReturn(Optional.of(post));
 
-        given(likeRepository.findByUserIdAndPostId(userId, postId))
-                .willReturn(new ArrayList<>());
-        given(likeRepository.countByPostId(postId))
-                .willReturn(1L);
-
         given(userService.findVerifiedUser(userId))
                 .willReturn(user);
 
@@ -66,32 +86,96 @@ class LikeTest implements Reflection {
         // then
         Assertions.assertThat(findPost).isEqualTo(post);
         Assertions.assertThat(findPost.getUser()).isEqualTo(user);
-        Assertions.assertThat(findPost.getLikeCount()).isEqualTo(2L);
+        verify(likeRepository).save(any(Like.class));
+        verify(postRepository).addLikeCount(postId, 1L);
+        verify(postSummaryService).addLikeCount(postId, 1L);
+        verify(trendingPostRanker).recordLike(postId, null, 1L);
     }
 
     @Test
     void deleteLike() throws Exception {
         // given
-        Like like = new Like(user, post);
+        givenTransaction();
+        given(likeRepository.deleteByUserIdAndPostId(userId, postId))
+                .willReturn(1);
 
         given(postRepository.findById(postId))
                 .willReturn(Optional.of(post));
 
-        given(likeRepository.findByUserIdAndPostId(userId, postId))
-                .willReturn(List.of(like));
-        given(likeRepository.countByPostId(postId))
-                .willReturn(1L);
+        // when
+        Post findPost = postService.postLike(userId, postId);
+
+        // then
+        Assertions.assertThat(findPost).isEqualTo(post);
+        Assertions.assertThat(findPost.getUser()).isEqualTo(user);
+        verify(likeRepository, never()).save(any(Like.class));
+        verify(postRepository).addLikeCount(postId, -1L);
+        verify(postSummaryService).addLikeCount(postId, -1L);
+    }
 
+    @Test
+    void concurrentLike() throws Exception {
+        // given
+        // 같은 회원의 다른 요청이 먼저 좋아요를 넣어 유니크 제약에 걸린다.
+        givenTransaction();
+        given(likeRepository.deleteByUserIdAndPostId(userId, postId))
+                .willReturn(0);
+        given(postRepository.findById(postId))
+                .willReturn(Optional.of(post));
         given(userService.findVerifiedUser(userId))
                 .willReturn(user);
+        given(likeRepository.save(any(Like.class)))
+                .willThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '1-1' for key 'likes.uk_likes_user_id_post_id'"));
 
         // when
         Post findPost = postService.postLike(userId, postId);
 
         // then
         Assertions.assertThat(findPost).isEqualTo(post);
-        Assertions.assertThat(findPost.getUser()).isEqualTo(user);
-        Assertions.assertThat(findPost.getLikeCount()).isEqualTo(0L);
+        verify(postRepository, never()).addLikeCount(any(), anyLong());
+        verify(postSummaryService, never()).addLikeCount(any(), anyLong());
+        verify(trendingPostRanker, never()).recordLike(any(), any(), anyLong());
+    }
+
+    @Test
+    void likeRethrowsOtherViolations() throws Exception {
+        // given
+        // 게시글이 함께 지워지는 등 좋아요가 반영되지 않은 위반은 이미 반영된 것으로 보지 않는다.
+        givenTransaction();
+        given(likeRepository.deleteByUserIdAndPostId(userId, postId))
+                .willReturn(0);
+        given(postRepository.findById(postId))
+                .willReturn(Optional.of(post));
+        given(userService.findVerifiedUser(userId))
+                .willReturn(user);
+        given(likeRepository.save(any(Like.class)))
+                .willThrow(new DataIntegrityViolationException(
+                        "Cannot add or update a child row: a foreign key constraint fails"));
+
+        // when / then
+        assertThrows(DataIntegrityViolationException.class, () -> postService.postLike(userId, postId));
+        verify(postRepository, never()).addLikeCount(any(), anyLong());
+    }
+
+    @Test
+    void reconcileLikeCounts() throws Exception {
+        // given
+        List<Long> postIds = List.of(1L, 2L, 3L);
+        given(postRepository.findIdsAfter(any(), any()))
+                .willReturn(postIds);
+
+        // when
+        Long lastId = postService.reconcileLikeCounts(0L, 3);
+
+        // then
+        Assertions.assertThat(lastId).isEqualTo(3L);
+        verify(postRepository).reconcileLikeCounts(postIds);
+        verify(postSummaryService).reconcileLikeCounts(postIds);
     }
 
-}
\ No newline at end of file
+    private void givenTransaction() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Post>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.devillage.teamproject.service.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostContentMigratorTest {
+
+    @Mock
+    private PostService postService;
+
+    private JdbcTemplate jdbcTemplate;
+    private PostContentMigrator postContentMigrator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:post-content-migrator;DB_CLOSE_DELAY=-1", "sa", ""));
+        postContentMigrator = new PostContentMigrator(postService, jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    void skipWithoutLegacyColumn() {
+        // given
+        jdbcTemplate.execute("create table post (post_id bigint primary key, post_content_id bigint)");
+
+        // when
+        postContentMigrator.run(null);
+
+        // then
+        assertThat(postContentMigrator.hasLegacyColumn()).isFalse();
+        verify(postService, never()).migrateLegacyContents(anyLong(), anyInt());
+    }
+
+    @Test
+    void migrateAndReportFailures() {
+        // given
+        jdbcTemplate.execute("create table post (post_id bigint primary key, content clob, post_content_id bigint)");
+        given(postService.migrateLegacyContents(0L, 500)).willReturn(500L);
+        given(postService.migrateLegacyContents(500L, 500)).willThrow(new CannotAcquireLockException("lock wait"));
+
+        // when / then
+        // 컬럼이 있는데 실패한 것은 옮길 것이 없는 것으로 보지 않고 오류로 남긴다.
+        assertThat(postContentMigrator.hasLegacyColumn()).isTrue();
+        assertDoesNotThrow(() -> postContentMigrator.run(null));
+        verify(postService).migrateLegacyContents(500L, 500);
+    }
+}
@@ -0,0 +1,71 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.entity.PostContent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentRendererTest {
+
+    private final PostContentRenderer postContentRenderer = new PostContentRenderer(true);
+
+    @Test
+    void renderSanitizedHtml() {
+        // given
+        PostContent body = PostContent.of("# 제목\n\n**굵게** [링크](javascript:alert(1)) <script>alert(1)</script>");
+
+        // when
+        postContentRenderer.render(body);
+
+        // then
+        assertThat(body.getHtml()).contains("<h1>제목</h1>", "<strong>굵게</strong>")
+                .doesNotContain("<script>", "javascript:");
+        assertThat(body.getExcerpt()).startsWith("제목 굵게 링크").doesNotContain("#", "**");
+        assertThat(body.getReadingMinutes()).isEqualTo(1);
+        assertThat(body.getContentHash()).hasSize(64);
+    }
+
+    @Test
+    void renderOnlyWhenContentChanges() {
+        // given
+        PostContent body = PostContent.of("본문 ".repeat(1000));
+        postContentRenderer.render(body);
+        String html = body.getHtml();
+        String excerpt = body.getExcerpt();
+
+        // when
+        body.update("본문 ".repeat(1000));
+        postContentRenderer.render(body);
+        String unchanged = body.getHtml();
+        body.update("바뀐 본문");
+        String cleared = body.getHtml();
+        postContentRenderer.render(body);
+
+        // then
+        assertThat(unchanged).isSameAs(html);
+        assertThat(excerpt).hasSize(PostContentRenderer.EXCERPT_LENGTH);
+        assertThat(cleared).isNull();
+        assertThat(body.getHtml()).contains("바뀐 본문");
+    }
+
+    @Test
+    void skipWhenDisabled() {
+        // given
+        PostContent body = PostContent.of("**본문**");
+
+        // when
+        new PostContentRenderer(false).render(body);
+
+        // then
+        assertThat(body.getHtml()).isNull();
+        assertThat(body.getContentHash()).isNull();
+    }
+
+    @Test
+    void estimateReadingMinutes() {
+        // then
+        assertThat(PostContentRenderer.readingMinutesOf("")).isEqualTo(1);
+        assertThat(PostContentRenderer.readingMinutesOf("가".repeat(1001))).isEqualTo(3);
+        assertThat(PostContentRenderer.readingMinutesOf("word ".repeat(400))).isEqualTo(2);
+    }
+}
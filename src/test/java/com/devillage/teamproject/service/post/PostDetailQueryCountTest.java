@@ -0,0 +1,138 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.dto.PostDto;
+import com.devillage.teamproject.entity.*;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.service.comment.CommentService;
+import com.devillage.teamproject.service.comment.CommentThread;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 상세 조회가 좋아요/북마크 수와 관계없이 고정된 수의 쿼리로 조립되는지 검증한다.
+ * 컨트롤러(PostControllerImpl.getPost)가 부르는 서비스를 그대로 호출한다. 운영은 open-in-view 로 요청 하나가
+ * 영속성 컨텍스트를 공유하므로, 테스트 트랜잭션 하나로 묶어 같은 조건에서 센다.
+ */
+@SpringBootTest
+@Transactional
+class PostDetailQueryCountTest {
+    private static final long MAX_STATEMENTS = 13;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private Category category;
+    private Tag tag1;
+    private Tag tag2;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        category = persist(Category.builder().categoryType(CategoryType.FREE).build());
+        tag1 = persist(new Tag("query-count-1"));
+        tag2 = persist(new Tag("query-count-2"));
+    }
+
+    @Test
+    public void postDetailStatementCountDoesNotGrowWithLikesAndBookmarks() throws Exception {
+        // given
+        User viewer = persistUser();
+        Post quietPost = persistPost(1);
+        Post popularPost = persistPost(50);
+        em.flush();
+        em.clear();
+
+        // when
+        long quietCount = countStatements(quietPost.getId(), viewer.getId());
+        long popularCount = countStatements(popularPost.getId(), viewer.getId());
+
+        // then
+        assertThat(popularCount).isEqualTo(quietCount);
+        assertThat(popularCount).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private long countStatements(Long postId, Long viewerId) {
+        em.clear();
+        statistics.clear();
+
+        Post post = postService.getPost(postId);
+        Page<CommentThread> comments = commentService.findComments(postId, 0, 10);
+        List<Long> commentIds = comments.stream()
+                .map(thread -> thread.getComment().getId())
+                .collect(Collectors.toList());
+        Set<Long> likedCommentIds = commentService.findLikedCommentIds(viewerId, commentIds);
+        PostDto.Response.PostDetail detail = PostDto.Response.PostDetail.of(post, comments, likedCommentIds,
+                postService.isLiked(viewerId, postId),
+                postService.isBookmarked(viewerId, postId),
+                PostDto.Response.ViewerCount.empty());
+
+        assertThat(detail.getTag()).hasSize(2);
+        assertThat(detail.getImages()).hasSize(2);
+        assertThat(detail.getComments().getData()).hasSize(2);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Post persistPost(int reactions) {
+        User author = persistUser();
+        author.addAvatar(persist(File.builder().remotePath("avatar-" + sequence).build()));
+
+        Post post = new Post("제목", "내용", List.of());
+        post.addCategory(category);
+        post.addUser(author);
+        em.persist(post);
+
+        em.persist(new PostTag(post, tag1));
+        em.persist(new PostTag(post, tag2));
+        for (int i = 0; i < 2; i++) {
+            File image = persist(File.builder().remotePath("image-" + sequence + "-" + i).build());
+            em.persist(PostsFile.builder().post(post).file(image).build());
+        }
+
+        for (int i = 0; i < reactions; i++) {
+            User reactor = persistUser();
+            em.persist(new Like(reactor, post));
+            em.persist(new Bookmark(reactor, post));
+        }
+
+        for (int i = 0; i < 2; i++) {
+            Comment comment = persist(Comment.builder().content("댓글").user(author).post(post).build());
+            em.persist(ReComment.createReComment(author, comment, "대댓글"));
+            em.persist(new CommentLike(author, comment, post));
+        }
+        return post;
+    }
+
+    private User persistUser() {
+        sequence++;
+        return persist(User.builder()
+                .email("query-count-" + sequence + "@devillage.com")
+                .nickName("query-count-" + sequence)
+                .build());
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
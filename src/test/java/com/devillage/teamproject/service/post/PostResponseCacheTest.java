@@ -0,0 +1,155 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostResponseCacheTest {
+
+    private PostResponseCache postResponseCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+        postResponseCache = new PostResponseCache(30, 100, 2, 30, meterRegistry, nanos::get);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void categoryPageIsLoadedOncePerKey() throws Exception {
+        // when
+        postResponseCache.getCategoryPage("free", 1, 10, this::load);
+        postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+        postResponseCache.getCategoryPage("FREE", 1, 20, this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void pagesBeyondMaxPageAreNotCached() throws Exception {
+        // when
+        postResponseCache.getCategoryPage("FREE", 3, 10, this::load);
+        postResponseCache.getCategoryPage("FREE", 3, 10, this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictCategoryRemovesCategoryAndAllPages() throws Exception {
+        // given
+        postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+        postResponseCache.getCategoryPage("ALL", 1, 10, this::load);
+        postResponseCache.getCategoryPage("STUDY", 1, 10, this::load);
+
+        // when
+        postResponseCache.evictCategory(CategoryType.FREE);
+        postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+        postResponseCache.getCategoryPage("ALL", 1, 10, this::load);
+        postResponseCache.getCategoryPage("STUDY", 1, 10, this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void concurrentMissesAreCoalesced() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> leader = executor.submit(() -> postResponseCache.getCategoryPage("FREE", 1, 10, () -> {
+            loading.countDown();
+            await(release);
+            return load();
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> postResponseCache.getCategoryPage("FREE", 1, 10, this::load));
+        awaitCoalesced(1);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(follower.get(5, TimeUnit.SECONDS));
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void expiredEntryIsServedWhileAnotherRequestReloads() throws Exception {
+        // given
+        String first = postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<String> refresher = executor.submit(() -> postResponseCache.getCategoryPage("FREE", 1, 10, () -> {
+            loading.countDown();
+            await(release);
+            return load();
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        String stale = postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+        release.countDown();
+        String refreshed = refresher.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(stale).isEqualTo(first);
+        assertThat(refreshed).isNotEqualTo(first);
+        assertThat(postResponseCache.getCategoryPage("FREE", 1, 10, this::load)).isEqualTo(refreshed);
+        assertThat(meterRegistry.counter("post.response.stale").count()).isEqualTo(1.0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void loadInterruptedByEvictionIsNotCached() throws Exception {
+        // when
+        postResponseCache.getCategoryPage("FREE", 1, 10, () -> {
+            postResponseCache.evictCategory(CategoryType.FREE);
+            return load();
+        });
+        postResponseCache.getCategoryPage("FREE", 1, 10, this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("post.response.coalesced").tag("cache", "postCategoryPageResponse")
+                .counter().count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String load() {
+        return "{\"load\":" + loads.incrementAndGet() + "}";
+    }
+}
@@ -7,10 +7,12 @@ import com.devillage.teamproject.exception.BusinessLogicException;
 import com.devillage.teamproject.exception.ExceptionCode;
 import com.devillage.teamproject.repository.category.CategoryRepository;
 import com.devillage.teamproject.repository.post.PostRepository;
+import com.devillage.teamproject.repository.post.PostSummaryRepository;
 import com.devillage.teamproject.repository.posttag.PostTagRepository;
-import com.devillage.teamproject.repository.tag.TagRepository;
 import com.devillage.teamproject.repository.user.UserRepository;
 import com.devillage.teamproject.service.file.FileService;
+import com.devillage.teamproject.service.summary.PostSummaryService;
+import com.devillage.teamproject.service.tag.TagService;
 import com.devillage.teamproject.service.user.UserService;
 import com.devillage.teamproject.util.Reflection;
 import org.junit.jupiter.api.DisplayName;
@@ -20,8 +22,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.core.parameters.P;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -30,9 +36,13 @@ import static com.devillage.teamproject.util.TestConstants.COMMENT_CONTENT;
 import static com.devillage.teamproject.util.TestConstants.ID1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class PostServiceTest implements Reflection {
@@ -50,12 +60,34 @@ public class PostServiceTest implements Reflection {
     private PostTagRepository postTagRepository;
 
     @Mock
-    private TagRepository tagRepository;
+    private TagService tagService;
 
     @Mock
     private UserService userService;
     @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PostSummaryService postSummaryService;
+    @Mock
+    private PostViewCounter postViewCounter;
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @Mock
+    private TrendingPostRanker trendingPostRanker;
+
+    @Mock
+    private PostSummaryRepository postSummaryRepository;
+
+    @Mock
+    private PostContentRenderer postContentRenderer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private PostServiceImpl postService;
@@ -90,8 +122,7 @@ public class PostServiceTest implements Reflection {
 
         given(userRepository.findById(Mockito.anyLong())).willReturn(Optional.of(user));
         given(categoryRepository.findCategoriesByCategoryType(Mockito.any(CategoryType.class))).willReturn(category);
-        given(postTagRepository.save(Mockito.any(PostTag.class))).willReturn(postTag);
-        given(tagRepository.save(Mockito.any(Tag.class))).willReturn(tag);
+        given(tagService.findOrCreateTags(Mockito.anyList())).willReturn(List.of(tag));
 
         //when
         Post savedPost = postService.savePost(post,post.getCategory().getCategoryType(),List.of(tag.getName()),user.getId());
@@ -100,6 +131,12 @@ public class PostServiceTest implements Reflection {
         assertThat(post.getTitle()).isEqualTo(savedPost.getTitle());
         assertThat(post.getCategory()).isEqualTo(savedPost.getCategory());
         assertThat(post.getContent()).isEqualTo(savedPost.getContent());
+        assertThat(savedPost.getTags()).hasSize(1);
+        assertThat(savedPost.getTags().get(0).getTag().getName()).isEqualTo(tag.getName());
+        verify(postTagRepository, times(1)).saveAll(Mockito.anyList());
+        verify(postSummaryService).refresh(savedPost, List.of(tag.getName()));
+        verify(tagService).addUsage(List.of(tag.getId()), CategoryType.NOTICE, 1L);
+        verify(postContentRenderer).render(savedPost.getBody());
     }
 
     @Test
@@ -126,10 +163,8 @@ public class PostServiceTest implements Reflection {
 
 
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(userRepository.findById(Mockito.anyLong())).willReturn(Optional.of(user));
         given(categoryRepository.findCategoriesByCategoryType(Mockito.any(CategoryType.class))).willReturn(category);
-        given(postTagRepository.save(Mockito.any(PostTag.class))).willReturn(postTag);
-        given(tagRepository.save(Mockito.any(Tag.class))).willReturn(tag);
+        given(tagService.findOrCreateTags(Mockito.anyList())).willReturn(List.of(tag));
 
         //when
         Post editedPost = postService.editPost(post,post.getCategory().getCategoryType(),List.of(tag.getName()),user.getId(),postId);
@@ -138,11 +173,16 @@ public class PostServiceTest implements Reflection {
         assertThat(post.getTitle()).isEqualTo(editedPost.getTitle());
         assertThat(post.getCategory()).isEqualTo(editedPost.getCategory());
         assertThat(post.getContent()).isEqualTo(editedPost.getContent());
+        assertThat(editedPost.getTags()).hasSize(1);
+        assertThat(editedPost.getTags().get(0).getTag()).isEqualTo(tag);
+        verify(tagService).addUsage(List.of(), CategoryType.NOTICE, -1L);
+        verify(tagService).addUsage(List.of(tag.getId()), CategoryType.NOTICE, 1L);
     }
 
     @Test
     public void userNotFound() {
         // given
+        givenTransaction();
         given(userService.findVerifiedUser(userId))
                 .willReturn(null);
 
@@ -158,6 +198,7 @@ public class PostServiceTest implements Reflection {
     @Test
     public void postNotFound() {
         // given
+        givenTransaction();
         given(postRepository.findById(postId))
                 .willReturn(Optional.empty());
 
@@ -187,7 +228,7 @@ public class PostServiceTest implements Reflection {
         setField(post, "category", category);
         setField(post, "title", "Mockito 관련 질문입니다.");
         setField(post, "tags", List.of(postTag));
-        setField(post, "content", "안녕하세요. 스트링 통째로 드가는게 맞나요");
+        setField(post, "body", PostContent.of("안녕하세요. 스트링 통째로 드가는게 맞나요"));
         setField(post, "clicks", 1L);
         setField(category, "categoryType", CategoryType.NOTICE);
         setField(postTag, "tag", tag);
@@ -199,10 +240,10 @@ public class PostServiceTest implements Reflection {
         setField(authorInfo, "authorName", "강지");
         post.setDate();
 
-        given(postRepository.findById(post.getId())).willReturn(Optional.ofNullable(post));
+        given(postRepository.findDetailById(post.getId())).willReturn(Optional.ofNullable(post));
 
         //when
-        Post testPost = postService.getPost(user.getId());
+        Post testPost = postService.getPost(post.getId());
 
         //then
         assertEquals(testPost.getContent(),post.getContent());
@@ -212,6 +253,15 @@ public class PostServiceTest implements Reflection {
 
     }
 
+    @Test
+    public void countView() throws Exception{
+        //when
+        postService.countView(postId);
+
+        //then
+        verify(postViewCounter).increment(postId);
+    }
+
     @Test
     public void deletePost() throws Exception{
         //given
@@ -228,4 +278,50 @@ public class PostServiceTest implements Reflection {
 
     }
 
+    @Test
+    public void updateRelatedPosts() throws Exception {
+        //given
+        PostSummary related = newInstance(PostSummary.class);
+        setField(related, "postId", 2L);
+        setField(related, "title", "related title");
+        setField(post, "id", postId);
+        List<RelatedPost> relatedPosts = List.of(new RelatedPost(2L, "related title"));
+
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postSummaryRepository.findAllById(List.of(2L, 3L))).willReturn(List.of(related));
+
+        //when
+        postService.updateRelatedPosts(postId, List.of(2L, 3L));
+        setField(post, "relatedPosts", relatedPosts);
+        postService.updateRelatedPosts(postId, List.of(2L, 3L));
+
+        //then
+        // 목록이 바뀌지 않았으면 다시 저장하지 않는다.
+        verify(postRepository, times(1)).updateRelatedPosts(postId, relatedPosts);
+        verify(postResponseCache, times(1)).evictPost(postId);
+    }
+
+    @Test
+    public void addAndReconcileCommentCount() throws Exception {
+        //given
+        List<Long> postIds = List.of(1L, 2L);
+        given(postRepository.findIdsAfter(any(), any())).willReturn(postIds);
+
+        //when
+        postService.addCommentCount(postId, -2L);
+        Long lastId = postService.reconcileCommentCounts(0L, 2);
+
+        //then
+        verify(postRepository).addCommentCount(eq(postId), eq(-2L), any(LocalDateTime.class));
+        verify(postSummaryService).addCommentCount(postId, -2L);
+        verify(postResponseCache).evictPost(postId);
+        assertThat(lastId).isEqualTo(2L);
+        verify(postRepository).reconcileCommentCounts(postIds);
+        verify(postSummaryService).reconcileCommentCounts(postIds);
+    }
+
+    private void givenTransaction() {
+        given(transactionTemplate.execute(Mockito.any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Post>>getArgument(0).doInTransaction(null));
+    }
 }
@@ -0,0 +1,132 @@
+package com.devillage.teamproject.service.post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flushSendsOneBatchedUpdatePerTable() throws Exception {
+        // given
+        int threads = 8;
+        int viewsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    postViewCounter.increment(1L);
+                    postViewCounter.increment(2L);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // when
+        int pending = postViewCounter.pendingSize();
+        postViewCounter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("update post "), captor.capture());
+        verify(jdbcTemplate).batchUpdate(contains("update post_summary "), anyList());
+        assertThat(pending).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(args -> args[0])
+                .containsOnly((long) threads * viewsPerThread);
+        assertThat(postViewCounter.pendingSize()).isZero();
+    }
+
+    @Test
+    public void emptyFlushDoesNotTouchDatabase() throws Exception {
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void failedFlushKeepsDeltasForNextFlush() throws Exception {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"))
+                .willReturn(new int[]{1});
+
+        // when
+        postViewCounter.flush();
+        int pendingAfterFailure = postViewCounter.pendingSize();
+        postViewCounter.flush();
+
+        // then
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        assertThat(postViewCounter.pendingSize()).isZero();
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("update post "), anyList());
+    }
+
+    @Test
+    public void summaryFailureRollsBackPostUpdate() throws Exception {
+        // given
+        postViewCounter.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willAnswer(invocation -> {
+                    if (invocation.<String>getArgument(0).contains("update post_summary ")) {
+                        throw new DataAccessResourceFailureException("down");
+                    }
+                    return new int[]{1};
+                });
+
+        // when
+        postViewCounter.flush();
+        int pendingAfterFailure = postViewCounter.pendingSize();
+
+        // then
+        // post 반영도 같이 롤백되므로 다시 쌓은 조회수가 다음 flush 에서 두 번 더해지지 않는다.
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
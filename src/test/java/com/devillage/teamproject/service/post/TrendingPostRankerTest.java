@@ -0,0 +1,204 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingPostRankerTest {
+    private static final int PORT = 6391;
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private MutableClock clock;
+    private TrendingPostRanker trendingPostRanker;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory()).getConnection().flushAll();
+        clock = new MutableClock();
+        trendingPostRanker = new TrendingPostRanker(redisTemplate, clock, HALF_LIFE, 2, "node-1");
+    }
+
+    @Test
+    public void recentActivityOutranksDecayedActivity() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            trendingPostRanker.recordLike(1L, CategoryType.FREE, 1L);
+        }
+        clock.advance(HALF_LIFE.multipliedBy(2));
+        trendingPostRanker.recordComment(2L, CategoryType.FREE);
+
+        // when
+        trendingPostRanker.refresh();
+
+        // then
+        assertThat(trendingPostRanker.top(CategoryType.FREE, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void rankingIsKeptPerCategoryAndBoundedByCapacity() throws Exception {
+        // given
+        trendingPostRanker.recordComment(1L, CategoryType.FREE);
+        trendingPostRanker.recordLike(2L, CategoryType.QNA, 1L);
+        trendingPostRanker.recordView(3L, CategoryType.QNA);
+
+        // when
+        trendingPostRanker.refresh();
+
+        // then
+        assertThat(trendingPostRanker.top(CategoryType.ALL, 10)).containsExactly(1L, 2L);
+        assertThat(trendingPostRanker.top(CategoryType.QNA, 10)).containsExactly(2L, 3L);
+        assertThat(trendingPostRanker.top(CategoryType.FREE, 10)).containsExactly(1L);
+        assertThat(trendingPostRanker.top(CategoryType.QNA, 1)).containsExactly(2L);
+    }
+
+    @Test
+    public void unlikeAndDeleteRemoveScore() throws Exception {
+        // given
+        trendingPostRanker.recordLike(1L, CategoryType.FREE, 1L);
+        trendingPostRanker.recordLike(1L, CategoryType.FREE, -1L);
+        trendingPostRanker.recordComment(2L, CategoryType.FREE);
+        trendingPostRanker.remove(2L);
+
+        // when
+        trendingPostRanker.refresh();
+
+        // then
+        assertThat(trendingPostRanker.top(CategoryType.ALL, 10)).isEmpty();
+    }
+
+    @Test
+    public void checkpointIsRestoredWithElapsedDecay() throws Exception {
+        // given
+        trendingPostRanker.recordComment(1L, CategoryType.FREE);
+        trendingPostRanker.recordView(2L, CategoryType.QNA);
+        trendingPostRanker.checkpoint();
+
+        // when
+        clock.advance(HALF_LIFE.dividedBy(2));
+        TrendingPostRanker restored = new TrendingPostRanker(redisTemplate, clock, HALF_LIFE, 2, "node-1");
+        restored.restore();
+        restored.refresh();
+
+        // then
+        assertThat(restored.top(CategoryType.FREE, 10)).containsExactly(1L);
+        // 조회 1회(1.0)는 반감기의 절반이 지나 약 0.71 이므로 아직 정리 대상이 아니다.
+        assertThat(restored.top(CategoryType.ALL, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void checkpointsOfAllNodesAreMergedWithoutDoubleCounting() throws Exception {
+        // given
+        TrendingPostRanker otherNode = new TrendingPostRanker(redisTemplate, clock, HALF_LIFE, 2, "node-2");
+        trendingPostRanker.recordView(1L, CategoryType.FREE);
+        otherNode.recordComment(2L, CategoryType.QNA);
+        trendingPostRanker.checkpoint();
+        otherNode.checkpoint();
+
+        // when
+        TrendingPostRanker restarted = new TrendingPostRanker(redisTemplate, clock, HALF_LIFE, 2, "node-1");
+        restarted.restore();
+        restarted.refresh();
+        restarted.checkpoint();
+
+        // then
+        assertThat(restarted.top(CategoryType.ALL, 10)).containsExactly(2L, 1L);
+        // 다른 노드에서 복원한 점수는 이 노드의 체크포인트에 다시 쓰지 않는다.
+        assertThat(redisTemplate.opsForHash().keys("post:trending:node:node-1")).containsOnly("1", "at");
+        assertThat(redisTemplate.opsForHash().keys("post:trending:node:node-2")).containsOnly("2", "at");
+    }
+
+    @Test
+    public void scoresInTransactionAreAddedAfterCommit() throws Exception {
+        // given
+        List<TransactionSynchronization> committed;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            trendingPostRanker.recordComment(1L, CategoryType.FREE);
+            committed = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // 롤백되어 afterCommit 이 불리지 않는 트랜잭션
+            trendingPostRanker.recordLike(2L, CategoryType.FREE, 1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when
+        trendingPostRanker.refresh();
+        List<Long> beforeCommit = trendingPostRanker.top(CategoryType.ALL, 10);
+        committed.forEach(TransactionSynchronization::afterCommit);
+        trendingPostRanker.refresh();
+
+        // then
+        assertThat(beforeCommit).isEmpty();
+        assertThat(trendingPostRanker.top(CategoryType.ALL, 10)).containsExactly(1L);
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2022-09-01T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
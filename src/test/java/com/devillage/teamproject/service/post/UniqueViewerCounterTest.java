@@ -0,0 +1,100 @@
+package com.devillage.teamproject.service.post;
+
+import com.devillage.teamproject.dto.AuthDto;
+import com.devillage.teamproject.dto.PostDto;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import redis.embedded.RedisServer;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class UniqueViewerCounterTest {
+    private static final int PORT = 6390;
+    // HyperLogLog dense 표현의 최대 크기
+    private static final long MAX_HLL_BYTES = 12304;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory()).getConnection().flushAll();
+        uniqueViewerCounter = new UniqueViewerCounter(redisTemplate);
+    }
+
+    @Test
+    public void repeatedViewsOfSameViewerAreCountedOnce() throws Exception {
+        // when
+        uniqueViewerCounter.record(1L, CategoryType.FREE, "user:1");
+        uniqueViewerCounter.record(1L, CategoryType.FREE, "user:1");
+        uniqueViewerCounter.record(2L, CategoryType.FREE, "user:1");
+        PostDto.Response.ViewerCount count = uniqueViewerCounter.record(1L, CategoryType.FREE, "user:2");
+
+        // then
+        assertThat(count.getUniqueViewers()).isEqualTo(2L);
+        assertThat(count.getTodayViewers()).isEqualTo(2L);
+        assertThat(count.getCategoryTodayViewers()).isEqualTo(2L);
+    }
+
+    @Test
+    public void memoryStaysBoundedForManyViewers() throws Exception {
+        // given
+        int viewers = 5_000;
+
+        // when
+        PostDto.Response.ViewerCount count = null;
+        for (int i = 0; i < viewers; i++) {
+            count = uniqueViewerCounter.record(1L, CategoryType.QNA, "user:" + i);
+        }
+
+        // then
+        assertThat(count.getUniqueViewers().doubleValue()).isCloseTo(viewers, within(viewers * 0.03));
+        assertThat(redisTemplate.opsForValue().size("post:viewers:1")).isLessThanOrEqualTo(MAX_HLL_BYTES);
+    }
+
+    @Test
+    public void viewerOf() throws Exception {
+        // given
+        AuthDto.UserInfo userInfo = AuthDto.UserInfo.builder().id(7L).build();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("User-Agent", "Mozilla/5.0");
+        MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+        otherRequest.setRemoteAddr("10.0.0.2");
+        otherRequest.addHeader("User-Agent", "Mozilla/5.0");
+
+        // when then
+        assertThat(UniqueViewerCounter.viewerOf(userInfo, request)).isEqualTo("user:7");
+        assertThat(UniqueViewerCounter.viewerOf(null, request))
+                .startsWith("anon:")
+                .isEqualTo(UniqueViewerCounter.viewerOf(null, request))
+                .isNotEqualTo(UniqueViewerCounter.viewerOf(null, otherRequest));
+    }
+}
@@ -0,0 +1,101 @@
+package com.devillage.teamproject.service.reconcile;
+
+import com.devillage.teamproject.service.post.PostService;
+import com.devillage.teamproject.service.tag.TagService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CountReconcilerTest {
+    private static final int PORT = 6392;
+    private static final String LIKE_LOCK_KEY = "reconcile:lock:post-like-counts";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private PostService postService;
+
+    private CountReconciler countReconciler;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory()).getConnection().flushAll();
+        countReconciler = new CountReconciler(tagService, postService, redisTemplate, 30);
+    }
+
+    @Test
+    public void reconcileAllBatchesAndReleaseLock() throws Exception {
+        // given
+        given(postService.reconcileLikeCounts(0L, 500)).willReturn(500L);
+        given(postService.reconcileLikeCounts(500L, 500)).willReturn(null);
+
+        // when
+        countReconciler.reconcileLikeCounts();
+
+        // then
+        verify(postService).reconcileLikeCounts(500L, 500);
+        assertThat(redisTemplate.hasKey(LIKE_LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    public void skipWhileAnotherNodeHoldsLock() throws Exception {
+        // given
+        redisTemplate.opsForValue().set(LIKE_LOCK_KEY, "other-node");
+
+        // when
+        countReconciler.reconcileLikeCounts();
+
+        // then
+        verify(postService, never()).reconcileLikeCounts(0L, 500);
+        assertThat(redisTemplate.opsForValue().get(LIKE_LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    @Test
+    public void releaseLockWhenReconcileFails() throws Exception {
+        // given
+        given(postService.reconcileCommentCounts(0L, 500)).willThrow(new IllegalStateException());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> countReconciler.reconcileCommentCounts());
+
+        // then
+        // 실패해도 잠금을 풀어 다음 스케줄에 다른 서버가 보정할 수 있다.
+        assertThat(redisTemplate.hasKey("reconcile:lock:post-comment-counts")).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package com.devillage.teamproject.service.related;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedPostIndexTest {
+
+    private RelatedPostIndex relatedPostIndex;
+
+    @BeforeEach
+    void setUp() {
+        relatedPostIndex = new RelatedPostIndex();
+        relatedPostIndex.index(1L, List.of("spring", "jpa"), "JPA 지연 로딩 질문",
+                "스프링 JPA 에서 지연 로딩으로 연관관계를 조회하면 LazyInitializationException 이 발생합니다.");
+        relatedPostIndex.index(2L, List.of("spring", "jpa"), "JPA 지연 로딩 오류",
+                "스프링 JPA 지연 로딩 연관관계 조회 중 LazyInitializationException 이 발생했습니다.");
+        relatedPostIndex.index(3L, List.of("react"), "리액트 상태 관리",
+                "리덕스와 컨텍스트 중 무엇을 써야 할까요?");
+        relatedPostIndex.index(4L, List.of(), "", "");
+    }
+
+    @Test
+    void relatedBySimilarity() {
+        // when
+        List<Long> related = relatedPostIndex.related(1L, 5);
+
+        // then
+        assertThat(related).containsExactly(2L);
+        assertThat(relatedPostIndex.related(2L, 5)).containsExactly(1L);
+        assertThat(relatedPostIndex.related(3L, 5)).isEmpty();
+        // 태그도 본문도 없는 글은 어떤 글과도 같은 버킷에 들어가지 않는다.
+        assertThat(relatedPostIndex.related(4L, 5)).isEmpty();
+        assertThat(relatedPostIndex.related(100L, 5)).isEmpty();
+    }
+
+    @Test
+    void reindexAndDelete() {
+        // when
+        relatedPostIndex.index(3L, List.of("spring", "jpa"), "JPA 지연 로딩",
+                "JPA 지연 로딩 LazyInitializationException");
+        relatedPostIndex.delete(2L);
+
+        // then
+        assertThat(relatedPostIndex.related(1L, 5)).containsExactly(3L);
+        assertThat(relatedPostIndex.related(2L, 5)).isEmpty();
+        assertThat(relatedPostIndex.isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.devillage.teamproject.service.search;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.devillage.teamproject.util.TestConstants.TAGNAME1;
+import static com.devillage.teamproject.util.TestConstants.TAGNAME2;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        postSearchIndex = new PostSearchIndex(indexPath.toString());
+        postSearchIndex.index(1L, "Spring 질문", "JPA 연관관계 질문입니다.", List.of(TAGNAME2));
+        postSearchIndex.index(2L, "자바 스트림", "Spring 에서 stream 사용법", List.of(TAGNAME1));
+        postSearchIndex.index(3L, "오늘의 일기", "점심 메뉴", List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        postSearchIndex.close();
+    }
+
+    @Test
+    void searchOrdersByRelevance() {
+        // when
+        Page<Long> posts = postSearchIndex.search("spring", PageRequest.of(0, 10));
+
+        // then
+        assertThat(posts.getTotalElements()).isEqualTo(2L);
+        assertThat(posts.getContent()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void searchPaging() {
+        // when
+        Page<Long> firstPage = postSearchIndex.search("spring", PageRequest.of(0, 1));
+        Page<Long> secondPage = postSearchIndex.search("spring", PageRequest.of(1, 1));
+
+        // then
+        assertThat(firstPage.getContent()).containsExactly(1L);
+        assertThat(secondPage.getContent()).containsExactly(2L);
+        assertThat(secondPage.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void updateAndDelete() {
+        // when
+        postSearchIndex.index(3L, "Spring 일기", "점심 메뉴", List.of());
+        postSearchIndex.delete(1L);
+
+        // then
+        assertThat(postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent())
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(postSearchIndex.search("연관관계", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(postSearchIndex.search(" ", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    void commitPendingChanges() throws Exception {
+        // when
+        postSearchIndex.commit();
+
+        // then
+        try (Directory directory = FSDirectory.open(indexPath);
+             DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertThat(reader.numDocs()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void rebuildKeepsServingCurrentIndex() throws Exception {
+        // given
+        PostSearchIndex.Rebuild rebuild = postSearchIndex.rebuild();
+        rebuild.addAll(List.of(postSearchIndex.toDocument(1L, "Spring 질문", "JPA 연관관계 질문입니다.", List.of()),
+                postSearchIndex.toDocument(4L, "Spring 배치", "", List.of())));
+
+        // when
+        List<Long> beforeSwap = postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent();
+        postSearchIndex.index(2L, "자바 스트림", "", List.of());
+        rebuild.swap();
+        List<Long> afterSwap = postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent();
+        Set<Long> changed = rebuild.drainChanged();
+        Set<Long> changedAfterDrain = rebuild.drainChanged();
+        rebuild.close();
+
+        // then
+        assertThat(beforeSwap).containsExactly(1L, 2L);
+        assertThat(afterSwap).containsExactlyInAnyOrder(1L, 4L);
+        // 재색인하는 동안 바뀐 글은 호출한 쪽이 다시 색인하도록 돌려준다.
+        assertThat(changed).containsExactly(2L);
+        assertThat(changedAfterDrain).isEmpty();
+        try (Stream<Path> siblings = Files.list(indexPath.getParent())) {
+            assertThat(siblings.map(path -> path.getFileName().toString()))
+                    .noneMatch(name -> name.startsWith(indexPath.getFileName() + "-rebuild"));
+        }
+    }
+
+    @Test
+    void reopenAfterClose() throws Exception {
+        // given
+        postSearchIndex.close();
+
+        // when
+        postSearchIndex = new PostSearchIndex(indexPath.toString());
+        PostSearchIndex inMemoryIndex = new PostSearchIndex("");
+        inMemoryIndex.index(1L, "Spring 질문", "", List.of());
+
+        // then
+        assertThat(postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent()).containsExactly(1L, 2L);
+        assertThat(inMemoryIndex.search("spring", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        inMemoryIndex.close();
+    }
+}
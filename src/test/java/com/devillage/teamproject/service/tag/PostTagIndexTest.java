@@ -0,0 +1,94 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.enums.CategoryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTagIndexTest {
+
+    PostTagIndex postTagIndex;
+
+    @BeforeEach
+    void setUp() {
+        postTagIndex = new PostTagIndex();
+        postTagIndex.index(1L, CategoryType.QNA, List.of("spring", "jpa"));
+        postTagIndex.index(2L, CategoryType.QNA, List.of("spring", "jpa", "querydsl"));
+        postTagIndex.index(3L, CategoryType.FREE, List.of("spring", "jpa", "querydsl"));
+        postTagIndex.index(4L, CategoryType.QNA, List.of("java"));
+    }
+
+    @Test
+    void andOrNot() {
+        // when
+        List<Long> and = search(List.of("spring", "jpa", "querydsl"), List.of(), List.of(), CategoryType.ALL);
+        List<Long> or = search(List.of(), List.of("querydsl", "java"), List.of(), CategoryType.ALL);
+        List<Long> not = search(List.of("spring"), List.of(), List.of("querydsl"), CategoryType.ALL);
+        List<Long> unknownTag = search(List.of("spring", "kotlin"), List.of(), List.of(), CategoryType.ALL);
+
+        // then
+        assertThat(and).containsExactly(3L, 2L);
+        assertThat(or).containsExactly(4L, 3L, 2L);
+        assertThat(not).containsExactly(1L);
+        assertThat(unknownTag).isEmpty();
+    }
+
+    @Test
+    void filterByCategory() {
+        // when
+        List<Long> qna = search(List.of("spring"), List.of(), List.of(), CategoryType.QNA);
+        List<Long> allQna = search(List.of(), List.of(), List.of(), CategoryType.QNA);
+
+        // then
+        assertThat(qna).containsExactly(2L, 1L);
+        assertThat(allQna).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    void cursorPaging() {
+        // when
+        Slice<Long> firstPage = postTagIndex.search(List.of("spring"), List.of(), List.of(), CategoryType.ALL, null, 2);
+        Slice<Long> secondPage = postTagIndex.search(List.of("spring"), List.of(), List.of(), CategoryType.ALL,
+                firstPage.getContent().get(1), 2);
+
+        // then
+        assertThat(firstPage.getContent()).containsExactly(3L, 2L);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).containsExactly(1L);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void updateAndDelete() {
+        // when
+        postTagIndex.index(3L, CategoryType.QNA, List.of("java"));
+        postTagIndex.delete(2L);
+
+        // then
+        assertThat(search(List.of("querydsl"), List.of(), List.of(), CategoryType.ALL)).isEmpty();
+        assertThat(search(List.of("java"), List.of(), List.of(), CategoryType.QNA)).containsExactly(4L, 3L);
+        assertThat(search(List.of(), List.of(), List.of(), CategoryType.FREE)).isEmpty();
+    }
+
+    @Test
+    void ignoreTagNameCaseAndOversizedPage() {
+        // given
+        postTagIndex.index(5L, CategoryType.FREE, List.of("Kotlin"));
+
+        // when
+        Slice<Long> posts = postTagIndex.search(List.of("KOTLIN"), List.of(), List.of(), CategoryType.ALL, null,
+                Integer.MAX_VALUE);
+
+        // then
+        assertThat(posts.getContent()).containsExactly(5L);
+        assertThat(posts.hasNext()).isFalse();
+    }
+
+    private List<Long> search(List<String> allOf, List<String> anyOf, List<String> noneOf, CategoryType categoryType) {
+        return postTagIndex.search(allOf, anyOf, noneOf, categoryType, null, 10).getContent();
+    }
+}
@@ -0,0 +1,86 @@
+package com.devillage.teamproject.service.tag;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagSchemaMigratorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TagSchemaMigrator tagSchemaMigrator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:tag-schema-migrator;DB_CLOSE_DELAY=-1", "sa", ""));
+        tagSchemaMigrator = new TagSchemaMigrator(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    void skipFreshSchema() {
+        // when
+        tagSchemaMigrator.migrate();
+
+        // then
+        assertThat(tagSchemaMigrator.tableExists("tag")).isFalse();
+        assertThat(tagSchemaMigrator.tableExists("tag_seq")).isFalse();
+    }
+
+    @Test
+    void mergeTagsDifferingOnlyInCase() {
+        // given
+        jdbcTemplate.execute("create table tag (tag_id bigint primary key, name varchar(255))");
+        jdbcTemplate.execute("create table post_tag (post_tag_id bigint primary key, post_id bigint, tag_id bigint)");
+        jdbcTemplate.execute("create table tag_count (tag_count_id bigint primary key, tag_id bigint, "
+                + "tag_name varchar(255), category_type varchar(255), usage_count bigint)");
+        jdbcTemplate.execute("insert into tag values (1, 'Java'), (2, 'java'), (3, ' JAVA '), (4, 'Spring'), (5, 'jpa')");
+        jdbcTemplate.execute("insert into post_tag values (10, 1, 1), (11, 1, 2), (12, 2, 3), (13, 3, 4), (14, 3, 5)");
+        jdbcTemplate.execute("insert into tag_count values (20, 1, 'Java', 'ALL', 1), (21, 2, 'java', 'ALL', 1), "
+                + "(22, 4, 'Spring', 'ALL', 1), (23, 5, 'jpa', 'ALL', 1)");
+
+        // when
+        tagSchemaMigrator.migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select name from tag order by tag_id", String.class))
+                .containsExactly("java", "spring", "jpa");
+        // 두 태그가 모두 달려 있던 게시글 1 은 연결이 하나만 남는다.
+        assertThat(jdbcTemplate.queryForList("select post_id || ':' || tag_id from post_tag order by post_id, tag_id",
+                String.class)).containsExactly("1:1", "2:1", "3:4", "3:5");
+        // 합친 태그의 사용 횟수는 기동 시 다시 만들도록 지운다.
+        assertThat(jdbcTemplate.queryForList("select tag_id || ':' || tag_name from tag_count order by tag_id",
+                String.class)).containsExactly("4:spring", "5:jpa");
+    }
+
+    @Test
+    void seedSequenceTablesAboveExistingIds() {
+        // given
+        // IDENTITY 로 쌓인 행과, ddl-auto 가 1 로 만든 시퀀스 테이블
+        jdbcTemplate.execute("create table tag (tag_id bigint primary key, name varchar(255))");
+        jdbcTemplate.execute("create table post_tag (post_tag_id bigint primary key, post_id bigint, tag_id bigint)");
+        jdbcTemplate.execute("insert into tag values (3, 'java'), (7, 'spring')");
+        jdbcTemplate.execute("insert into post_tag values (120, 1, 3)");
+        jdbcTemplate.execute("create table tag_seq (next_val bigint)");
+        jdbcTemplate.execute("insert into tag_seq values (1)");
+        jdbcTemplate.execute("create table post_tag_seq (next_val bigint)");
+        jdbcTemplate.execute("insert into post_tag_seq values (500)");
+
+        // when
+        tagSchemaMigrator.migrate();
+        tagSchemaMigrator.migrate();
+
+        // then
+        // pooled 최적화가 읽은 값에서 49 를 뺀 값부터 나눠 주므로 첫 id 는 최대 id 다음이 된다.
+        assertThat(jdbcTemplate.queryForObject("select next_val from tag_seq", Long.class)).isEqualTo(57L);
+        assertThat(jdbcTemplate.queryForObject("select next_val from post_tag_seq", Long.class)).isEqualTo(500L);
+    }
+}
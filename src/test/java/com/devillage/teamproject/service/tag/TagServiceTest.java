@@ -0,0 +1,234 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.TagCount;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.exception.BusinessLogicException;
+import com.devillage.teamproject.repository.tag.TagCountRepository;
+import com.devillage.teamproject.repository.tag.TagRepository;
+import com.devillage.teamproject.repository.tag.TagUsage;
+import com.devillage.teamproject.util.Reflection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static com.devillage.teamproject.util.TestConstants.TAGNAME1;
+import static com.devillage.teamproject.util.TestConstants.TAGNAME2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest implements Reflection {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagCountRepository tagCountRepository;
+
+    @Mock
+    private TagSuggester tagSuggester;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TagDictionary tagDictionary;
+    private TagServiceImpl tagService;
+
+    @BeforeEach
+    void setUp() {
+        tagDictionary = new TagDictionary(100, new SimpleMeterRegistry());
+        tagService = new TagServiceImpl(tagRepository, tagCountRepository, tagDictionary, tagSuggester,
+                transactionManager);
+    }
+
+    @Test
+    void findOrCreateTags() throws Exception {
+        // given
+        Tag existTag = newInstance(Tag.class);
+        setField(existTag, "id", 1L);
+        setField(existTag, "name", TAGNAME1);
+
+        given(tagRepository.findAllByNameIn(Mockito.anyCollection()))
+                .willReturn(List.of(existTag));
+        given(tagRepository.saveAll(Mockito.anyList()))
+                .willAnswer(invocation -> {
+                    List<Tag> tags = invocation.getArgument(0);
+                    for (Tag tag : tags) {
+                        setField(tag, "id", 2L);
+                    }
+                    return tags;
+                });
+        given(tagRepository.getReferenceById(1L)).willReturn(existTag);
+
+        // when
+        List<Tag> tags = tagService.findOrCreateTags(List.of(TAGNAME1, TAGNAME2, TAGNAME1));
+        List<Tag> cachedTags = tagService.findOrCreateTags(List.of(TAGNAME1));
+
+        // then
+        assertThat(tags).extracting(Tag::getName).containsExactly(TAGNAME1, TAGNAME2);
+        assertThat(cachedTags).containsExactly(existTag);
+        assertThat(tagDictionary.find(TAGNAME2)).contains(2L);
+        assertThat(tagDictionary.stats().hitCount()).isEqualTo(1L);
+        verify(tagRepository, times(1)).findAllByNameIn(Mockito.anyCollection());
+        verify(tagRepository, times(1)).saveAll(Mockito.anyList());
+        verify(tagSuggester, times(1)).addAfterCommit(Mockito.anyList());
+        verify(tagCountRepository, times(1)).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void findOrCreateTagsIgnoringCase() throws Exception {
+        // given
+        // MySQL 기본 collation 처럼 대소문자만 다른 이름으로 저장된 태그를 돌려준다.
+        Tag storedTag = newInstance(Tag.class);
+        setField(storedTag, "id", 1L);
+        setField(storedTag, "name", "Java");
+
+        given(tagRepository.findAllByNameIn(Mockito.anyCollection()))
+                .willReturn(List.of(storedTag));
+        given(tagRepository.saveAll(Mockito.anyList()))
+                .willAnswer(invocation -> {
+                    List<Tag> tags = invocation.getArgument(0);
+                    for (Tag tag : tags) {
+                        setField(tag, "id", 2L);
+                    }
+                    return tags;
+                });
+
+        // when
+        List<Tag> tags = tagService.findOrCreateTags(List.of(" JAVA ", "java", "Spring", "  "));
+
+        // then
+        assertThat(tags).extracting(Tag::getName).containsExactly("Java", "spring");
+        assertThat(tags.get(0)).isSameAs(storedTag);
+        assertThat(tagDictionary.find("JAVA")).contains(1L);
+        assertThat(tagDictionary.find("SPRING")).contains(2L);
+        verify(tagRepository).findAllByNameIn(List.of("java", "spring"));
+        verify(tagRepository).saveAll(Mockito.argThat((List<Tag> created) ->
+                created.size() == 1 && created.get(0).getName().equals("spring")));
+    }
+
+    @Test
+    void findOrCreateTagsCreatedConcurrently() throws Exception {
+        // given
+        // 다른 요청이 같은 태그를 먼저 만들어 첫 시도는 이름 유니크 제약에 걸린다.
+        Tag concurrentTag = newInstance(Tag.class);
+        setField(concurrentTag, "id", 1L);
+        setField(concurrentTag, "name", TAGNAME1);
+
+        given(tagRepository.findAllByNameIn(Mockito.anyCollection()))
+                .willReturn(List.of(), List.of(concurrentTag));
+        given(tagRepository.saveAll(Mockito.anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new DataIntegrityViolationException("Duplicate entry for key 'tag.uk_tag_name'"))
+                .willDoNothing()
+                .given(tagRepository).flush();
+
+        // when
+        List<Tag> tags = tagService.findOrCreateTags(List.of(TAGNAME1));
+
+        // then
+        assertThat(tags).containsExactly(concurrentTag);
+        assertThat(tagDictionary.find(TAGNAME1)).contains(1L);
+        verify(tagRepository, times(2)).findAllByNameIn(List.of(Tag.normalizeName(TAGNAME1)));
+        verify(tagSuggester, times(1)).addAfterCommit(List.of());
+    }
+
+    @Test
+    void findOrCreateTagsRethrowsOtherViolations() throws Exception {
+        // given
+        given(tagRepository.findAllByNameIn(Mockito.anyCollection())).willReturn(List.of());
+        given(tagRepository.saveAll(Mockito.anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new DataIntegrityViolationException("NULL not allowed for column \"CREATED_AT\""))
+                .given(tagRepository).flush();
+
+        // when / then
+        assertThrows(DataIntegrityViolationException.class, () -> tagService.findOrCreateTags(List.of(TAGNAME1)));
+        verify(tagRepository, times(1)).findAllByNameIn(Mockito.anyCollection());
+    }
+
+    @Test
+    void findVerifiedTag() throws Exception {
+        // given
+        Tag tag = newInstance(Tag.class);
+        setField(tag, "id", 1L);
+        setField(tag, "name", TAGNAME1);
+
+        given(tagRepository.findTagByName(TAGNAME1)).willReturn(Optional.of(tag));
+        given(tagRepository.findTagByName(TAGNAME2)).willReturn(Optional.empty());
+        given(tagRepository.getReferenceById(1L)).willReturn(tag);
+
+        // when
+        Tag findTag = tagService.findVerifiedTag(TAGNAME1);
+        Tag cachedTag = tagService.findVerifiedTag(TAGNAME1);
+
+        // then
+        assertThat(findTag).isEqualTo(tag);
+        assertThat(cachedTag).isEqualTo(tag);
+        verify(tagRepository, times(1)).findTagByName(TAGNAME1);
+        assertThrows(BusinessLogicException.class, () -> tagService.findVerifiedTag(TAGNAME2));
+    }
+
+    @Test
+    void addUsage() throws Exception {
+        // when
+        tagService.addUsage(List.of(1L, 2L), CategoryType.QNA, 1L);
+        tagService.addUsage(List.of(), CategoryType.QNA, 1L);
+        tagService.addUsage(List.of(1L), null, -1L);
+
+        // then
+        verify(tagCountRepository, times(1)).addUsageCounts(Mockito.anyCollection(), Mockito.anyCollection(), Mockito.anyLong());
+        verify(tagCountRepository).addUsageCounts(List.of(1L, 2L), EnumSet.of(CategoryType.QNA, CategoryType.ALL), 1L);
+    }
+
+    @Test
+    void getPopularTags() throws Exception {
+        // given
+        TagUsage usage = Mockito.mock(TagUsage.class);
+        given(tagCountRepository.findPopular(CategoryType.STUDY, PageRequest.of(0, 5))).willReturn(List.of(usage));
+
+        // when
+        List<TagUsage> popularTags = tagService.getPopularTags("study", 5);
+
+        // then
+        assertThat(popularTags).containsExactly(usage);
+        assertThrows(BusinessLogicException.class, () -> tagService.getPopularTags("CATEGORY", 5));
+    }
+
+    @Test
+    void createMissingUsageCounts() throws Exception {
+        // given
+        Tag tag = new Tag(TAGNAME1);
+        setField(tag, "id", 3L);
+        given(tagRepository.findIdsWithoutCountAfter(0L, PageRequest.of(0, 10))).willReturn(List.of(3L));
+        given(tagRepository.findAllById(List.of(3L))).willReturn(List.of(tag));
+        given(tagRepository.findIdsWithoutCountAfter(3L, PageRequest.of(0, 10))).willReturn(List.of());
+
+        // when
+        Long lastId = tagService.createMissingUsageCounts(0L, 10);
+        Long end = tagService.createMissingUsageCounts(lastId, 10);
+
+        // then
+        assertThat(lastId).isEqualTo(3L);
+        assertThat(end).isNull();
+        verify(tagCountRepository).saveAll(Mockito.argThat((List<TagCount> counts) ->
+                counts.size() == CategoryType.values().length));
+        verify(tagCountRepository).reconcileUsageCounts(List.of(3L), CategoryType.ALL);
+    }
+}
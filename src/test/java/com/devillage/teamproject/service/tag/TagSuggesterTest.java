@@ -0,0 +1,97 @@
+package com.devillage.teamproject.service.tag;
+
+import com.devillage.teamproject.entity.Tag;
+import com.devillage.teamproject.entity.enums.CategoryType;
+import com.devillage.teamproject.repository.tag.TagCountRepository;
+import com.devillage.teamproject.repository.tag.TagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TagSuggesterTest {
+
+    @Mock
+    private TagCountRepository tagCountRepository;
+
+    private TagSuggester tagSuggester;
+
+    @BeforeEach
+    void setUp() {
+        tagSuggester = new TagSuggester(tagCountRepository, 3);
+        given(tagCountRepository.findUsagesByCategoryType(CategoryType.ALL)).willReturn(List.of(
+                usage("Java", 10L),
+                usage("JavaScript", 30L),
+                usage("jpa", 20L),
+                usage("jquery", 1L),
+                usage("자바", 5L),
+                usage("자바스크립트", 7L),
+                usage("장고", 2L)));
+        tagSuggester.rebuild();
+    }
+
+    @Test
+    void suggestByUsage() {
+        // when
+        List<TagSuggestion> suggestions = tagSuggester.suggest("J", 10);
+        List<TagSuggestion> javaSuggestions = tagSuggester.suggest("jav", 10);
+        List<TagSuggestion> limited = tagSuggester.suggest("java", 1);
+
+        // then
+        assertThat(suggestions).extracting(TagSuggestion::getName).containsExactly("JavaScript", "jpa", "Java");
+        assertThat(javaSuggestions).extracting(TagSuggestion::getUsageCount).containsExactly(30L, 10L);
+        assertThat(limited).extracting(TagSuggestion::getName).containsExactly("JavaScript");
+        assertThat(tagSuggester.suggest("kotlin", 10)).isEmpty();
+        assertThat(tagSuggester.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void suggestByHangulJamo() {
+        // when
+        List<TagSuggestion> syllable = tagSuggester.suggest("자바", 10);
+        List<TagSuggestion> composing = tagSuggester.suggest("잡", 10);
+        List<TagSuggestion> consonant = tagSuggester.suggest("ㅈ", 10);
+
+        // then
+        assertThat(syllable).extracting(TagSuggestion::getName).containsExactly("자바스크립트", "자바");
+        assertThat(composing).extracting(TagSuggestion::getName).containsExactly("자바스크립트", "자바");
+        assertThat(consonant).extracting(TagSuggestion::getName).containsExactly("자바스크립트", "자바", "장고");
+    }
+
+    @Test
+    void addCreatedTagsWithoutRebuild() {
+        // given
+        Tag kotlin = new Tag("kotlin");
+        Tag java = new Tag("Java");
+
+        // when
+        tagSuggester.addAfterCommit(List.of(kotlin, java));
+
+        // then
+        assertThat(tagSuggester.suggest("ko", 10)).extracting(TagSuggestion::getName).containsExactly("kotlin");
+        // 이미 있는 태그의 사용 횟수는 재구성 값을 유지한다.
+        assertThat(tagSuggester.suggest("java", 10)).extracting(TagSuggestion::getUsageCount)
+                .containsExactly(30L, 10L);
+    }
+
+    private static TagUsage usage(String name, long usageCount) {
+        return new TagUsage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}
@@ -4,9 +4,11 @@ import com.devillage.teamproject.entity.Block;
 import com.devillage.teamproject.entity.User;
 import com.devillage.teamproject.entity.enums.UserStatus;
 import com.devillage.teamproject.exception.BusinessLogicException;
+import com.devillage.teamproject.exception.ExceptionCode;
 import com.devillage.teamproject.repository.user.BlockRepository;
 import com.devillage.teamproject.repository.user.UserRepository;
 import com.devillage.teamproject.security.util.JwtTokenUtil;
+import com.devillage.teamproject.service.summary.PostSummaryService;
 import com.devillage.teamproject.util.Reflection;
 import com.devillage.teamproject.util.TestConstants;
 import com.devillage.teamproject.util.auth.AuthTestUtils;
@@ -51,6 +53,9 @@ public class UserServiceTest implements Reflection {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PostSummaryService postSummaryService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -206,7 +211,24 @@ public class UserServiceTest implements Reflection {
                 () -> userService.editUser(user1.getId(), alreadyExistNickName, null));
     }
 
-}
-
+    @Test
+    public void earnCommentPoint() throws Exception {
+        // given
+        given(userRepository.earnCommentPoint(ID1, UserStatus.RESIGNED)).willReturn(1);
+        given(userRepository.earnCommentPoint(ID2, UserStatus.RESIGNED)).willReturn(0);
+        given(userRepository.existsById(ID2)).willReturn(true);
+        given(userRepository.earnCommentPoint(3L, UserStatus.RESIGNED)).willReturn(0);
+        given(userRepository.existsById(3L)).willReturn(false);
 
+        // when
+        userService.earnCommentPoint(ID1);
+        BusinessLogicException resigned = assertThrows(BusinessLogicException.class,
+                () -> userService.earnCommentPoint(ID2));
+        BusinessLogicException notFound = assertThrows(BusinessLogicException.class,
+                () -> userService.earnCommentPoint(3L));
 
+        // then
+        assertThat(resigned.getExceptionCode()).isEqualTo(ExceptionCode.USER_RESIGNED);
+        assertThat(notFound.getExceptionCode()).isEqualTo(ExceptionCode.USER_NOT_FOUND);
+    }
+}